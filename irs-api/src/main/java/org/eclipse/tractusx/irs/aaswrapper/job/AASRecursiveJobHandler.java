@@ -38,9 +38,20 @@ import org.eclipse.tractusx.irs.connector.job.RecursiveJobHandler;
 public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataRequest, AASTransferProcess> {
 
     private final TreeRecursiveLogic logic;
+    private final SiblingShellLoader siblingShellLoader;
 
     public AASRecursiveJobHandler(final TreeRecursiveLogic logic) {
+        this(logic, null);
+    }
+
+    /**
+     * @param logic              the logic to assemble the item graph
+     * @param siblingShellLoader the loader the children of each node are registered at, or null to fetch the shells
+     *                           of the children one by one
+     */
+    public AASRecursiveJobHandler(final TreeRecursiveLogic logic, final SiblingShellLoader siblingShellLoader) {
         this.logic = logic;
+        this.siblingShellLoader = siblingShellLoader;
     }
 
     @Override
@@ -64,6 +75,9 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
     public Stream<ItemDataRequest> recurse(final MultiTransferJob job, final AASTransferProcess transferProcess) {
         log.info("Starting recursive request for job {}", job.getJobIdString());
 
+        if (siblingShellLoader != null) {
+            siblingShellLoader.register(job.getJobIdString(), transferProcess.getIdsToProcess());
+        }
         return transferProcess.getIdsToProcess()
                               .stream()
                               .map(itemId -> ItemDataRequest.nextDepthNode(itemId, transferProcess.getDepth()));
@@ -72,9 +86,8 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
     @Override
     public void complete(final MultiTransferJob job) {
         log.info("Completed retrieval for Job {}", job.getJobIdString());
-        final var completedTransfers = job.getCompletedTransfers();
         final var targetBlobName = job.getJob().getId();
-        logic.assemblePartialItemGraphBlobs(completedTransfers, targetBlobName.toString());
+        logic.assemblePartialItemGraphBlobs(job.getCompletedTransferIds(), targetBlobName.toString());
     }
 
 }
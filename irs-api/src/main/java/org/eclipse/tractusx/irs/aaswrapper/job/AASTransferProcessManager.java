@@ -25,8 +25,9 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -34,8 +35,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.AbstractDelegate;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.common.util.concurrent.KeyedPermits;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.ProcessingError;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferInitiateResponse;
 import org.eclipse.tractusx.irs.connector.job.TransferProcessManager;
@@ -57,12 +62,21 @@ public class AASTransferProcessManager implements TransferProcessManager<ItemDat
 
     private final JsonUtil jsonUtil;
 
+    private final KeyedPermits providerPermits;
+
     public AASTransferProcessManager(final AbstractDelegate abstractDelegate, final ExecutorService executor,
             @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore, final JsonUtil jsonUtil) {
+        this(abstractDelegate, executor, blobStore, jsonUtil, new KeyedPermits(0));
+    }
+
+    public AASTransferProcessManager(final AbstractDelegate abstractDelegate, final ExecutorService executor,
+            @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore, final JsonUtil jsonUtil,
+            final KeyedPermits providerPermits) {
         this.abstractDelegate = abstractDelegate;
         this.executor = executor;
         this.blobStore = blobStore;
         this.jsonUtil = jsonUtil;
+        this.providerPermits = providerPermits;
     }
 
     @Override
@@ -73,34 +87,79 @@ public class AASTransferProcessManager implements TransferProcessManager<ItemDat
         final String processId = UUID.randomUUID().toString();
         preExecutionHandler.accept(processId);
 
-        executor.execute(getRunnable(dataRequest, completionCallback, processId, jobData, jobId));
+        final String provider = dataRequest.getItemId().getBpn();
+        providerPermits.acquire(provider)
+                       .thenComposeAsync(
+                               permit -> processItem(dataRequest, completionCallback, processId, jobData, jobId),
+                               executor)
+                       .whenComplete((result, throwable) -> {
+                           providerPermits.release(provider);
+                           if (throwable != null) {
+                               log.error("Completing transfer {} of item {} failed", processId,
+                                       dataRequest.getItemId(), throwable);
+                           }
+                       });
 
         return new TransferInitiateResponse(processId, ResponseStatus.OK);
     }
 
-    private Runnable getRunnable(final ItemDataRequest dataRequest,
+    private CompletableFuture<Void> processItem(final ItemDataRequest dataRequest,
             final Consumer<AASTransferProcess> transferProcessCompleted, final String processId,
             final JobParameter jobData, final String jobId) {
 
-        return () -> {
-            final AASTransferProcess aasTransferProcess = new AASTransferProcess(processId, dataRequest.getDepth());
-
-            final PartChainIdentificationKey itemId = dataRequest.getItemId();
-
-            log.info("Starting processing Digital Twin Registry with itemId {}", itemId);
-            final ItemContainer itemContainer = abstractDelegate.process(ItemContainer.builder(), jobData,
-                    aasTransferProcess, itemId);
-            itemContainer.addJobId(jobId);
-            storeItemContainer(processId, itemContainer);
+        final AASTransferProcess aasTransferProcess = new AASTransferProcess(processId, dataRequest.getDepth());
+
+        final PartChainIdentificationKey itemId = dataRequest.getItemId();
+        final ItemContainer.ItemContainerBuilder itemContainerBuilder = ItemContainer.builder();
+
+        log.info("Starting processing Digital Twin Registry with itemId {}", itemId);
+        // synchronous failures of the delegates are turned into a tombstone like asynchronous ones
+        return CompletableFuture.completedFuture(itemId)
+                                .thenCompose(id -> abstractDelegate.processAsync(itemContainerBuilder, jobData,
+                                        aasTransferProcess, id, executor))
+                                .exceptionally(throwable -> {
+                                    // complete the transfer anyway, otherwise the job stays in state RUNNING forever
+                                    log.error("Processing of item {} failed. Creating Tombstone.", itemId,
+                                            throwable);
+                                    return itemContainerBuilder.tombstone(
+                                            createTombstone(itemContainerBuilder, itemId, throwable)).build();
+                                })
+                                .thenAccept(itemContainer -> {
+                                    itemContainer.addJobId(jobId);
+                                    storeItemContainer(processId, itemContainer);
+
+                                    transferProcessCompleted.accept(aasTransferProcess);
+                                });
+    }
 
-            transferProcessCompleted.accept(aasTransferProcess);
-        };
+    private Tombstone createTombstone(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+            final PartChainIdentificationKey itemId, final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        // the shell is requested first, so the failure happened while requesting the submodels if it is present
+        final ProcessStep processStep = itemContainerBuilder.build().getShells().isEmpty()
+                ? ProcessStep.DIGITAL_TWIN_REQUEST
+                : ProcessStep.SUBMODEL_REQUEST;
+        final ProcessingError error = ProcessingError.builder()
+                                                     .withProcessStep(processStep)
+                                                     .withRetryCounterAndLastAttemptNow(0)
+                                                     .withErrorDetail(cause.getMessage())
+                                                     .withRootCauses(Tombstone.getRootErrorMessages(cause))
+                                                     .build();
+        return Tombstone.builder()
+                        .catenaXId(itemId.getGlobalAssetId())
+                        .businessPartnerNumber(itemId.getBpn())
+                        .processingError(error)
+                        .build();
     }
 
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private void storeItemContainer(final String processId, final ItemContainer itemContainer) {
         try {
-            blobStore.putBlob(processId, jsonUtil.asString(itemContainer).getBytes(StandardCharsets.UTF_8));
-        } catch (BlobPersistenceException e) {
+            blobStore.putBlob(processId, jsonUtil.asBytes(itemContainer));
+        } catch (BlobPersistenceException | RuntimeException e) {
+            // complete the transfer anyway, otherwise the job stays in state RUNNING forever
             log.error("Unable to store AAS result", e);
         }
     }
@@ -0,0 +1,115 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item graph assembled by {@link ItemTreesAssembler}, serialized as {@link ItemContainer} JSON.
+ * The large sections are kept in temporary files and only concatenated when the graph is streamed,
+ * so the graph never has to be held in memory as a whole. Closing deletes the temporary files.
+ */
+@Slf4j
+/* package */ final class AssembledItemGraph implements Closeable {
+
+    private final List<Part> parts = new ArrayList<>();
+
+    /**
+     * @param sections JSON array files by field name, in the order they are written
+     * @param bpns     the serialized bpns array
+     */
+    /* package */ AssembledItemGraph(final Map<String, Path> sections, final String bpns) {
+        char separator = '{';
+        for (final Map.Entry<String, Path> section : sections.entrySet()) {
+            parts.add(Part.of(separator + "\"" + section.getKey() + "\":"));
+            parts.add(new Part(null, section.getValue()));
+            separator = ',';
+        }
+        parts.add(Part.of(separator + "\"bpns\":" + bpns + ",\"metrics\":[]}"));
+    }
+
+    /**
+     * @return the number of bytes of the serialized graph
+     * @throws IOException if the size of a section cannot be determined
+     */
+    /* package */ long getLength() throws IOException {
+        long length = 0;
+        for (final Part part : parts) {
+            length += part.file() == null ? part.bytes().length : Files.size(part.file());
+        }
+        return length;
+    }
+
+    /**
+     * @return a stream of the serialized graph, which must be closed by the caller
+     * @throws IOException if a section cannot be opened
+     */
+    /* package */ InputStream openStream() throws IOException {
+        final List<InputStream> streams = new ArrayList<>();
+        try {
+            for (final Part part : parts) {
+                streams.add(part.file() == null
+                        ? new ByteArrayInputStream(part.bytes())
+                        : Files.newInputStream(part.file()));
+            }
+        } catch (IOException e) {
+            for (final InputStream stream : streams) {
+                stream.close();
+            }
+            throw e;
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    @Override
+    public void close() {
+        parts.stream().map(Part::file).filter(Objects::nonNull).forEach(AssembledItemGraph::delete);
+    }
+
+    /* package */ static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary item graph file {}", file, e);
+        }
+    }
+
+    /**
+     * Either a fixed JSON fragment or a section file.
+     */
+    private record Part(byte[] bytes, Path file) {
+        private static Part of(final String fragment) {
+            return new Part(fragment.getBytes(StandardCharsets.UTF_8), null);
+        }
+    }
+}
@@ -23,7 +23,11 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job;
 
+import java.util.Objects;
+import java.util.Optional;
+
 import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.connector.job.DataRequest;
 
@@ -43,4 +47,25 @@ public class ItemDataRequest implements DataRequest {
     public static ItemDataRequest nextDepthNode(final PartChainIdentificationKey itemId, final Integer currentDepth) {
         return new ItemDataRequest(itemId, currentDepth + 1);
     }
+
+    /**
+     * Nodes are identified by globalAssetId (or AAS identifier for root nodes) and BPN.
+     *
+     * @return the node key, or empty if the item carries no identifier
+     */
+    @Override
+    public Optional<String> getNodeKey() {
+        final String id = StringUtils.isNotBlank(itemId.getGlobalAssetId())
+                ? itemId.getGlobalAssetId()
+                : itemId.getIdentifier();
+        if (StringUtils.isBlank(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(id + "|" + Objects.toString(itemId.getBpn(), ""));
+    }
+
+    @Override
+    public int getNodeDepth() {
+        return depth;
+    }
 }
@@ -23,59 +23,115 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job;
 
-import java.util.ArrayList;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Bpn;
 import org.eclipse.tractusx.irs.component.Relationship;
-import org.eclipse.tractusx.irs.component.Shell;
-import org.eclipse.tractusx.irs.component.Submodel;
-import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.util.HashUtils;
+import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.LongHashSet;
 
 /**
  * Assembles multiple partial item graphs into one overall item graph.
+ * The partial graphs are consumed one by one and their items are written to temporary files right away,
+ * so memory usage does not grow with the size of the job.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ItemTreesAssembler {
 
+    private static final String TEMP_FILE_PREFIX = "irs-item-graph-";
+    private static final String TEMP_FILE_SUFFIX = ".json";
+
+    private final JsonUtil jsonUtil;
+
     /**
      * Assembles multiple partial item graphs into one overall item graph.
+     * Relationships are deduplicated by a 64-bit hash of their JSON representation instead of the objects themselves.
      *
      * @param partialGraph partial item graph.
      * @return An item graph containing all the items from {@code partialGraph}, with deduplication.
+     * Must be closed to release its temporary files.
+     * @throws IOException if the temporary files cannot be written
      */
-    /* package */ ItemContainer retrieveItemGraph(final Stream<ItemContainer> partialGraph) {
-        final var relationships = new LinkedHashSet<Relationship>();
-        final var numberOfPartialTrees = new AtomicInteger();
-        final ArrayList<Tombstone> tombstones = new ArrayList<>();
-        final ArrayList<Shell> shells = new ArrayList<>();
-        final ArrayList<Submodel> submodels = new ArrayList<>();
-        final Set<Bpn> bpns = new HashSet<>();
+    /* package */ AssembledItemGraph retrieveItemGraph(final Stream<ItemContainer> partialGraph) throws IOException {
+        final Map<String, Path> sectionFiles = new LinkedHashMap<>();
+        try {
+            final var relationshipHashes = new LongHashSet();
+            final Set<Bpn> bpns = new HashSet<>();
+            int numberOfPartialTrees = 0;
+
+            try (Section relationships = openSection("relationships", sectionFiles);
+                 Section tombstones = openSection("tombstones", sectionFiles);
+                 Section shells = openSection("shells", sectionFiles);
+                 Section submodels = openSection("submodels", sectionFiles)) {
 
-        partialGraph.forEachOrdered(itemGraph -> {
-            relationships.addAll(itemGraph.getRelationships());
-            numberOfPartialTrees.incrementAndGet();
-            tombstones.addAll(itemGraph.getTombstones());
-            shells.addAll(itemGraph.getShells());
-            submodels.addAll(itemGraph.getSubmodels());
-            bpns.addAll(itemGraph.getBpnsWithManufacturerName());
-        });
+                final Iterator<ItemContainer> iterator = partialGraph.iterator();
+                while (iterator.hasNext()) {
+                    final ItemContainer itemGraph = iterator.next();
+                    numberOfPartialTrees++;
+                    for (final Relationship relationship : itemGraph.getRelationships()) {
+                        final String json = jsonUtil.asString(relationship);
+                        if (relationshipHashes.add(HashUtils.fnv1a64(json))) {
+                            relationships.generator.writeRawValue(json);
+                        }
+                    }
+                    tombstones.writeAll(itemGraph.getTombstones());
+                    shells.writeAll(itemGraph.getShells());
+                    submodels.writeAll(itemGraph.getSubmodels());
+                    bpns.addAll(itemGraph.getBpnsWithManufacturerName());
+                }
+            }
+
+            log.info("Assembled item graph from {} partial graphs with {} relationships", numberOfPartialTrees,
+                    relationshipHashes.size());
+
+            return new AssembledItemGraph(sectionFiles, jsonUtil.asString(bpns));
+        } catch (IOException | RuntimeException e) {
+            sectionFiles.values().forEach(AssembledItemGraph::delete);
+            throw e;
+        }
+    }
+
+    private Section openSection(final String name, final Map<String, Path> sectionFiles) throws IOException {
+        final Path file = Files.createTempFile(TEMP_FILE_PREFIX + name + "-", TEMP_FILE_SUFFIX);
+        sectionFiles.put(name, file);
+        final JsonGenerator generator = jsonUtil.createGenerator(new BufferedOutputStream(Files.newOutputStream(file)));
+        generator.writeStartArray();
+        return new Section(generator);
+    }
+
+    /**
+     * JSON array written to a temporary file.
+     */
+    @RequiredArgsConstructor
+    private static final class Section implements Closeable {
+        private final JsonGenerator generator;
 
-        log.info("Assembled item graph from {} partial graphs", numberOfPartialTrees);
+        private void writeAll(final Collection<?> items) throws IOException {
+            for (final Object item : items) {
+                generator.writeObject(item);
+            }
+        }
 
-        return ItemContainer.builder()
-                            .relationships(relationships)
-                            .tombstones(tombstones)
-                            .shells(shells)
-                            .submodels(submodels)
-                            .bpns(bpns)
-                            .build();
+        @Override
+        public void close() throws IOException {
+            generator.writeEndArray();
+            generator.close();
+        }
     }
 }
@@ -0,0 +1,251 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import io.github.resilience4j.core.functions.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.edc.client.storage.ExpiringStorage;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryKey;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
+import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
+import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Fetches the shells of the children of one node together. The children are registered per data provider when the
+ * node is recursed; the first child which is processed fetches the shells of all its siblings at once, the others
+ * take their shell from that result. A child which is not part of the result fails with the errors the registry
+ * returned for it instead of being fetched again. A child which waits longer than the fetch timeout for its siblings
+ * fetches its shell on its own. Registrations and fetched shells are released once the child took its shell, the
+ * ones no child took are released when the job finished.
+ */
+@Slf4j
+public class SiblingShellLoader {
+
+    private static final int MIN_BATCH_SIZE = 2;
+
+    private final DigitalTwinRegistryService digitalTwinRegistryService;
+    private final ExpiringStorage<SiblingShells> batches;
+    private final Map<String, Queue<SiblingShells>> batchesPerJob = new ConcurrentHashMap<>();
+    private final Duration fetchTimeout;
+    private final boolean enabled;
+
+    /**
+     * @param digitalTwinRegistryService the registry to fetch the shells from
+     * @param ttl                        how long the registered siblings wait for being processed, siblings are
+     *                                   not fetched together if zero or negative
+     * @param maximumSize                the maximum number of registered siblings
+     * @param fetchTimeout               how long a sibling waits for the shells fetched together
+     */
+    public SiblingShellLoader(final DigitalTwinRegistryService digitalTwinRegistryService, final Duration ttl,
+            final int maximumSize, final Duration fetchTimeout) {
+        this.digitalTwinRegistryService = digitalTwinRegistryService;
+        this.batches = new ExpiringStorage<>(ttl, maximumSize, null, null);
+        this.fetchTimeout = fetchTimeout;
+        this.enabled = !ttl.isNegative() && !ttl.isZero();
+    }
+
+    /**
+     * Registers the children of one node. Only children with a globalAssetId can be fetched together.
+     *
+     * @param jobId    the job the node belongs to
+     * @param children the children of the node
+     */
+    public void register(final String jobId, final Collection<PartChainIdentificationKey> children) {
+        if (!enabled) {
+            return;
+        }
+        children.stream()
+                .filter(child -> StringUtils.isNotBlank(child.getBpn()))
+                .filter(child -> StringUtils.isNotBlank(child.getGlobalAssetId()))
+                .collect(Collectors.groupingBy(PartChainIdentificationKey::getBpn))
+                .values()
+                .stream()
+                .filter(siblings -> siblings.size() >= MIN_BATCH_SIZE)
+                .forEach(siblings -> {
+                    final SiblingShells batch = new SiblingShells(siblings);
+                    batchesPerJob.computeIfAbsent(jobId, id -> new ConcurrentLinkedQueue<>()).add(batch);
+                    batch.storageIds.forEach(storageId -> batches.put(storageId, batch));
+                });
+    }
+
+    /**
+     * Releases the registrations of the job which no child took, e.g. because its shell was cached.
+     *
+     * @param jobId the job
+     */
+    public void release(final String jobId) {
+        final Queue<SiblingShells> jobBatches = batchesPerJob.remove(jobId);
+        if (jobBatches == null) {
+            return;
+        }
+        jobBatches.forEach(batch -> batch.storageIds.forEach(storageId -> {
+            // the child may have been registered again by another job in the meantime
+            if (batches.get(storageId).filter(registered -> registered == batch).isPresent()) {
+                batches.remove(storageId);
+            }
+        }));
+    }
+
+    @EventListener
+    public void handleJobProcessingFinishedEvent(final JobProcessingFinishedEvent jobProcessingFinishedEvent) {
+        release(jobProcessingFinishedEvent.jobId());
+    }
+
+    /**
+     * Fetches the shell of the item, together with its siblings if they were registered.
+     *
+     * @param itemId the item
+     * @return the shell of the item
+     * @throws RegistryServiceException if the shell could not be fetched
+     */
+    public Optional<Shell> fetchShell(final PartChainIdentificationKey itemId) throws RegistryServiceException {
+        final String storageId = storageId(itemId);
+        final Optional<SiblingShells> batch = batches.get(storageId);
+        if (batch.isPresent() && batches.remove(storageId)) {
+            return batch.get().take(itemId);
+        }
+        return digitalTwinRegistryService.fetchShell(itemId);
+    }
+
+    private static String storageId(final PartChainIdentificationKey itemId) {
+        return itemId.getBpn() + "/" + itemId.getGlobalAssetId();
+    }
+
+    /**
+     * The shells of the children of one node of one data provider, fetched once by the first child which takes its
+     * shell. The other children wait for the result without holding a lock.
+     */
+    private final class SiblingShells {
+
+        private final AtomicBoolean fetching = new AtomicBoolean();
+        private final CompletableFuture<FetchedShells> result = new CompletableFuture<>();
+        private final List<String> storageIds;
+        private List<PartChainIdentificationKey> siblings;
+
+        private SiblingShells(final List<PartChainIdentificationKey> siblings) {
+            this.siblings = siblings;
+            this.storageIds = siblings.stream().map(SiblingShellLoader::storageId).toList();
+        }
+
+        /**
+         * Takes the shell of the item out of the result, so that each shell is only kept until its child took it.
+         * If the result is not available within the fetch timeout, the shell is fetched on its own.
+         */
+        private Optional<Shell> take(final PartChainIdentificationKey itemId) throws RegistryServiceException {
+            if (fetching.compareAndSet(false, true)) {
+                fetch();
+            }
+            final Optional<FetchedShells> fetchedShells = await();
+            if (fetchedShells.isEmpty()) {
+                log.info("Shells of the siblings of '{}' not fetched within {}, fetching its shell on its own",
+                        itemId.getGlobalAssetId(), fetchTimeout);
+                return digitalTwinRegistryService.fetchShell(itemId);
+            }
+            final Shell shell = fetchedShells.get().shells().remove(itemId.getGlobalAssetId());
+            if (shell == null) {
+                throw fetchedShells.get().notFound(itemId.getGlobalAssetId());
+            }
+            return Optional.of(shell);
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void fetch() {
+            final List<DigitalTwinRegistryKey> keys = siblings.stream()
+                                                              .map(sibling -> new DigitalTwinRegistryKey(
+                                                                      sibling.getGlobalAssetId(), sibling.getBpn()))
+                                                              .toList();
+            siblings = null;
+            log.info("Fetching the shells of {} siblings of bpn '{}' together", keys.size(), keys.get(0).bpn());
+            try {
+                result.complete(FetchedShells.of(digitalTwinRegistryService.fetchShells(keys)));
+            } catch (RegistryServiceException | RuntimeException e) {
+                // catching generic exception is intended here, otherwise the siblings would wait forever
+                result.completeExceptionally(e);
+            }
+        }
+
+        private Optional<FetchedShells> await() throws RegistryServiceException {
+            try {
+                return Optional.of(result.get(fetchTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                return Optional.empty();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RegistryServiceException("Interrupted while fetching the shells of the siblings", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RegistryServiceException registryServiceException) {
+                    throw registryServiceException;
+                }
+                throw new RegistryServiceException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * The shells fetched together per globalAssetId and the errors the registry returned instead of a shell.
+     */
+    private record FetchedShells(Map<String, Shell> shells, List<Exception> failures) {
+
+        private static FetchedShells of(final Collection<Either<Exception, Shell>> results) {
+            final Map<String, Shell> shells = new ConcurrentHashMap<>();
+            results.stream()
+                   .filter(Either::isRight)
+                   .map(Either::get)
+                   .filter(shell -> shell.payload() != null && shell.payload().getGlobalAssetId() != null)
+                   .forEach(shell -> shells.putIfAbsent(shell.payload().getGlobalAssetId(), shell));
+            final List<Exception> failures = results.stream().filter(Either::isLeft).map(Either::getLeft).toList();
+            return new FetchedShells(shells, failures);
+        }
+
+        /**
+         * @return the error for a sibling without shell, with the errors mentioning its globalAssetId attached, or
+         *         all errors if none of them does
+         */
+        private ShellNotFoundException notFound(final String globalAssetId) {
+            final ShellNotFoundException exception = new ShellNotFoundException(
+                    "Unable to find the shell for globalAssetId '%s'".formatted(globalAssetId), List.of());
+            final List<Exception> ownFailures = failures.stream()
+                                                        .filter(failure -> StringUtils.contains(failure.getMessage(),
+                                                                globalAssetId))
+                                                        .toList();
+            (ownFailures.isEmpty() ? failures : ownFailures).forEach(exception::addSuppressed);
+            return exception;
+        }
+    }
+}
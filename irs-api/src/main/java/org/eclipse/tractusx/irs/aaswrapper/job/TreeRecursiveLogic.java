@@ -25,13 +25,14 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
-import org.eclipse.tractusx.irs.connector.job.TransferProcess;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.springframework.beans.factory.annotation.Qualifier;
 
@@ -73,33 +74,33 @@ public class TreeRecursiveLogic {
     /**
      * Assembles multiple partial item graph into one overall item graph.
      *
-     * @param completedTransfers the completed transfer processes, containing the location of the
-     *                           blobs with partial item graph.
+     * @param completedTransferIds the IDs of the completed transfer processes, which are the locations of the
+     *                             blobs with partial item graph.
      * @param targetBlobName     Storage blob name to store overall item graph.
+     * @throws UncheckedIOException if the item graph could not be assembled
      */
-    /* package */ void assemblePartialItemGraphBlobs(final List<TransferProcess> completedTransfers,
+    /* package */ void assemblePartialItemGraphBlobs(final Collection<String> completedTransferIds,
             final String targetBlobName) {
-        final var partialTrees = completedTransfers.stream()
+        final var partialTrees = completedTransferIds.stream()
                                                    .map(this::downloadPartialItemGraphBlobs)
-                                                   .map(payload -> jsonUtil.fromString(
-                                                           new String(payload, StandardCharsets.UTF_8),
-                                                           ItemContainer.class));
-        final var assembledTree = assembler.retrieveItemGraph(partialTrees);
-        final String json = jsonUtil.asString(assembledTree);
-        final var blob = json.getBytes(StandardCharsets.UTF_8);
+                                                   .map(payload -> jsonUtil.fromBytes(payload, ItemContainer.class));
 
-        log.info("Uploading assembled item graph to {}", targetBlobName);
-        try {
-            blobStoreApi.putBlob(targetBlobName, blob);
+        try (AssembledItemGraph assembledTree = assembler.retrieveItemGraph(partialTrees);
+             InputStream blob = assembledTree.openStream()) {
+            log.info("Uploading assembled item graph to {}", targetBlobName);
+            blobStoreApi.putBlob(targetBlobName, blob, assembledTree.getLength());
+        } catch (IOException e) {
+            // an incomplete item graph must not be reported as the result of a completed job
+            throw new UncheckedIOException("Could not assemble item graph", e);
         } catch (BlobPersistenceException e) {
             log.error("Could not store blob", e);
         }
     }
 
-    private byte[] downloadPartialItemGraphBlobs(final TransferProcess transfer) {
-        log.info("Downloading partial item graph from blob at {}", transfer.getId());
+    private byte[] downloadPartialItemGraphBlobs(final String transferId) {
+        log.info("Downloading partial item graph from blob at {}", transferId);
         try {
-            return blobStoreApi.getBlob(transfer.getId()).orElse(new byte[0]);
+            return blobStoreApi.getBlob(transferId).orElse(new byte[0]);
         } catch (BlobPersistenceException e) {
             log.error("Could not load blob", e);
             return new byte[0];
@@ -0,0 +1,201 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
+
+/**
+ * Cross-job cache for shell descriptors and submodel payloads retrieved by the job delegates.
+ * Jobs with overlapping part trees (e.g. from the same batch order) are answered from this cache
+ * instead of requesting the same data from the Digital Twin Registry and EDC again.
+ * <p>
+ * Entries expire after the configured time to live. The total size of all entries is limited
+ * by an estimate of their size in bytes, evicting the least recently used entries first.
+ * The contract agreement ID is cached together with the data, so jobs with
+ * {@code auditContractNegotiation} enabled still receive the agreement the data was retrieved under.
+ */
+@Slf4j
+public class ItemResultCache {
+
+    /* package */ static final String SHELL_CACHE = "shell";
+    /* package */ static final String SUBMODEL_CACHE = "submodel";
+
+    private static final int BYTES_PER_CHAR = 2;
+    private static final long SHELL_BASE_SIZE = 512;
+    private static final long SPECIFIC_ASSET_ID_SIZE = 128;
+    private static final long SUBMODEL_DESCRIPTOR_SIZE = 512;
+    private static final long ENDPOINT_SIZE = 512;
+
+    private final Duration timeToLive;
+    private final long maximumSizeInBytes;
+    private final MeterRegistryService meterService;
+    private final Clock clock;
+
+    private final LinkedHashMap<ItemResultCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentSizeInBytes;
+
+    public ItemResultCache(final Duration timeToLive, final long maximumSizeInBytes,
+            final MeterRegistryService meterService, final Clock clock) {
+        this.timeToLive = timeToLive;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        this.meterService = meterService;
+        this.clock = clock;
+    }
+
+    /**
+     * @return a cache which does not store anything
+     */
+    public static ItemResultCache disabled() {
+        return new ItemResultCache(Duration.ZERO, 0, null, Clock.systemUTC());
+    }
+
+    public boolean isEnabled() {
+        return maximumSizeInBytes > 0 && !timeToLive.isNegative() && !timeToLive.isZero();
+    }
+
+    public Optional<Shell> getShell(final ItemResultCacheKey key) {
+        return get(key, SHELL_CACHE).map(Shell.class::cast);
+    }
+
+    public void putShell(final ItemResultCacheKey key, final Shell shell) {
+        if (isEnabled()) {
+            put(key, shell, estimateSize(shell), SHELL_CACHE);
+        }
+    }
+
+    public Optional<SubmodelDescriptor> getSubmodel(final ItemResultCacheKey key) {
+        return get(key, SUBMODEL_CACHE).map(SubmodelDescriptor.class::cast);
+    }
+
+    public void putSubmodel(final ItemResultCacheKey key, final SubmodelDescriptor submodel) {
+        if (isEnabled() && submodel.getPayload() != null) {
+            final long size = (long) submodel.getPayload().length() + (submodel.getCid() == null
+                    ? 0
+                    : submodel.getCid().length());
+            put(key, submodel, size * BYTES_PER_CHAR, SUBMODEL_CACHE);
+        }
+    }
+
+    /**
+     * @return the estimated size of all cached entries in bytes
+     */
+    public synchronized long getCurrentSizeInBytes() {
+        return currentSizeInBytes;
+    }
+
+    private Optional<Object> get(final ItemResultCacheKey key, final String cacheName) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        final Entry entry;
+        synchronized (this) {
+            final Entry cached = entries.get(key);
+            if (cached != null && cached.isExpired(clock.instant())) {
+                removeEntry(key, cached);
+                meterService.incrementResultCacheEviction(cacheName);
+                entry = null;
+            } else {
+                entry = cached;
+            }
+        }
+        if (entry == null) {
+            meterService.incrementResultCacheMiss(cacheName);
+            return Optional.empty();
+        }
+        log.debug("Found {} for {} in item result cache", cacheName, key);
+        meterService.incrementResultCacheHit(cacheName);
+        return Optional.of(entry.value());
+    }
+
+    private void put(final ItemResultCacheKey key, final Object value, final long sizeInBytes,
+            final String cacheName) {
+        if (sizeInBytes > maximumSizeInBytes) {
+            log.debug("Not caching {} for {}, size {} exceeds the cache size", cacheName, key, sizeInBytes);
+            return;
+        }
+        int evicted = 0;
+        synchronized (this) {
+            final Entry previous = entries.put(key,
+                    new Entry(value, sizeInBytes, clock.instant().plus(timeToLive), cacheName));
+            if (previous != null) {
+                currentSizeInBytes -= previous.sizeInBytes();
+            }
+            currentSizeInBytes += sizeInBytes;
+
+            final Iterator<Map.Entry<ItemResultCacheKey, Entry>> eldest = entries.entrySet().iterator();
+            while (currentSizeInBytes > maximumSizeInBytes && eldest.hasNext()) {
+                final Entry removed = eldest.next().getValue();
+                eldest.remove();
+                currentSizeInBytes -= removed.sizeInBytes();
+                meterService.incrementResultCacheEviction(removed.cacheName());
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} entries from item result cache", evicted);
+        }
+    }
+
+    /**
+     * Estimates the size of a shell from the number of its specific asset IDs, submodel descriptors and endpoints,
+     * which are the parts a shell grows with.
+     */
+    private static long estimateSize(final Shell shell) {
+        final AssetAdministrationShellDescriptor descriptor = shell.payload();
+        long size = SHELL_BASE_SIZE;
+        if (descriptor == null) {
+            return size;
+        }
+        if (descriptor.getSpecificAssetIds() != null) {
+            size += descriptor.getSpecificAssetIds().size() * SPECIFIC_ASSET_ID_SIZE;
+        }
+        if (descriptor.getSubmodelDescriptors() != null) {
+            for (final var submodelDescriptor : descriptor.getSubmodelDescriptors()) {
+                size += SUBMODEL_DESCRIPTOR_SIZE;
+                if (submodelDescriptor.getEndpoints() != null) {
+                    size += submodelDescriptor.getEndpoints().size() * ENDPOINT_SIZE;
+                }
+            }
+        }
+        return size;
+    }
+
+    private void removeEntry(final ItemResultCacheKey key, final Entry entry) {
+        entries.remove(key);
+        currentSizeInBytes -= entry.sizeInBytes();
+    }
+
+    private record Entry(Object value, long sizeInBytes, Instant expiresAt, String cacheName) {
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.cache;
+
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+
+/**
+ * Key of an {@link ItemResultCache} entry.
+ *
+ * @param globalAssetId the globalAssetId (or AAS identifier) of the item
+ * @param bpn           the BPN of the data provider
+ * @param aspect        the aspect URN of the requested submodel, or {@link #SHELL} for shell descriptors
+ * @param lifecycle     the BOM lifecycle of the job which requested the item
+ * @param endpoint      the submodel endpoint, distinguishes shells providing the same aspect more than once
+ */
+public record ItemResultCacheKey(String globalAssetId, String bpn, String aspect, String lifecycle, String endpoint) {
+
+    /**
+     * Aspect name used for shell descriptor entries.
+     */
+    public static final String SHELL = "shell";
+
+    public static ItemResultCacheKey shell(final PartChainIdentificationKey itemId) {
+        return new ItemResultCacheKey(idOf(itemId), itemId.getBpn(), SHELL, null, null);
+    }
+
+    public static ItemResultCacheKey submodel(final PartChainIdentificationKey itemId, final String aspect,
+            final String lifecycle, final String endpoint) {
+        return new ItemResultCacheKey(idOf(itemId), itemId.getBpn(), aspect, lifecycle, endpoint);
+    }
+
+    private static String idOf(final PartChainIdentificationKey itemId) {
+        return itemId.getGlobalAssetId() != null ? itemId.getGlobalAssetId() : itemId.getIdentifier();
+    }
+}
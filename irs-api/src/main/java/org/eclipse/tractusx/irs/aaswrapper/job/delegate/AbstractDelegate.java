@@ -29,12 +29,16 @@ import static org.eclipse.tractusx.irs.aaswrapper.job.ExtractDataFromProtocolInf
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import io.github.resilience4j.retry.RetryRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCacheKey;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.Endpoint;
@@ -55,16 +59,20 @@ public abstract class AbstractDelegate {
     protected final int retryCount = RetryRegistry.ofDefaults().getDefaultConfig().getMaxAttempts();
 
     /**
+     * Processes the item. Delegates do not block the executor thread while waiting for remote calls.
+     *
      * @param itemContainerBuilder Collecting data from delegates
      * @param jobData              The job parameters used for filtering
      * @param aasTransferProcess   The transfer process which will be filled with childIds
      *                             for further processing
      * @param itemId               The id of the current item
-     * @return The ItemContainer filled with Relationships, Shells, Submodels (if requested in jobData)
+     * @param executor             Executor for blocking work
+     * @return future of the ItemContainer filled with Relationships, Shells, Submodels (if requested in jobData)
      * and Tombstones (if requests fail).
      */
-    public abstract ItemContainer process(ItemContainer.ItemContainerBuilder itemContainerBuilder, JobParameter jobData,
-            AASTransferProcess aasTransferProcess, PartChainIdentificationKey itemId);
+    public abstract CompletableFuture<ItemContainer> processAsync(
+            ItemContainer.ItemContainerBuilder itemContainerBuilder, JobParameter jobData,
+            AASTransferProcess aasTransferProcess, PartChainIdentificationKey itemId, Executor executor);
 
     /**
      * Delegates processing to next step if exists or returns filled {@link ItemContainer}
@@ -74,55 +82,90 @@ public abstract class AbstractDelegate {
      * @param aasTransferProcess   The transfer process which will be filled with childIds
      *                             for further processing
      * @param itemId               The id of the current item
-     * @return item container with filled data
+     * @param executor             Executor for blocking work
+     * @return future of the item container with filled data
      */
-    protected ItemContainer next(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+    protected CompletableFuture<ItemContainer> nextAsync(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
             final JobParameter jobData, final AASTransferProcess aasTransferProcess,
-            final PartChainIdentificationKey itemId) {
+            final PartChainIdentificationKey itemId, final Executor executor) {
         if (this.nextStep != null) {
-            return this.nextStep.process(itemContainerBuilder, jobData, aasTransferProcess, itemId);
+            return this.nextStep.processAsync(itemContainerBuilder, jobData, aasTransferProcess, itemId, executor);
         }
 
-        return itemContainerBuilder.build();
+        return CompletableFuture.completedFuture(itemContainerBuilder.build());
+    }
+
+    /**
+     * Requests the submodel from the item result cache, or via EDC if it is not cached yet. Does not block while the
+     * submodel is negotiated and transferred.
+     *
+     * @param resultCache                 cache shared by all jobs
+     * @param cacheKey                    key of the submodel in the cache
+     * @param submodelFacade              facade to request the submodel with
+     * @param connectorEndpointsService   service to discover connectors if the endpoint does not contain one
+     * @param digitalTwinRegistryEndpoint the submodel endpoint
+     * @param bpn                         the BPN of the data provider
+     * @param executor                    executor for the connector discovery
+     * @return future of the submodel, failing with {@link EdcClientException} if it could not be retrieved
+     */
+    protected CompletableFuture<SubmodelDescriptor> requestSubmodelAsync(final ItemResultCache resultCache,
+            final ItemResultCacheKey cacheKey, final EdcSubmodelFacade submodelFacade,
+            final ConnectorEndpointsService connectorEndpointsService, final Endpoint digitalTwinRegistryEndpoint,
+            final String bpn, final Executor executor) {
+        final Optional<SubmodelDescriptor> cachedSubmodel = resultCache.getSubmodel(cacheKey);
+        if (cachedSubmodel.isPresent()) {
+            return CompletableFuture.completedFuture(cachedSubmodel.get());
+        }
+        return requestSubmodelAsync(submodelFacade, connectorEndpointsService, digitalTwinRegistryEndpoint, bpn,
+                executor).thenApply(submodel -> {
+                    if (submodel != null) {
+                        resultCache.putSubmodel(cacheKey, submodel);
+                    }
+                    return submodel;
+                });
     }
 
-    protected SubmodelDescriptor requestSubmodel(final EdcSubmodelFacade submodelFacade,
+    protected CompletableFuture<SubmodelDescriptor> requestSubmodelAsync(final EdcSubmodelFacade submodelFacade,
             final ConnectorEndpointsService connectorEndpointsService, final Endpoint digitalTwinRegistryEndpoint,
-            final String bpn) throws EdcClientException {
+            final String bpn, final Executor executor) {
 
         final String subprotocolBody = digitalTwinRegistryEndpoint.getProtocolInformation().getSubprotocolBody();
         final Optional<String> dspEndpoint = extractDspEndpoint(subprotocolBody);
 
         if (dspEndpoint.isPresent()) {
             log.debug("Using dspEndpoint of subprotocolBody '{}' to get submodel payload", subprotocolBody);
-            return submodelFacade.getSubmodelPayload(dspEndpoint.get(),
+            return submodelFacade.getSubmodelPayloadAsync(dspEndpoint.get(),
                     digitalTwinRegistryEndpoint.getProtocolInformation().getHref(), extractAssetId(subprotocolBody),
                     bpn);
         } else {
             log.info("SubprotocolBody does not contain '{}'. Using Discovery Service as fallback.", DSP_ENDPOINT);
-            final List<String> connectorEndpoints = connectorEndpointsService.fetchConnectorEndpoints(bpn);
-
-            return getSubmodel(submodelFacade, digitalTwinRegistryEndpoint, connectorEndpoints, bpn);
+            return CompletableFuture.supplyAsync(() -> connectorEndpointsService.fetchConnectorEndpoints(bpn), executor)
+                                    .thenCompose(connectorEndpoints -> getSubmodelAsync(submodelFacade,
+                                            digitalTwinRegistryEndpoint, connectorEndpoints, 0, bpn));
         }
     }
 
-    private SubmodelDescriptor getSubmodel(final EdcSubmodelFacade submodelFacade,
-            final Endpoint digitalTwinRegistryEndpoint, final List<String> connectorEndpoints, final String bpn)
-            throws EdcClientException {
-
-        for (final String connectorEndpoint : connectorEndpoints) {
-            try {
-                return submodelFacade.getSubmodelPayload(connectorEndpoint,
-                        digitalTwinRegistryEndpoint.getProtocolInformation().getHref(),
-                        extractAssetId(digitalTwinRegistryEndpoint.getProtocolInformation().getSubprotocolBody()), bpn);
-            } catch (EdcClientException e) {
-                log.info("EdcClientException while accessing digitalTwinRegistryEndpoint '{}'", connectorEndpoint, e);
-            }
+    private CompletableFuture<SubmodelDescriptor> getSubmodelAsync(final EdcSubmodelFacade submodelFacade,
+            final Endpoint digitalTwinRegistryEndpoint, final List<String> connectorEndpoints, final int index,
+            final String bpn) {
+
+        if (index >= connectorEndpoints.size()) {
+            return CompletableFuture.failedFuture(new EdcClientException(
+                    String.format("Called %s connectorEndpoints but did not get any submodels. Connectors: '%s'",
+                            connectorEndpoints.size(), String.join(", ", connectorEndpoints))));
         }
 
-        throw new EdcClientException(
-                String.format("Called %s connectorEndpoints but did not get any submodels. Connectors: '%s'",
-                        connectorEndpoints.size(), String.join(", ", connectorEndpoints)));
+        final String connectorEndpoint = connectorEndpoints.get(index);
+        return submodelFacade.getSubmodelPayloadAsync(connectorEndpoint,
+                                     digitalTwinRegistryEndpoint.getProtocolInformation().getHref(),
+                                     extractAssetId(digitalTwinRegistryEndpoint.getProtocolInformation()
+                                                                               .getSubprotocolBody()), bpn)
+                             .exceptionallyCompose(e -> {
+                                 log.info("EdcClientException while accessing digitalTwinRegistryEndpoint '{}'",
+                                         connectorEndpoint, e);
+                                 return getSubmodelAsync(submodelFacade, digitalTwinRegistryEndpoint,
+                                         connectorEndpoints, index + 1, bpn);
+                             });
     }
 
 }
@@ -24,14 +24,21 @@
 package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.SiblingShellLoader;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCacheKey;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.ProcessingError;
+import org.eclipse.tractusx.irs.component.Shell;
 import org.eclipse.tractusx.irs.component.Tombstone;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
@@ -46,26 +53,64 @@ import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException
 public class DigitalTwinDelegate extends AbstractDelegate {
 
     private final DigitalTwinRegistryService digitalTwinRegistryService;
+    private final ItemResultCache resultCache;
+    private final SiblingShellLoader siblingShellLoader;
+    private final Executor registryExecutor;
 
     public DigitalTwinDelegate(final AbstractDelegate nextStep,
-            final DigitalTwinRegistryService digitalTwinRegistryService) {
+            final DigitalTwinRegistryService digitalTwinRegistryService, final ItemResultCache resultCache) {
+        this(nextStep, digitalTwinRegistryService, resultCache, null, null);
+    }
+
+    /**
+     * @param nextStep                   the next delegate
+     * @param digitalTwinRegistryService the registry to fetch the shells from
+     * @param resultCache                the cache of shells across jobs
+     * @param siblingShellLoader         the loader to fetch the shells of siblings together, or null to fetch each
+     *                                   shell on its own
+     * @param registryExecutor           the executor for the blocking requests to the registry, or null to use the
+     *                                   executor of the transfer
+     */
+    public DigitalTwinDelegate(final AbstractDelegate nextStep,
+            final DigitalTwinRegistryService digitalTwinRegistryService, final ItemResultCache resultCache,
+            final SiblingShellLoader siblingShellLoader, final Executor registryExecutor) {
         super(nextStep);
         this.digitalTwinRegistryService = digitalTwinRegistryService;
+        this.resultCache = resultCache;
+        this.siblingShellLoader = siblingShellLoader;
+        this.registryExecutor = registryExecutor;
     }
 
     @Override
+    public CompletableFuture<ItemContainer> processAsync(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+            final JobParameter jobData, final AASTransferProcess aasTransferProcess,
+            final PartChainIdentificationKey itemId, final Executor executor) {
+
+        final Executor shellExecutor = registryExecutor == null ? executor : registryExecutor;
+        final CompletableFuture<Boolean> shellProcessed = CompletableFuture.supplyAsync(
+                () -> processShell(itemContainerBuilder, jobData, aasTransferProcess, itemId), shellExecutor);
+        return shellProcessed.thenCompose(proceed -> proceed
+                ? nextAsync(itemContainerBuilder, jobData, aasTransferProcess, itemId, executor)
+                : CompletableFuture.completedFuture(itemContainerBuilder.build()));
+    }
+
+    /**
+     * Adds the shell of the item or a tombstone to the builder.
+     *
+     * @return true if processing should continue with the next step
+     */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public ItemContainer process(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+    private boolean processShell(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
             final JobParameter jobData, final AASTransferProcess aasTransferProcess,
             final PartChainIdentificationKey itemId) {
 
         if (StringUtils.isBlank(itemId.getBpn())) {
-            return itemContainerBuilder.tombstone(createNoBpnProvidedTombstone(jobData, itemId)).build();
+            itemContainerBuilder.tombstone(createNoBpnProvidedTombstone(jobData, itemId));
+            return false;
         }
 
         try {
-            final var shell = digitalTwinRegistryService.fetchShell(itemId)
-                                                        .orElseThrow(() -> new RegistryServiceException("Shell not found"));
+            final var shell = fetchShell(itemId);
 
             itemContainerBuilder.shell(
                     jobData.isAuditContractNegotiation() ? shell : shell.withoutContractAgreementId());
@@ -80,12 +125,22 @@ public class DigitalTwinDelegate extends AbstractDelegate {
             createShellEndpointCouldNotBeRetrievedTombstone(itemContainerBuilder, itemId, e);
         }
 
-        if (expectedDepthOfTreeIsNotReached(jobData.getDepth(), aasTransferProcess.getDepth())) {
-            return next(itemContainerBuilder, jobData, aasTransferProcess, itemId);
-        }
+        // stop processing if depth is reached
+        return expectedDepthOfTreeIsNotReached(jobData.getDepth(), aasTransferProcess.getDepth());
+    }
 
-        // depth reached - stop processing
-        return itemContainerBuilder.build();
+    private Shell fetchShell(final PartChainIdentificationKey itemId) throws RegistryServiceException {
+        final ItemResultCacheKey cacheKey = ItemResultCacheKey.shell(itemId);
+        final Optional<Shell> cachedShell = resultCache.getShell(cacheKey);
+        if (cachedShell.isPresent()) {
+            return cachedShell.get();
+        }
+        final Optional<Shell> fetchedShell = siblingShellLoader == null
+                ? digitalTwinRegistryService.fetchShell(itemId)
+                : siblingShellLoader.fetchShell(itemId);
+        final Shell shell = fetchedShell.orElseThrow(() -> new RegistryServiceException("Shell not found"));
+        resultCache.putShell(cacheKey, shell);
+        return shell;
     }
 
     private void createShellNotFoundTombstone(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
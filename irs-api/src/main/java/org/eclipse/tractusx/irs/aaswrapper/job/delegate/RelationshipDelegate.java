@@ -25,11 +25,16 @@ package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCacheKey;
 import org.eclipse.tractusx.irs.component.Bpn;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
@@ -61,50 +66,90 @@ public class RelationshipDelegate extends AbstractDelegate {
     private final EdcSubmodelFacade submodelFacade;
     private final ConnectorEndpointsService connectorEndpointsService;
     private final JsonUtil jsonUtil;
+    private final ItemResultCache resultCache;
 
     public RelationshipDelegate(final AbstractDelegate nextStep, final EdcSubmodelFacade submodelFacade,
-            final ConnectorEndpointsService connectorEndpointsService, final JsonUtil jsonUtil) {
+            final ConnectorEndpointsService connectorEndpointsService, final JsonUtil jsonUtil,
+            final ItemResultCache resultCache) {
         super(nextStep);
         this.submodelFacade = submodelFacade;
         this.connectorEndpointsService = connectorEndpointsService;
         this.jsonUtil = jsonUtil;
+        this.resultCache = resultCache;
     }
 
     @Override
-    public ItemContainer process(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+    public CompletableFuture<ItemContainer> processAsync(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
             final JobParameter jobData, final AASTransferProcess aasTransferProcess,
-            final PartChainIdentificationKey itemId) {
+            final PartChainIdentificationKey itemId, final Executor executor) {
 
         final RelationshipAspect relationshipAspect = RelationshipAspect.from(jobData.getBomLifecycle(),
                 jobData.getDirection());
-        itemContainerBuilder.build()
-                            .getShells()
-                            .stream()
-                            .findFirst()
-                            .ifPresent(shell -> shell.payload()
-                                                     .findRelationshipEndpointAddresses(
-                                                             AspectType.fromValue(relationshipAspect.getName()))
-                                                     .forEach(endpoint -> processEndpoint(endpoint, relationshipAspect,
-                                                             aasTransferProcess, itemContainerBuilder, itemId)));
 
-        return next(itemContainerBuilder, jobData, aasTransferProcess, itemId);
+        // endpoints are requested one after another, so the builder is never modified concurrently
+        CompletableFuture<Void> requests = CompletableFuture.completedFuture(null);
+        for (final Endpoint endpoint : getRelationshipEndpoints(itemContainerBuilder, relationshipAspect)) {
+            requests = requests.thenCompose(
+                    ignored -> processEndpointAsync(endpoint, relationshipAspect, aasTransferProcess,
+                            itemContainerBuilder, itemId, executor));
+        }
+
+        return requests.thenCompose(
+                ignored -> nextAsync(itemContainerBuilder, jobData, aasTransferProcess, itemId, executor));
     }
 
-    private void processEndpoint(final Endpoint endpoint, final RelationshipAspect relationshipAspect,
-            final AASTransferProcess aasTransferProcess, final ItemContainer.ItemContainerBuilder itemContainerBuilder,
-            final PartChainIdentificationKey itemId) {
+    private List<Endpoint> getRelationshipEndpoints(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+            final RelationshipAspect relationshipAspect) {
+        return itemContainerBuilder.build()
+                                   .getShells()
+                                   .stream()
+                                   .findFirst()
+                                   .map(shell -> shell.payload()
+                                                      .findRelationshipEndpointAddresses(
+                                                              AspectType.fromValue(relationshipAspect.getName())))
+                                   .orElseGet(List::of);
+    }
+
+    private CompletableFuture<Void> processEndpointAsync(final Endpoint endpoint,
+            final RelationshipAspect relationshipAspect, final AASTransferProcess aasTransferProcess,
+            final ItemContainer.ItemContainerBuilder itemContainerBuilder, final PartChainIdentificationKey itemId,
+            final Executor executor) {
 
         if (StringUtils.isBlank(itemId.getBpn())) {
             log.warn("Could not process item with id {} because no BPN was provided. Creating Tombstone.",
                     itemId.getGlobalAssetId());
             itemContainerBuilder.tombstone(createNoBpnProvidedTombstone(endpoint, itemId));
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        try {
-            final String submodelRawPayload = requestSubmodel(submodelFacade, connectorEndpointsService, endpoint,
-                    itemId.getBpn()).getPayload();
+        return requestSubmodelAsync(resultCache, createCacheKey(endpoint, relationshipAspect, itemId), submodelFacade,
+                connectorEndpointsService, endpoint, itemId.getBpn(), executor).handleAsync((submodel, throwable) -> {
+                    if (throwable == null) {
+                        addRelationships(submodel.getPayload(), endpoint, relationshipAspect, aasTransferProcess,
+                                itemContainerBuilder, itemId);
+                    } else {
+                        final Throwable cause = throwable instanceof CompletionException
+                                ? throwable.getCause()
+                                : throwable;
+                        addEdcClientExceptionTombstone(endpoint, itemContainerBuilder, itemId,
+                                cause instanceof EdcClientException edcClientException
+                                        ? edcClientException
+                                        : new EdcClientException(cause));
+                    }
+                    return null;
+                }, executor);
+    }
+
+    private ItemResultCacheKey createCacheKey(final Endpoint endpoint, final RelationshipAspect relationshipAspect,
+            final PartChainIdentificationKey itemId) {
+        return ItemResultCacheKey.submodel(itemId, relationshipAspect.getName(),
+                relationshipAspect.getBomLifecycle().name(), endpoint.getProtocolInformation().getHref());
+    }
 
+    private void addRelationships(final String submodelRawPayload, final Endpoint endpoint,
+            final RelationshipAspect relationshipAspect, final AASTransferProcess aasTransferProcess,
+            final ItemContainer.ItemContainerBuilder itemContainerBuilder, final PartChainIdentificationKey itemId) {
+        try {
             final var relationships = jsonUtil.fromString(submodelRawPayload, relationshipAspect.getSubmodelClazz())
                                               .asRelationships();
 
@@ -116,17 +161,6 @@ public class RelationshipDelegate extends AbstractDelegate {
             itemContainerBuilder.relationships(relationships);
             itemContainerBuilder.bpns(getBpnsFrom(relationships));
 
-        } catch (final UsagePolicyPermissionException | UsagePolicyExpiredException e) {
-            log.info("Encountered usage policy exception: {}. Creating Tombstone.", e.getMessage());
-            final Tombstone tombstone = createPolicyTombstone(endpoint, itemId, e);
-            itemContainerBuilder.tombstone(tombstone);
-
-        } catch (final EdcClientException e) {
-            log.info("Submodel Endpoint could not be retrieved for Endpoint: {}. Creating Tombstone.",
-                    endpoint.getProtocolInformation().getHref());
-            final Tombstone tombstone = createEdcClientExceptionTombstone(endpoint, itemId, e);
-            itemContainerBuilder.tombstone(tombstone);
-
         } catch (final JsonParseException e) {
             log.info("Submodel payload did not match the expected AspectType. Creating Tombstone.");
             log.error(e.getMessage(), e);
@@ -135,6 +169,21 @@ public class RelationshipDelegate extends AbstractDelegate {
         }
     }
 
+    private void addEdcClientExceptionTombstone(final Endpoint endpoint,
+            final ItemContainer.ItemContainerBuilder itemContainerBuilder, final PartChainIdentificationKey itemId,
+            final EdcClientException exception) {
+        if (exception instanceof UsagePolicyPermissionException || exception instanceof UsagePolicyExpiredException) {
+            log.info("Encountered usage policy exception: {}. Creating Tombstone.", exception.getMessage());
+            final Tombstone tombstone = createPolicyTombstone(endpoint, itemId, (PolicyException) exception);
+            itemContainerBuilder.tombstone(tombstone);
+        } else {
+            log.info("Submodel Endpoint could not be retrieved for Endpoint: {}. Creating Tombstone.",
+                    endpoint.getProtocolInformation().getHref());
+            final Tombstone tombstone = createEdcClientExceptionTombstone(endpoint, itemId, exception);
+            itemContainerBuilder.tombstone(tombstone);
+        }
+    }
+
     private Tombstone createNoBpnProvidedTombstone(final Endpoint endpoint, final PartChainIdentificationKey itemId) {
         final ProcessingError error = createProcessingError(ProcessStep.SUBMODEL_REQUEST, retryCount,
                 "Can't get relationship without a BPN");
@@ -24,23 +24,33 @@
 package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCacheKey;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.ProcessingError;
 import org.eclipse.tractusx.irs.component.Submodel;
 import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.Endpoint;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescriptor;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
-import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.edc.client.exceptions.PolicyException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.UsagePolicyExpiredException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.UsagePolicyPermissionException;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
@@ -60,28 +70,77 @@ import org.springframework.web.client.RestClientException;
 @Slf4j
 public class SubmodelDelegate extends AbstractDelegate {
 
+    private static final int DEFAULT_MAX_PARALLEL_REQUESTS = 4;
+
     private final EdcSubmodelFacade submodelFacade;
     private final SemanticsHubFacade semanticsHubFacade;
     private final JsonValidatorService jsonValidatorService;
     private final JsonUtil jsonUtil;
     private final ConnectorEndpointsService connectorEndpointsService;
+    private final ItemResultCache resultCache;
+    private final int maxParallelRequests;
+
+    public SubmodelDelegate(final EdcSubmodelFacade submodelFacade, final SemanticsHubFacade semanticsHubFacade,
+            final JsonValidatorService jsonValidatorService, final JsonUtil jsonUtil,
+            final ConnectorEndpointsService connectorEndpointsService, final ItemResultCache resultCache) {
+        this(submodelFacade, semanticsHubFacade, jsonValidatorService, jsonUtil, connectorEndpointsService,
+                resultCache, DEFAULT_MAX_PARALLEL_REQUESTS);
+    }
 
     public SubmodelDelegate(final EdcSubmodelFacade submodelFacade, final SemanticsHubFacade semanticsHubFacade,
             final JsonValidatorService jsonValidatorService, final JsonUtil jsonUtil,
-            final ConnectorEndpointsService connectorEndpointsService) {
+            final ConnectorEndpointsService connectorEndpointsService, final ItemResultCache resultCache,
+            final int maxParallelRequests) {
         super(null); // no next step
         this.submodelFacade = submodelFacade;
         this.semanticsHubFacade = semanticsHubFacade;
         this.jsonValidatorService = jsonValidatorService;
         this.jsonUtil = jsonUtil;
         this.connectorEndpointsService = connectorEndpointsService;
+        this.resultCache = resultCache;
+        this.maxParallelRequests = Math.max(1, maxParallelRequests);
     }
 
+    /**
+     * Requests the submodels of all requested aspects concurrently, with at most {@code maxParallelRequests}
+     * requests per item at a time. The results are added in the order of the submodel descriptors and
+     * their endpoints, so the ItemContainer does not depend on the order in which the requests complete.
+     */
     @Override
-    public ItemContainer process(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+    public CompletableFuture<ItemContainer> processAsync(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
             final JobParameter jobData, final AASTransferProcess aasTransferProcess,
-            final PartChainIdentificationKey itemId) {
+            final PartChainIdentificationKey itemId, final Executor executor) {
+
+        final List<EndpointRequest> requests = getRequestedEndpoints(itemContainerBuilder, itemId, jobData);
+        final List<CompletableFuture<EndpointResult>> results = new ArrayList<>(
+                Collections.nCopies(requests.size(), null));
+
+        // requests are distributed over lanes, each lane starts its next request when the previous one is done
+        final List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < Math.min(maxParallelRequests, requests.size()); lane++) {
+            CompletableFuture<Void> laneFuture = CompletableFuture.completedFuture(null);
+            for (int index = lane; index < requests.size(); index += maxParallelRequests) {
+                final int position = index;
+                final CompletableFuture<EndpointResult> result = laneFuture.thenCompose(
+                        ignored -> fetchSubmodelAsync(requests.get(position), itemId, jobData, executor));
+                results.set(position, result);
+                laneFuture = result.thenApply(ignored -> null);
+            }
+            lanes.add(laneFuture);
+        }
+
+        return CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).thenCompose(ignored -> {
+            for (int index = 0; index < requests.size(); index++) {
+                results.get(index).join().addTo(itemContainerBuilder);
+            }
+            return nextAsync(itemContainerBuilder, jobData, aasTransferProcess, itemId, executor);
+        });
+    }
+
+    private List<EndpointRequest> getRequestedEndpoints(final ItemContainer.ItemContainerBuilder itemContainerBuilder,
+            final PartChainIdentificationKey itemId, final JobParameter jobData) {
 
+        final List<EndpointRequest> requests = new ArrayList<>();
         itemContainerBuilder.build().getShells().stream().findFirst().ifPresent(shell -> {
             final List<SubmodelDescriptor> aasSubmodelDescriptors = shell.payload().getSubmodelDescriptors();
             log.info("Retrieved {} SubmodelDescriptor for itemId {}", aasSubmodelDescriptors.size(), itemId);
@@ -92,91 +151,139 @@ public class SubmodelDelegate extends AbstractDelegate {
                                                                                               .filterDescriptorsByAspectTypes(
                                                                                                       jobData.getAspects());
 
-                filteredSubmodelDescriptorsByAspectType.forEach(submodelDescriptor -> itemContainerBuilder.submodels(
-                        getSubmodels(submodelDescriptor, itemContainerBuilder, itemId.getGlobalAssetId(),
-                                itemId.getBpn(), jobData.isAuditContractNegotiation())));
+                filteredSubmodelDescriptorsByAspectType.forEach(
+                        submodelDescriptor -> submodelDescriptor.getEndpoints()
+                                                                .forEach(endpoint -> requests.add(
+                                                                        new EndpointRequest(submodelDescriptor,
+                                                                                endpoint))));
 
                 log.trace("Unfiltered SubmodelDescriptor: {}", aasSubmodelDescriptors);
                 log.trace("Filtered SubmodelDescriptor: {}", filteredSubmodelDescriptorsByAspectType);
             }
         });
-
-        return next(itemContainerBuilder, jobData, aasTransferProcess, itemId);
+        return requests;
     }
 
-    private List<Submodel> getSubmodels(final SubmodelDescriptor submodelDescriptor,
-            final ItemContainer.ItemContainerBuilder itemContainerBuilder, final String itemId, final String bpn,
-            final boolean auditContractNegotiation) {
+    private CompletableFuture<EndpointResult> fetchSubmodelAsync(final EndpointRequest request,
+            final PartChainIdentificationKey itemKey, final JobParameter jobData, final Executor executor) {
 
-        final List<Submodel> submodels = new ArrayList<>();
-        submodelDescriptor.getEndpoints().forEach(endpoint -> {
+        final String bpn = itemKey.getBpn();
+        if (StringUtils.isBlank(bpn)) {
+            return CompletableFuture.completedFuture(noBpnProvided(request, itemKey));
+        }
 
-            final String endpointURL = endpoint.getProtocolInformation().getHref();
-            if (StringUtils.isBlank(bpn)) {
-                log.warn("Could not process item with id {} because no BPN was provided. Creating Tombstone.", itemId);
-                final ProcessingError error = createProcessingError(ProcessStep.SUBMODEL_REQUEST, retryCount,
-                        "Can't get submodel without a BPN");
-                itemContainerBuilder.tombstone(createTombstone(itemId, null, endpointURL, error));
-                return;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return semanticsHubFacade.getModelJsonSchema(request.descriptor().getAspectType());
+            } catch (SchemaNotFoundException e) {
+                throw new CompletionException(e);
             }
+        }, executor).thenCompose(jsonSchema -> requestSubmodelAsync(resultCache,
+                createCacheKey(request, itemKey, jobData), submodelFacade, connectorEndpointsService,
+                request.endpoint(), bpn, executor).thenApplyAsync(submodel -> {
+                    try {
+                        return validateSubmodel(request, itemKey, jobData, jsonSchema, submodel);
+                    } catch (InvalidSchemaException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor)).exceptionally(throwable -> createFailedResult(request, itemKey,
+                throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable));
+    }
 
-            try {
+    private ItemResultCacheKey createCacheKey(final EndpointRequest request, final PartChainIdentificationKey itemKey,
+            final JobParameter jobData) {
+        return ItemResultCacheKey.submodel(itemKey, request.descriptor().getAspectType(),
+                Objects.toString(jobData.getBomLifecycle(), null), request.endpointURL());
+    }
 
-                final String jsonSchema = semanticsHubFacade.getModelJsonSchema(submodelDescriptor.getAspectType());
-                final org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor submodel = requestSubmodel(
-                        submodelFacade, connectorEndpointsService, endpoint, bpn);
-                final String submodelRawPayload = submodel.getPayload();
-                final String contractAgreementId = getContractAgreementId(auditContractNegotiation, submodel);
-
-                final ValidationResult validationResult = jsonValidatorService.validate(jsonSchema, submodelRawPayload);
-
-                if (validationResult.isValid()) {
-                    submodels.add(Submodel.from(submodelDescriptor.getId(), submodelDescriptor.getAspectType(),
-                            contractAgreementId, jsonUtil.fromString(submodelRawPayload, Map.class)));
-
-                } else {
-                    final String errorDetail = "Submodel payload validation failed. %s".formatted(
-                            String.join(", ", validationResult.getValidationErrors()));
-                    final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_VALIDATION, 0, errorDetail);
-                    final Tombstone tombstone = createTombstone(itemId, bpn, endpointURL, error);
-                    itemContainerBuilder.tombstone(tombstone);
-                }
-
-            } catch (final JsonParseException e) {
-                log.info("Submodel payload did not match the expected AspectType. Creating Tombstone.");
-                final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_VALIDATION, retryCount,
-                        e.getMessage());
-                final Tombstone tombstone = createTombstone(itemId, bpn, endpointURL, error);
-                itemContainerBuilder.tombstone(tombstone);
+    private EndpointResult validateSubmodel(final EndpointRequest request, final PartChainIdentificationKey itemKey,
+            final JobParameter jobData, final String jsonSchema,
+            final org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor submodel)
+            throws InvalidSchemaException {
 
-            } catch (final SchemaNotFoundException | InvalidSchemaException | RestClientException e) {
-                log.info("Cannot load JSON schema for validation. Creating Tombstone.");
-                final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_REQUEST, 0, e.getMessage());
-                itemContainerBuilder.tombstone(createTombstone(itemId, bpn, endpointURL, error));
-
-            } catch (final UsagePolicyPermissionException | UsagePolicyExpiredException e) {
-                log.info("Encountered usage policy permission exception: {}. Creating Tombstone.", e.getMessage());
-                final Map<String, Object> policy = jsonUtil.asMap(e.getPolicy());
-                final ProcessingError error = createProcessingError(ProcessStep.USAGE_POLICY_VALIDATION, 0,
-                        e.getMessage());
-                final Tombstone tombstone = Tombstone.builder()
-                                                     .endpointURL(endpointURL)
-                                                     .catenaXId(itemId)
-                                                     .processingError(error)
-                                                     .businessPartnerNumber(e.getBusinessPartnerNumber())
-                                                     .policy(policy)
-                                                     .build();
-                itemContainerBuilder.tombstone(tombstone);
+        final String submodelRawPayload = submodel.getPayload();
+        final String contractAgreementId = getContractAgreementId(jobData.isAuditContractNegotiation(), submodel);
+        // the payload is parsed once and the tree is used for validation and conversion
+        final Optional<JsonNode> payload = parsePayload(submodelRawPayload);
+        final ValidationResult validationResult = payload.isPresent()
+                ? jsonValidatorService.validate(jsonSchema, payload.get())
+                : jsonValidatorService.validate(jsonSchema, submodelRawPayload);
 
-            } catch (final EdcClientException e) {
-                log.info("Submodel Endpoint could not be retrieved for Item: {}. Creating Tombstone.", itemId);
-                final ProcessingError error = createProcessingError(ProcessStep.SUBMODEL_REQUEST, 0, e.getMessage());
-                final Tombstone tombstone = createTombstone(itemId, bpn, endpointURL, error);
-                itemContainerBuilder.tombstone(tombstone);
-            }
-        });
+        if (validationResult.isValid()) {
+            final SubmodelDescriptor descriptor = request.descriptor();
+            return EndpointResult.of(Submodel.from(descriptor.getId(), descriptor.getAspectType(), contractAgreementId,
+                    payload.isPresent()
+                            ? jsonUtil.fromTree(payload.get(), Map.class)
+                            : jsonUtil.fromString(submodelRawPayload, Map.class)));
+        }
+
+        final String errorDetail = "Submodel payload validation failed. %s".formatted(
+                String.join(", ", validationResult.getValidationErrors()));
+        final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_VALIDATION, 0, errorDetail);
+        return EndpointResult.of(
+                createTombstone(itemKey.getGlobalAssetId(), itemKey.getBpn(), request.endpointURL(), error));
+    }
+
+    /**
+     * @return the parsed payload, or empty if it is not valid JSON and the validator has to report it
+     */
+    private Optional<JsonNode> parsePayload(final String submodelRawPayload) {
+        try {
+            return Optional.ofNullable(jsonUtil.readTree(submodelRawPayload)).filter(node -> !node.isMissingNode());
+        } catch (final JsonParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private EndpointResult noBpnProvided(final EndpointRequest request, final PartChainIdentificationKey itemKey) {
+        log.warn("Could not process item with id {} because no BPN was provided. Creating Tombstone.",
+                itemKey.getGlobalAssetId());
+        final ProcessingError error = createProcessingError(ProcessStep.SUBMODEL_REQUEST, retryCount,
+                "Can't get submodel without a BPN");
+        return EndpointResult.of(createTombstone(itemKey.getGlobalAssetId(), null, request.endpointURL(), error));
+    }
+
+    private EndpointResult createFailedResult(final EndpointRequest request, final PartChainIdentificationKey itemKey,
+            final Throwable exception) {
+
+        final String itemId = itemKey.getGlobalAssetId();
+        final String bpn = itemKey.getBpn();
+        final String endpointURL = request.endpointURL();
+
+        if (exception instanceof JsonParseException) {
+            log.info("Submodel payload did not match the expected AspectType. Creating Tombstone.");
+            final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_VALIDATION, retryCount,
+                    exception.getMessage());
+            return EndpointResult.of(createTombstone(itemId, bpn, endpointURL, error));
+
+        } else if (exception instanceof SchemaNotFoundException || exception instanceof InvalidSchemaException
+                || exception instanceof RestClientException) {
+            log.info("Cannot load JSON schema for validation. Creating Tombstone.");
+            final ProcessingError error = createProcessingError(ProcessStep.SCHEMA_REQUEST, 0, exception.getMessage());
+            return EndpointResult.of(createTombstone(itemId, bpn, endpointURL, error));
 
-        return submodels;
+        } else if (exception instanceof UsagePolicyPermissionException
+                || exception instanceof UsagePolicyExpiredException) {
+            final PolicyException policyException = (PolicyException) exception;
+            log.info("Encountered usage policy permission exception: {}. Creating Tombstone.",
+                    exception.getMessage());
+            final Map<String, Object> policy = jsonUtil.asMap(policyException.getPolicy());
+            final ProcessingError error = createProcessingError(ProcessStep.USAGE_POLICY_VALIDATION, 0,
+                    exception.getMessage());
+            return EndpointResult.of(Tombstone.builder()
+                                              .endpointURL(endpointURL)
+                                              .catenaXId(itemId)
+                                              .processingError(error)
+                                              .businessPartnerNumber(policyException.getBusinessPartnerNumber())
+                                              .policy(policy)
+                                              .build());
+        }
+
+        log.info("Submodel Endpoint could not be retrieved for Item: {}. Creating Tombstone.", itemId);
+        final ProcessingError error = createProcessingError(ProcessStep.SUBMODEL_REQUEST, 0, exception.getMessage());
+        return EndpointResult.of(createTombstone(itemId, bpn, endpointURL, error));
     }
 
     private Tombstone createTombstone(final String itemId, final String bpn, final String endpointURL,
@@ -204,4 +311,36 @@ public class SubmodelDelegate extends AbstractDelegate {
         return auditContractNegotiation ? submodel.getCid() : null;
     }
 
+    /**
+     * One endpoint of a requested submodel descriptor.
+     */
+    private record EndpointRequest(SubmodelDescriptor descriptor, Endpoint endpoint) {
+
+        private String endpointURL() {
+            return endpoint.getProtocolInformation().getHref();
+        }
+    }
+
+    /**
+     * Outcome of requesting one endpoint, either a submodel or a tombstone.
+     */
+    private record EndpointResult(Submodel submodel, Tombstone tombstone) {
+
+        private static EndpointResult of(final Submodel submodel) {
+            return new EndpointResult(submodel, null);
+        }
+
+        private static EndpointResult of(final Tombstone tombstone) {
+            return new EndpointResult(null, tombstone);
+        }
+
+        private void addTo(final ItemContainer.ItemContainerBuilder itemContainerBuilder) {
+            if (submodel != null) {
+                itemContainerBuilder.submodel(submodel);
+            } else {
+                itemContainerBuilder.tombstone(tombstone);
+            }
+        }
+    }
+
 }
@@ -43,4 +43,16 @@ public class IrsConfiguration {
      */
     private URL apiUrl;
 
+    /**
+     * The outbound HTTP client used for EDC, Digital Twin Registry, discovery and semantic hub requests.
+     */
+    private HttpClientConfig httpClient = new HttpClientConfig();
+
+    /**
+     * Container for the outbound HTTP client config
+     */
+    @Data
+    public static class HttpClientConfig {
+        private boolean http2 = true;
+    }
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -40,7 +41,9 @@ import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcessManager;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemDataRequest;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemTreesAssembler;
+import org.eclipse.tractusx.irs.aaswrapper.job.SiblingShellLoader;
 import org.eclipse.tractusx.irs.aaswrapper.job.TreeRecursiveLogic;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.RelationshipDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.SubmodelDelegate;
@@ -49,6 +52,7 @@ import org.eclipse.tractusx.irs.common.persistence.AzureBlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
+import org.eclipse.tractusx.irs.common.util.concurrent.KeyedPermits;
 import org.eclipse.tractusx.irs.connector.job.JobOrchestrator;
 import org.eclipse.tractusx.irs.connector.job.JobStore;
 import org.eclipse.tractusx.irs.connector.job.JobTTL;
@@ -79,6 +83,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Spring configuration for job-related beans.
@@ -92,8 +97,8 @@ public class JobConfiguration {
 
     @Bean
     public OutboundMeterRegistryService outboundMeterRegistryService(final MeterRegistry meterRegistry,
-            final RetryRegistry retryRegistry) {
-        return new OutboundMeterRegistryService(meterRegistry, retryRegistry);
+            final RetryRegistry retryRegistry, final CircuitBreakerRegistry circuitBreakerRegistry) {
+        return new OutboundMeterRegistryService(meterRegistry, retryRegistry, circuitBreakerRegistry);
     }
 
     @Bean
@@ -106,12 +111,14 @@ public class JobConfiguration {
             @Value("${irs.job.jobstore.ttl.failed:}") final Duration ttlFailedJobs,
             @Value("${irs.job.jobstore.ttl.completed:}") final Duration ttlCompletedJobs,
             final JsonUtil jsonUtil,
-            @Value("${irs.job.cached.threadCount}") final int threadCount) {
+            @Value("${irs.job.cached.threadCount}") final int threadCount,
+            @Value("${irs.job.provider.maxConcurrentNodes:50}") final int maxConcurrentNodesPerProvider,
+            final SiblingShellLoader siblingShellLoader) {
 
         final var manager = new AASTransferProcessManager(digitalTwinDelegate, cachedExecutorService(threadCount),
-                blobStore, jsonUtil);
-        final var logic = new TreeRecursiveLogic(blobStore, jsonUtil, new ItemTreesAssembler());
-        final var handler = new AASRecursiveJobHandler(logic);
+                blobStore, jsonUtil, new KeyedPermits(maxConcurrentNodesPerProvider));
+        final var logic = new TreeRecursiveLogic(blobStore, jsonUtil, new ItemTreesAssembler(jsonUtil));
+        final var handler = new AASRecursiveJobHandler(logic, siblingShellLoader);
         final JobTTL jobTTL = new JobTTL(ttlCompletedJobs, ttlFailedJobs);
 
         return new JobOrchestrator<>(manager, jobStore, handler, meterService, applicationEventPublisher, jobTTL);
@@ -187,25 +194,65 @@ public class JobConfiguration {
         return new TimedAspect(registry);
     }
 
+    @Bean
+    public ItemResultCache itemResultCache(@Value("${irs.job.cache.enabled:true}") final boolean enabled,
+            @Value("${irs.job.cache.ttl:PT10M}") final Duration ttl,
+            @Value("${irs.job.cache.maxSize:100MB}") final DataSize maxSize, final MeterRegistryService meterService,
+            final Clock clock) {
+        if (!enabled) {
+            return ItemResultCache.disabled();
+        }
+        return new ItemResultCache(ttl, maxSize.toBytes(), meterService, clock);
+    }
+
     @Bean
     public DigitalTwinDelegate digitalTwinDelegate(final RelationshipDelegate relationshipDelegate,
-            final DigitalTwinRegistryService digitalTwinRegistryService) {
-        return new DigitalTwinDelegate(relationshipDelegate, digitalTwinRegistryService);
+            final DigitalTwinRegistryService digitalTwinRegistryService, final ItemResultCache itemResultCache,
+            final SiblingShellLoader siblingShellLoader, final ExecutorService registryExecutorService) {
+        return new DigitalTwinDelegate(relationshipDelegate, digitalTwinRegistryService, itemResultCache,
+                siblingShellLoader, registryExecutorService);
+    }
+
+    /**
+     * Executor for the blocking shell requests to the digital twin registries, so they do not occupy the threads
+     * of the job transfers.
+     *
+     * @param threadCount the number of threads used for registry requests
+     * @return the registry executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService registryExecutorService(
+            @Value("${irs.job.registry.threadCount:20}") final int threadCount) {
+        final long keepAliveTime = 60L;
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, keepAliveTime,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public SiblingShellLoader siblingShellLoader(final DigitalTwinRegistryService digitalTwinRegistryService,
+            @Value("${irs.job.siblingShells.ttl:PT10M}") final Duration ttl,
+            @Value("${irs.job.siblingShells.maxSize:100000}") final int maxSize,
+            @Value("${irs.job.siblingShells.fetchTimeout:PT1M}") final Duration fetchTimeout) {
+        return new SiblingShellLoader(digitalTwinRegistryService, ttl, maxSize, fetchTimeout);
     }
 
     @Bean
     public RelationshipDelegate relationshipDelegate(final SubmodelDelegate submodelDelegate,
             final EdcSubmodelFacade submodelFacade, final ConnectorEndpointsService connectorEndpointsService,
-            final JsonUtil jsonUtil) {
-        return new RelationshipDelegate(submodelDelegate, submodelFacade, connectorEndpointsService, jsonUtil);
+            final JsonUtil jsonUtil, final ItemResultCache itemResultCache) {
+        return new RelationshipDelegate(submodelDelegate, submodelFacade, connectorEndpointsService, jsonUtil,
+                itemResultCache);
     }
 
     @Bean
     public SubmodelDelegate submodelDelegate(final EdcSubmodelFacade submodelFacade,
             final SemanticsHubFacade semanticsHubFacade, final JsonValidatorService jsonValidatorService,
-            final ConnectorEndpointsService connectorEndpointsService) {
+            final ConnectorEndpointsService connectorEndpointsService, final ItemResultCache itemResultCache,
+            @Value("${irs.job.submodel.maxParallelRequests:4}") final int maxParallelRequests) {
         return new SubmodelDelegate(submodelFacade, semanticsHubFacade, jsonValidatorService, jsonUtil(),
-                connectorEndpointsService);
+                connectorEndpointsService, itemResultCache, maxParallelRequests);
     }
 
     @Profile({ "local",
@@ -227,7 +274,10 @@ public class JobConfiguration {
     @Profile({ "!local && !stubtest" })
     @Bean
     public EdcSubmodelClient edcSubmodelClient(final EdcConfiguration edcConfiguration, final EdcDataPlaneClient edcDataPlaneClient,
-            final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry) {
-        return new EdcSubmodelClientImpl(edcConfiguration, edcDataPlaneClient, edcOrchestrator, retryRegistry);
+            final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final OutboundMeterRegistryService meterRegistryService, final ExecutorService dataPlaneExecutorService) {
+        return new EdcSubmodelClientImpl(edcConfiguration, edcDataPlaneClient, edcOrchestrator, retryRegistry,
+                circuitBreakerRegistry, meterRegistryService, dataPlaneExecutorService);
     }
 }
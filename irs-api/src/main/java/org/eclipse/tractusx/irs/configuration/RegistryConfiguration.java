@@ -23,10 +23,24 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.configuration;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.tractusx.irs.common.persistence.AzureBlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.config.AzureBlobstoreConfiguration;
+import org.eclipse.tractusx.irs.common.persistence.config.BlobStoreConfiguration;
+import org.eclipse.tractusx.irs.common.persistence.config.BlobStoreContainerConfiguration;
+import org.eclipse.tractusx.irs.common.persistence.config.MinioBlobstoreConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.PreferredConnectorEndpointsCache;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.registryclient.DefaultConfiguration;
 import org.eclipse.tractusx.irs.registryclient.central.CentralDigitalTwinRegistryService;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClient;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClientImpl;
@@ -35,9 +49,12 @@ import org.eclipse.tractusx.irs.registryclient.decentral.DecentralDigitalTwinReg
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcEndpointReferenceRetriever;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellIdMappingCache;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClient;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClientImpl;
+import org.eclipse.tractusx.irs.registryclient.discovery.UnreachableConnectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -52,6 +69,8 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RegistryConfiguration {
 
+    public static final String SHELL_ID_MAPPING_BLOB_PERSISTENCE = "shellIdMappingPersistence";
+
     @Bean
     @ConditionalOnProperty(prefix = "digitalTwinRegistry", name = "type", havingValue = "central")
     public CentralDigitalTwinRegistryService centralDigitalTwinRegistryService(final DigitalTwinRegistryClient client) {
@@ -76,7 +95,11 @@ public class RegistryConfiguration {
             @Value("${digitalTwinRegistry.shellDescriptorTemplate:}") final String shellDescriptorTemplate,
             @Value("${digitalTwinRegistry.lookupShellsTemplate:}") final String lookupShellsTemplate,
             final EdcConfiguration edcConfiguration,
-            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache) {
+            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache,
+            @Value("${digitalTwinRegistry.connectorLookup.threadCount:20}") final int threadCount,
+            @Value("${digitalTwinRegistry.connectorLookup.queueSize:1000}") final int queueSize,
+            @Value("${digitalTwinRegistry.connectorLookup.hedgingDelay:PT2S}") final Duration hedgingDelay,
+            final MeterRegistry meterRegistry, final ShellIdMappingCache shellIdMappingCache) {
 
         final EdcEndpointReferenceRetriever endpointReferenceRetriever = (edcConnectorEndpoint, bpn) -> {
             try {
@@ -89,19 +112,76 @@ public class RegistryConfiguration {
         final DecentralDigitalTwinRegistryClient digitalTwinRegistryClient = new DecentralDigitalTwinRegistryClient(
                 edcRestTemplate, shellDescriptorTemplate, lookupShellsTemplate);
 
+        final Executor executor = DefaultConfiguration.connectorLookupExecutor("dtr.connector.lookup", threadCount,
+                queueSize, meterRegistry);
         final EndpointDataForConnectorsService endpointDataForConnectorsService = new EndpointDataForConnectorsService(
-                endpointReferenceRetriever, preferredConnectorEndpointsCache);
+                endpointReferenceRetriever, preferredConnectorEndpointsCache, executor, hedgingDelay);
 
         return new DecentralDigitalTwinRegistryService(connectorEndpointsService, endpointDataForConnectorsService,
-                digitalTwinRegistryClient, edcConfiguration, preferredConnectorEndpointsCache);
+                digitalTwinRegistryClient, edcConfiguration, preferredConnectorEndpointsCache, executor,
+                shellIdMappingCache);
+    }
+
+    @Bean
+    public ShellIdMappingCache shellIdMappingCache(
+            @Value("${digitalTwinRegistry.shellIdMapping.ttl:P1D}") final Duration ttl,
+            @Value("${digitalTwinRegistry.shellIdMapping.maxSize:100000}") final int maxSize,
+            @Qualifier(SHELL_ID_MAPPING_BLOB_PERSISTENCE) final ObjectProvider<BlobPersistence> blobStore,
+            final MeterRegistry meterRegistry, final Clock clock) {
+        return new ShellIdMappingCache(ttl, maxSize, blobStore.getIfAvailable(), meterRegistry, clock);
+    }
+
+    /**
+     * Blob stores for the persistent mappings from globalAssetId to AAS id.
+     */
+    @Profile("!test")
+    @Configuration
+    @ConditionalOnProperty(prefix = "digitalTwinRegistry.shellIdMapping", name = "persistent", havingValue = "true")
+    static class ShellIdMappingPersistenceConfiguration {
+
+        @Bean(SHELL_ID_MAPPING_BLOB_PERSISTENCE)
+        @ConditionalOnProperty(name = "blobstore.persistence.storeType", havingValue = "MINIO")
+        public BlobPersistence minioShellIdMappingBlobStore(final BlobStoreConfiguration config)
+                throws BlobPersistenceException {
+            final MinioBlobstoreConfiguration minioConfig = config.getPersistence().getMinio();
+            final BlobStoreContainerConfiguration containerConfig = config.getShellIdMappings();
+
+            if (minioConfig == null || containerConfig == null) {
+                throw new IllegalArgumentException("Missing blob storage configuration");
+            }
+
+            return new MinioBlobPersistence(minioConfig.getEndpoint(), minioConfig.getAccessKey(),
+                    minioConfig.getSecretKey(), containerConfig.getContainerName(), containerConfig.getDaysToLive());
+        }
+
+        @Bean(SHELL_ID_MAPPING_BLOB_PERSISTENCE)
+        @ConditionalOnProperty(name = "blobstore.persistence.storeType", havingValue = "AZURE")
+        public BlobPersistence azureShellIdMappingBlobStore(final BlobStoreConfiguration config) {
+            final AzureBlobstoreConfiguration azureConfig = config.getPersistence().getAzure();
+            final BlobStoreContainerConfiguration containerConfig = config.getShellIdMappings();
+
+            if (azureConfig == null || containerConfig == null) {
+                throw new IllegalArgumentException("Missing blob storage configuration");
+            }
+
+            if (azureConfig.isUseConnectionString()) {
+                return new AzureBlobPersistence(azureConfig.getConnectionString(), containerConfig.getContainerName());
+            }
+            return new AzureBlobPersistence(azureConfig.getBaseUrl(), azureConfig.getClientId(),
+                    azureConfig.getClientSecret(), azureConfig.getTenantId(), containerConfig.getContainerName());
+        }
     }
 
     @Bean
     public ConnectorEndpointsService connectorEndpointsService(
             @Qualifier(RestTemplateConfig.DTR_REST_TEMPLATE) final RestTemplate dtrRestTemplate,
             @Value("${digitalTwinRegistry.discovery.discoveryFinderUrl:}") final String finderUrl,
-            @Value("${digitalTwinRegistry.discovery.type:}") final String discoveryType) {
-        return new ConnectorEndpointsService(discoveryFinderClient(dtrRestTemplate, finderUrl), discoveryType);
+            @Value("${digitalTwinRegistry.discovery.type:}") final String discoveryType,
+            @Value("${digitalTwinRegistry.unreachable.initialBackoff:PT1M}") final Duration initialBackoff,
+            @Value("${digitalTwinRegistry.unreachable.maxBackoff:PT30M}") final Duration maxBackoff,
+            final MeterRegistry meterRegistry, final Clock clock) {
+        return new ConnectorEndpointsService(discoveryFinderClient(dtrRestTemplate, finderUrl), discoveryType,
+                new UnreachableConnectors(initialBackoff, maxBackoff, meterRegistry, clock));
     }
 
 
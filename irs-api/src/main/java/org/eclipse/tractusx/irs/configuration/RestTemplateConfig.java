@@ -27,6 +27,8 @@ import static java.util.Objects.isNull;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.util.List;
 
@@ -37,6 +39,7 @@ import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
 import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -61,7 +64,11 @@ import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * Rest template config with OAuth2 interceptor
+ * Rest template config with OAuth2 interceptor.
+ * The rest templates for the DTR, semantic hub, discovery and EDC traffic share the settings of
+ * {@link IrsConfiguration.HttpClientConfig}: they use pooled JDK http clients (HTTP/2 by default, falling back to
+ * HTTP/1.1 for servers not supporting it). The JDK http client has no per-host connection limit and no pool
+ * metrics, so the number of parallel requests per provider is limited by the callers.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -77,15 +84,24 @@ public class RestTemplateConfig {
 
     private final OAuth2AuthorizedClientService oAuth2AuthorizedClientService;
     private final ClientRegistrationRepository clientRegistrationRepository;
+    private final IrsConfiguration irsConfiguration;
 
     private RestTemplateBuilder oAuthRestTemplate(final RestTemplateBuilder restTemplateBuilder,
             final Duration readTimeout, final Duration connectTimeout, final String clientRegistrationId) {
         final var clientRegistration = clientRegistrationRepository.findByRegistrationId(clientRegistrationId);
 
-        return restTemplateBuilder.additionalInterceptors(
-                                          new OAuthClientCredentialsRestTemplateInterceptor(authorizedClientManager(), clientRegistration))
-                                  .setReadTimeout(readTimeout)
-                                  .setConnectTimeout(connectTimeout);
+        return pooledHttpClient(restTemplateBuilder).additionalInterceptors(
+                                                            new OAuthClientCredentialsRestTemplateInterceptor(authorizedClientManager(), clientRegistration))
+                                                    .setReadTimeout(readTimeout)
+                                                    .setConnectTimeout(connectTimeout);
+    }
+
+    private RestTemplateBuilder pooledHttpClient(final RestTemplateBuilder restTemplateBuilder) {
+        final IrsConfiguration.HttpClientConfig httpClientConfig = irsConfiguration.getHttpClient();
+        final HttpClient.Version version = httpClientConfig.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+
+        return restTemplateBuilder.requestFactoryBuilder(
+                ClientHttpRequestFactoryBuilder.jdk().withHttpClientCustomizer(builder -> builder.version(version)));
     }
 
     @Bean(DTR_REST_TEMPLATE)
@@ -105,7 +121,7 @@ public class RestTemplateConfig {
         return (request, body, execution) -> {
             try {
                 return execution.execute(request, body);
-            } catch (SocketTimeoutException e) {
+            } catch (SocketTimeoutException | HttpTimeoutException e) {
                 meterRegistryService.incrementRegistryTimeoutCounter();
                 throw e;
             }
@@ -169,11 +185,11 @@ public class RestTemplateConfig {
             @Value("${irs-edc-client.submodel.timeout.read}") final Duration readTimeout,
             @Value("${irs-edc-client.submodel.timeout.connect}") final Duration connectTimeout,
             final OutboundMeterRegistryService meterRegistryService) {
-        final RestTemplate restTemplate = restTemplateBuilder.setReadTimeout(readTimeout)
-                                                             .setConnectTimeout(connectTimeout)
-                                                             .additionalInterceptors(
-                                                                     getEdcInterceptor(meterRegistryService))
-                                                             .build();
+        final RestTemplate restTemplate = pooledHttpClient(restTemplateBuilder).setReadTimeout(readTimeout)
+                                                                               .setConnectTimeout(connectTimeout)
+                                                                               .additionalInterceptors(
+                                                                                       getEdcInterceptor(meterRegistryService))
+                                                                               .build();
         final List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
         for (final HttpMessageConverter<?> converter : messageConverters) {
             if (converter instanceof final MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter) {
@@ -191,7 +207,7 @@ public class RestTemplateConfig {
         return (request, body, execution) -> {
             try {
                 return execution.execute(request, body);
-            } catch (SocketTimeoutException e) {
+            } catch (SocketTimeoutException | HttpTimeoutException e) {
                 meterRegistryService.incrementSubmodelTimeoutCounter(request.getURI().getHost());
                 throw e;
             }
@@ -28,19 +28,22 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Base class for all JobStores, implementing the Job transition logic and handling locking.
+ * Base class for all JobStores, implementing the Job transition logic and handling per-job locking.
  */
 @Slf4j
 @SuppressWarnings("PMD.TooManyMethods")
@@ -52,9 +55,22 @@ public abstract class BaseJobStore implements JobStore {
     private static final int TIMEOUT = 30_000;
 
     /**
-     * A lock to synchronize access to the collection of stored jobs.
+     * The number of locks the jobs are distributed over.
      */
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Locks to synchronize modifications of the stored jobs. Each job is guarded by one of the stripes, so
+     * modifications of unrelated jobs can run concurrently.
+     */
+    private final ReentrantLock[] locks = IntStream.range(0, LOCK_STRIPES)
+                                                   .mapToObj(i -> new ReentrantLock())
+                                                   .toArray(ReentrantLock[]::new);
+
+    /**
+     * The IDs of the jobs whose completion action is currently running.
+     */
+    private final Set<String> completingJobs = ConcurrentHashMap.newKeySet();
 
     protected abstract Optional<MultiTransferJob> get(String jobId);
 
@@ -103,7 +119,11 @@ public abstract class BaseJobStore implements JobStore {
     @Override
     public void addTransferProcess(final String jobId, final String processId) {
         log.info("Adding transfer process {} to job {}", processId, jobId);
-        modifyJob(jobId, job -> job.toBuilder().transferProcessId(processId).transitionInProgress().build());
+        modifyJob(jobId, job -> {
+            final MultiTransferJob runningJob = job.toBuilder().transitionInProgress().build();
+            runningJob.startTransferProcess(processId);
+            return runningJob;
+        });
     }
 
     @Override
@@ -115,39 +135,58 @@ public abstract class BaseJobStore implements JobStore {
     public void completeTransferProcess(final String jobId, final TransferProcess process) {
         log.info("Completing transfer process {} for job {}", process.getId(), jobId);
         modifyJob(jobId, job -> {
-            final var remainingTransfers = job.getTransferProcessIds()
-                                              .stream()
-                                              .filter(id -> !id.equals(process.getId()))
-                                              .toList();
-            final var newJob = job.toBuilder()
-                                  .clearTransferProcessIds()
-                                  .transferProcessIds(remainingTransfers)
-                                  .completedTransfer(process);
-            if (remainingTransfers.isEmpty()) {
+            final int remainingTransfers = job.countRunningTransfersWithout(process.getId());
+            final var newJob = job.toBuilder();
+            if (remainingTransfers == 0) {
                 log.info("Job {} has no remaining transfers, transitioning to TRANSFERS_FINISHED", jobId);
                 newJob.transitionTransfersFinished();
             } else {
-                log.info("Job {} has {} remaining transfers, cannot finish it.", jobId, remainingTransfers.size());
+                log.info("Job {} has {} remaining transfers, cannot finish it.", jobId, remainingTransfers);
             }
-            return newJob.build();
+            final MultiTransferJob completedJob = newJob.build();
+            completedJob.completeTransferProcess(process);
+            return completedJob;
         });
     }
 
+    /**
+     * Completes the job if all transfers are finished. The completion action is executed outside the job lock, so
+     * long-running actions like the assembly of the item graph do not block other modifications. It is executed at
+     * most once at a time for each job.
+     */
     @Override
     public void completeJob(final String jobId, final Consumer<MultiTransferJob> completionAction) {
         log.info("Completing job {}", jobId);
-        modifyJob(jobId, job -> {
-            final JobState jobState = job.getJob().getState();
-            if (jobState == JobState.TRANSFERS_FINISHED || jobState == JobState.INITIAL) {
-                completionAction.accept(job);
-                return job.toBuilder().transitionComplete().build();
-            } else {
-                log.info("Job is in state {}, cannot complete it.", jobState);
+        final Optional<MultiTransferJob> completableJob = lockJob(jobId, () -> {
+            final var job = get(jobId);
+            if (job.isEmpty()) {
+                log.warn("Job not found: {}", jobId);
+                return Optional.empty();
+            }
+            final JobState jobState = job.get().getJob().getState();
+            if (isCompletable(jobState) && completingJobs.add(jobId)) {
                 return job;
             }
+            log.info("Job is in state {}, cannot complete it.", jobState);
+            return Optional.empty();
+        });
+
+        completableJob.ifPresent(job -> {
+            try {
+                completionAction.accept(job);
+                modifyJob(jobId, current -> isCompletable(current.getJob().getState())
+                        ? current.toBuilder().transitionComplete().build()
+                        : current);
+            } finally {
+                completingJobs.remove(jobId);
+            }
         });
     }
 
+    private static boolean isCompletable(final JobState jobState) {
+        return jobState == JobState.TRANSFERS_FINISHED || jobState == JobState.INITIAL;
+    }
+
     @Override
     public void markJobInError(final String jobId, @Nullable final String errorDetail,
             final String exceptionClassName) {
@@ -165,7 +204,7 @@ public abstract class BaseJobStore implements JobStore {
 
     @Override
     public Optional<MultiTransferJob> deleteJob(final String jobId) {
-        return writeLock(() -> remove(jobId));
+        return lockJob(jobId, () -> remove(jobId));
     }
 
     @Override
@@ -176,7 +215,7 @@ public abstract class BaseJobStore implements JobStore {
     }
 
     private void modifyJob(final String jobId, final UnaryOperator<MultiTransferJob> action) {
-        writeLock(() -> {
+        lockJob(jobId, () -> {
             final var job = get(jobId);
             if (job.isEmpty()) {
                 log.warn("Job not found: {}", jobId);
@@ -188,15 +227,16 @@ public abstract class BaseJobStore implements JobStore {
         });
     }
 
-    private <T> T writeLock(final Supplier<T> work) {
+    private <T> T lockJob(final String jobId, final Supplier<T> work) {
+        final ReentrantLock lock = locks[Math.floorMod(jobId.hashCode(), LOCK_STRIPES)];
         try {
-            if (!lock.writeLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
+            if (!lock.tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
                 throw new JobException("Timeout acquiring write lock");
             }
             try {
                 return work.get();
             } finally {
-                lock.writeLock().unlock();
+                lock.unlock();
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -23,8 +23,27 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.connector.job;
 
+import java.util.Optional;
+
 /**
  * Interface for Data Requests
  */
 public interface DataRequest {
+
+    /**
+     * Key identifying the requested node within a job. Requests with the same key
+     * are only processed once per job, see {@link VisitedNodeIndex}.
+     *
+     * @return the node key, or empty if requests of this type must not be deduplicated
+     */
+    default Optional<String> getNodeKey() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the depth of the requested node in the tree
+     */
+    default int getNodeDepth() {
+        return 0;
+    }
 }
@@ -83,7 +83,10 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
      */
     private final JobTTL jobTTL;
 
-    private final Object jobCompletionSyncObject = new Object();
+    /**
+     * Nodes already requested per job, used to skip duplicate transfers.
+     */
+    private final VisitedNodeIndex visitedNodes = new VisitedNodeIndex();
 
     /**
      * Create a new instance of {@link JobOrchestrator}.
@@ -121,7 +124,7 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
 
         final Stream<T> requests;
         try {
-            requests = handler.initiate(multiJob);
+            requests = handler.initiate(multiJob).filter(request -> isNotVisited(multiJob, request));
         } catch (RuntimeException e) {
             markJobInError(multiJob, e, JOB_EXECUTION_FAILED);
             meterService.incrementJobFailed();
@@ -175,12 +178,13 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
         if (job.getJob().getState() != JobState.RUNNING) {
             log.info("Ignoring transfer complete event for job {} in state {} ", job.getJob().getId(),
                     job.getJob().getState());
+            visitedNodes.remove(job.getJobIdString());
             return;
         }
 
         final Stream<T> requests;
         try {
-            requests = handler.recurse(job, process);
+            requests = handler.recurse(job, process).filter(request -> isNotVisited(job, request));
         } catch (RuntimeException e) {
             markJobInError(job, e, JOB_EXECUTION_FAILED);
             return;
@@ -194,9 +198,13 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
             return;
         }
 
-        jobStore.completeTransferProcess(job.getJobIdString(), process);
+        try {
+            jobStore.completeTransferProcess(job.getJobIdString(), process);
 
-        callCompleteHandlerIfFinished(job.getJobIdString());
+            callCompleteHandlerIfFinished(job.getJobIdString());
+        } catch (JobException e) {
+            markJobInError(job, e, JOB_EXECUTION_FAILED);
+        }
     }
 
     @IrsTimer("cleancompletedjobs")
@@ -226,7 +234,17 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
         log.info("Deleted {} failed jobs", multiTransferJobs.size());
     }
 
+    private boolean isNotVisited(final MultiTransferJob job, final T request) {
+        final boolean notVisited = visitedNodes.visit(job.getJobIdString(), request);
+        if (!notVisited) {
+            log.debug("Skipping transfer for already requested node {} in job {}", request.getNodeKey().orElse(null),
+                    job.getJobIdString());
+        }
+        return notVisited;
+    }
+
     private List<MultiTransferJob> deleteJobs(final List<MultiTransferJob> jobs) {
+        jobs.forEach(job -> visitedNodes.remove(job.getJobIdString()));
         final List<MultiTransferJob> deletedJobs = jobs.stream()
                                                        .map(job -> jobStore.deleteJob(job.getJobIdString()))
                                                        .flatMap(Optional::stream)
@@ -236,10 +254,8 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
     }
 
     private void callCompleteHandlerIfFinished(final String jobId) {
-        synchronized (jobCompletionSyncObject) {
-            jobStore.completeJob(jobId, this::completeJob);
-            publishJobProcessingFinishedEventIfFinished(jobId);
-        }
+        jobStore.completeJob(jobId, this::completeJob);
+        publishJobProcessingFinishedEventIfFinished(jobId);
     }
 
     private void completeJob(final MultiTransferJob job) {
@@ -260,6 +276,7 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
     private void publishJobProcessingFinishedEventIfFinished(final String jobId) {
         jobStore.find(jobId).ifPresentOrElse(job -> {
             if (JobState.COMPLETED.equals(job.getJob().getState()) || JobState.ERROR.equals(job.getJob().getState())) {
+                visitedNodes.remove(jobId);
                 log.info("Publishing JobProcessingFinishedEvent for job '{}' with status '{}'.", job.getJobIdString(),
                         job.getJob().getState());
                 applicationEventPublisher.publishEvent(
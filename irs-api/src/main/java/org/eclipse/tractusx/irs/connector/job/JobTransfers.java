@@ -0,0 +1,102 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * Bookkeeping of the transfers of one job: the IDs of the transfers which are still running and slim records of
+ * the completed ones. All snapshots of a job built from each other via {@link MultiTransferJob#toBuilder()} share
+ * the same instance, so recording a transfer does not copy the collections of the job. All operations are
+ * synchronized, so a completed transfer is moved from the running to the completed transfers in one step, and
+ * {@link #copy()} provides a consistent copy to persist.
+ */
+@ToString
+@JsonIgnoreType
+/* package */ final class JobTransfers {
+
+    private final Set<String> runningTransferIds = new LinkedHashSet<>();
+
+    private final List<TransferProcess> completedTransfers = new ArrayList<>();
+
+    /* package */ synchronized void start(final String processId) {
+        runningTransferIds.add(processId);
+    }
+
+    /* package */ synchronized void startAll(final Collection<String> processIds) {
+        runningTransferIds.addAll(processIds);
+    }
+
+    /* package */ synchronized void complete(final TransferProcess process) {
+        completedTransfers.add(new CompletedTransfer(process.getId()));
+        runningTransferIds.remove(process.getId());
+    }
+
+    /* package */ synchronized void completeAll(final Collection<? extends TransferProcess> processes) {
+        processes.forEach(this::complete);
+    }
+
+    /**
+     * @return an independent copy of the running and completed transfers
+     */
+    /* package */ synchronized JobTransfers copy() {
+        final JobTransfers copy = new JobTransfers();
+        copy.runningTransferIds.addAll(runningTransferIds);
+        copy.completedTransfers.addAll(completedTransfers);
+        return copy;
+    }
+
+    /* package */ synchronized Set<String> getRunningTransferIds() {
+        return Set.copyOf(runningTransferIds);
+    }
+
+    /* package */ synchronized int countRunningTransfersWithout(final String processId) {
+        final int running = runningTransferIds.size();
+        return runningTransferIds.contains(processId) ? running - 1 : running;
+    }
+
+    /* package */ synchronized List<TransferProcess> getCompletedTransfers() {
+        return List.copyOf(completedTransfers);
+    }
+
+    /* package */ synchronized List<String> getCompletedTransferIds() {
+        return completedTransfers.stream().map(TransferProcess::getId).toList();
+    }
+
+    /* package */ synchronized int getCompletedTransferCount() {
+        return completedTransfers.size();
+    }
+
+    /**
+     * Slim record of a completed transfer, keeping only the ID under which its result is stored.
+     */
+    @Value
+    /* package */ static class CompletedTransfer implements TransferProcess {
+        @SuppressWarnings("PMD.ShortVariable")
+        private String id;
+    }
+}
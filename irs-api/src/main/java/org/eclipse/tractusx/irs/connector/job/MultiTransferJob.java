@@ -29,10 +29,8 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -41,7 +39,6 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Singular;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Job;
@@ -52,6 +49,10 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Entity for recursive jobs that potentially comprise multiple transfers.
+ * <p>
+ * The transfers are tracked in a {@link JobTransfers} instance which is shared between all snapshots built from each
+ * other, so adding or completing a transfer takes constant time regardless of the size of the job. Use
+ * {@link #snapshot()} to obtain a copy which is not affected by later transfer changes, e.g. to persist the job.
  */
 @ToString
 @Builder(toBuilder = true)
@@ -60,10 +61,9 @@ import org.jetbrains.annotations.Nullable;
 public class MultiTransferJob {
 
     /**
-     * Collection of transfer IDs that have not yet completed for the job.
+     * The running and completed transfers of the job.
      */
-    @Singular
-    private final Set<String> transferProcessIds;
+    private final JobTransfers transfers;
     /**
      * The attached job.
      */
@@ -75,15 +75,54 @@ public class MultiTransferJob {
     @Getter
     private Optional<UUID> batchId;
 
+    /* package */ MultiTransferJob(final JobTransfers transfers, @NonNull final Job job,
+            final Optional<UUID> batchId) {
+        this.transfers = transfers == null ? new JobTransfers() : transfers;
+        this.job = job;
+        this.batchId = batchId;
+    }
+
     /**
-     * Collection of transfers that have completed for the job.
+     * @return the IDs of the transfers that have not yet completed for the job
      */
-    @Getter
-    @Singular
-    private List<TransferProcess> completedTransfers;
-
     public Collection<String> getTransferProcessIds() {
-        return Collections.unmodifiableSet(this.transferProcessIds);
+        return transfers.getRunningTransferIds();
+    }
+
+    /**
+     * @return the transfers that have completed for the job
+     */
+    public List<TransferProcess> getCompletedTransfers() {
+        return transfers.getCompletedTransfers();
+    }
+
+    @JsonIgnore
+    public List<String> getCompletedTransferIds() {
+        return transfers.getCompletedTransferIds();
+    }
+
+    @JsonIgnore
+    public int getCompletedTransferCount() {
+        return transfers.getCompletedTransferCount();
+    }
+
+    /* package */ int countRunningTransfersWithout(final String processId) {
+        return transfers.countRunningTransfersWithout(processId);
+    }
+
+    /* package */ void startTransferProcess(final String processId) {
+        transfers.start(processId);
+    }
+
+    /* package */ void completeTransferProcess(final TransferProcess process) {
+        transfers.complete(process);
+    }
+
+    /**
+     * @return a copy of this job which owns a consistent copy of the transfers
+     */
+    /* package */ MultiTransferJob snapshot() {
+        return toBuilder().transfers(transfers.copy()).build();
     }
 
     @JsonIgnore
@@ -120,6 +159,37 @@ public class MultiTransferJob {
      */
     @JsonPOJOBuilder(withPrefix = "")
     public static class MultiTransferJobBuilder {
+
+        /**
+         * Add the IDs of transfers which have not yet completed.
+         *
+         * @param transferProcessIds the IDs of the started transfers
+         * @return this builder
+         */
+        public MultiTransferJobBuilder transferProcessIds(final Collection<String> transferProcessIds) {
+            getOrCreateTransfers().startAll(transferProcessIds);
+            return this;
+        }
+
+        /**
+         * Add transfers which have completed.
+         *
+         * @param completedTransfers the completed transfers
+         * @return this builder
+         */
+        public MultiTransferJobBuilder completedTransfers(
+                final Collection<? extends TransferProcess> completedTransfers) {
+            getOrCreateTransfers().completeAll(completedTransfers);
+            return this;
+        }
+
+        private JobTransfers getOrCreateTransfers() {
+            if (this.transfers == null) {
+                this.transfers = new JobTransfers();
+            }
+            return this.transfers;
+        }
+
         /**
          * Transition the job to the {@link JobState#INITIAL} state.
          */
@@ -25,14 +25,19 @@ package org.eclipse.tractusx.irs.connector.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
@@ -42,10 +47,16 @@ import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * Stores Job data using persistent blob storage.
+ * <p>
+ * Jobs which are processed by this instance are kept in memory as the authoritative state. State transitions are
+ * written through to the blob store immediately, while intermediate progress (added and completed transfers) is
+ * only marked dirty and written behind by a periodic checkpoint. After a restart, jobs are read again from the last
+ * checkpoint in the blob store. Jobs in a final state are evicted from memory once they have been persisted.
  */
 @Service
 @Slf4j
@@ -60,8 +71,13 @@ public class PersistentJobStore extends BaseJobStore {
 
     private final JsonUtil json = new JsonUtil();
 
+    private static final Set<JobState> FINAL_STATES = EnumSet.of(JobState.COMPLETED, JobState.ERROR,
+            JobState.CANCELED);
+
     private final MeterRegistryService meterService;
 
+    private final Map<String, CheckpointedJob> activeJobs = new ConcurrentHashMap<>();
+
     public PersistentJobStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
             final MeterRegistryService meterService) {
         super();
@@ -71,6 +87,14 @@ public class PersistentJobStore extends BaseJobStore {
 
     @Override
     protected Optional<MultiTransferJob> get(final String jobId) {
+        final CheckpointedJob activeJob = activeJobs.get(jobId);
+        if (activeJob != null) {
+            return Optional.of(activeJob.getJob());
+        }
+        return load(jobId);
+    }
+
+    private Optional<MultiTransferJob> load(final String jobId) {
         try {
             return blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
         } catch (BlobPersistenceException e) {
@@ -101,7 +125,13 @@ public class PersistentJobStore extends BaseJobStore {
     protected Collection<MultiTransferJob> getAll() {
         try {
             final Collection<byte[]> allBlobs = blobStore.findBlobByPrefix(JOB_PREFIX);
-            return allBlobs.stream().map(this::toJob).flatMap(Optional::stream).toList();
+            final Map<String, MultiTransferJob> jobs = new LinkedHashMap<>();
+            allBlobs.stream()
+                    .map(this::toJob)
+                    .flatMap(Optional::stream)
+                    .forEach(job -> jobs.put(job.getJobIdString(), job));
+            activeJobs.forEach((jobId, activeJob) -> jobs.put(jobId, activeJob.getJob()));
+            return jobs.values();
         } catch (BlobPersistenceException e) {
             log.error("Cannot search for jobs in blobstore", e);
             return Collections.emptyList();
@@ -110,25 +140,69 @@ public class PersistentJobStore extends BaseJobStore {
 
     @Override
     protected void put(final String jobId, final MultiTransferJob job) {
-        final byte[] blob = toBlob(job);
-        try {
-            if (!isLastStateSameAsCurrentState(jobId, job.getJob().getState())) {
-                meterService.recordJobStateMetric(job.getJob().getState());
+        final JobState state = job.getJob().getState();
+        final CheckpointedJob knownJob = activeJobs.get(jobId);
+        final boolean isNewJob = knownJob == null;
+        final JobState lastState = isNewJob ? load(jobId).map(stored -> stored.getJob().getState()).orElse(null)
+                : knownJob.getJob().getJob().getState();
+
+        final CheckpointedJob activeJob = isNewJob ? activeJobs.computeIfAbsent(jobId, id -> new CheckpointedJob(job))
+                : knownJob;
+        activeJob.update(job);
+
+        final boolean isFinalState = FINAL_STATES.contains(state);
+        if (state != lastState) {
+            meterService.recordJobStateMetric(state);
+        } else if (!isFinalState) {
+            return;
+        }
+
+        if (!write(jobId, activeJob)) {
+            if (isNewJob) {
+                activeJobs.remove(jobId, activeJob);
+            }
+        } else if (isFinalState) {
+            activeJobs.remove(jobId, activeJob);
+        }
+    }
+
+    /**
+     * Writes the progress of all jobs which changed since the last checkpoint to the blob store.
+     */
+    @Scheduled(fixedDelayString = "${irs.job.jobstore.checkpointInterval:PT5S}")
+    @PreDestroy
+    public void checkpoint() {
+        activeJobs.forEach((jobId, activeJob) -> {
+            if (activeJob.isDirty()) {
+                write(jobId, activeJob);
+            }
+        });
+    }
+
+    private boolean write(final String jobId, final CheckpointedJob activeJob) {
+        synchronized (activeJob) {
+            try {
+                blobStore.putBlob(toBlobId(jobId), toBlob(activeJob.getJob()));
+                activeJob.markClean();
+                return true;
+            } catch (BlobPersistenceException e) {
+                log.error("Cannot write job {} to BlobStore", jobId, e);
+                return false;
             }
-            blobStore.putBlob(toBlobId(jobId), blob);
-        } catch (BlobPersistenceException e) {
-            log.error("Cannot create job in BlobStore", e);
         }
     }
 
     @Override
     protected Optional<MultiTransferJob> remove(final String jobId) {
         try {
-            final Optional<MultiTransferJob> job = blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+            final CheckpointedJob activeJob = activeJobs.remove(jobId);
+            final Optional<MultiTransferJob> job = activeJob == null
+                    ? blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob)
+                    : Optional.of(activeJob.getJob());
 
             if (job.isPresent()) {
                 final List<String> ids = Stream.concat(job.get().getTransferProcessIds().stream(),
-                                                       job.get().getCompletedTransfers().stream().map(TransferProcess::getId))
+                                                       job.get().getCompletedTransferIds().stream())
                                                .collect(Collectors.toList());
                 ids.add(jobId);
 
@@ -142,7 +216,7 @@ public class PersistentJobStore extends BaseJobStore {
 
     private Optional<MultiTransferJob> toJob(final byte[] blob) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), MultiTransferJob.class));
+            return Optional.of(json.fromBytes(blob, MultiTransferJob.class));
         } catch (JsonParseException exception) {
             log.warn("Stored Job could not be parsed to Job object.");
             return Optional.empty();
@@ -151,7 +225,7 @@ public class PersistentJobStore extends BaseJobStore {
 
     private Optional<ItemContainer> toItemContainer(final byte[] blob) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), ItemContainer.class));
+            return Optional.of(json.fromBytes(blob, ItemContainer.class));
         } catch (JsonParseException exception) {
             log.warn("Stored Blob could not be parsed to ItemContainer object.");
             return Optional.empty();
@@ -159,17 +233,43 @@ public class PersistentJobStore extends BaseJobStore {
     }
 
     private byte[] toBlob(final MultiTransferJob job) {
-        final String jobString = this.json.asString(job);
-        return jobString.getBytes(StandardCharsets.UTF_8);
+        return this.json.asBytes(job.snapshot());
     }
 
     private String toBlobId(final String jobId) {
         return JOB_PREFIX + jobId;
     }
 
-    private boolean isLastStateSameAsCurrentState(final String jobId, final JobState state) {
-        final Optional<MultiTransferJob> optJob = get(jobId);
-        return optJob.isPresent() && optJob.get().getJob().getState().equals(state);
+    /**
+     * In-memory state of a job together with the information whether it has been written to the blob store since
+     * its last modification.
+     */
+    private static final class CheckpointedJob {
+
+        private MultiTransferJob job;
+        private boolean dirty;
+
+        CheckpointedJob(final MultiTransferJob job) {
+            this.job = job;
+            this.dirty = true;
+        }
+
+        synchronized MultiTransferJob getJob() {
+            return job;
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        synchronized void update(final MultiTransferJob job) {
+            this.job = job;
+            this.dirty = true;
+        }
+
+        synchronized void markClean() {
+            this.dirty = false;
+        }
     }
 
 }
@@ -0,0 +1,142 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.util.HashUtils;
+
+/**
+ * Per-job index of the nodes that have already been requested. Used by the {@link JobOrchestrator}
+ * to avoid fetching shared subtrees once per occurrence and to stop cycles in the item graph
+ * from producing an unbounded number of transfers.
+ * <p>
+ * Node keys are stored as 64-bit hashes together with the shallowest depth at which the node
+ * was requested, so that a node first seen deep in the tree is still traversed again if it
+ * later shows up closer to the root (and therefore has more remaining depth).
+ * The index lives in memory next to the orchestrator and therefore works independently of the
+ * {@link JobStore} implementation.
+ */
+@Slf4j
+public class VisitedNodeIndex {
+
+    private final Map<String, NodeTable> nodesByJobId = new ConcurrentHashMap<>();
+
+    /**
+     * Marks the node of the given request as visited for the job.
+     *
+     * @param jobId   the job identifier
+     * @param request the request to check
+     * @return true if the node has not been requested before at the same or a lower depth
+     * and must be processed, false if the request is a duplicate
+     */
+    public boolean visit(final String jobId, final DataRequest request) {
+        return request.getNodeKey()
+                      .map(key -> nodesByJobId.computeIfAbsent(jobId, id -> new NodeTable())
+                                              .visit(hash(key), request.getNodeDepth()))
+                      .orElse(true);
+    }
+
+    /**
+     * @param jobId the job identifier
+     * @return number of distinct nodes visited by the job
+     */
+    public int size(final String jobId) {
+        final NodeTable table = nodesByJobId.get(jobId);
+        return table == null ? 0 : table.size();
+    }
+
+    /**
+     * Releases the index of a job which will not start any further transfers.
+     *
+     * @param jobId the job identifier
+     */
+    public void remove(final String jobId) {
+        final NodeTable removed = nodesByJobId.remove(jobId);
+        if (removed != null) {
+            log.debug("Released visited node index of job {} with {} nodes", jobId, removed.size());
+        }
+    }
+
+    private static long hash(final String key) {
+        final long hash = HashUtils.fnv1a64(key);
+        return hash == 0 ? 1 : hash; // 0 marks free slots
+    }
+
+    /**
+     * Open addressing hash table of node hashes to depth, using primitive arrays
+     * to keep the footprint small for jobs with hundreds of thousands of nodes.
+     */
+    private static final class NodeTable {
+
+        private static final int INITIAL_CAPACITY = 64;
+        private static final float LOAD_FACTOR = 0.6f;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] depths = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private synchronized boolean visit(final long key, final int depth) {
+            final int slot = slotOf(keys, key);
+            if (keys[slot] == key) {
+                if (depth < depths[slot]) {
+                    depths[slot] = depth;
+                    return true;
+                }
+                return false;
+            }
+            keys[slot] = key;
+            depths[slot] = depth;
+            size++;
+            if (size > keys.length * LOAD_FACTOR) {
+                grow();
+            }
+            return true;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private void grow() {
+            final long[] oldKeys = keys;
+            final int[] oldDepths = depths;
+            keys = new long[oldKeys.length * 2];
+            depths = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    final int slot = slotOf(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    depths[slot] = oldDepths[i];
+                }
+            }
+        }
+
+        private static int slotOf(final long[] table, final long key) {
+            final int mask = table.length - 1;
+            int slot = Long.hashCode(key) & mask;
+            while (table[slot] != 0 && table[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
@@ -25,7 +25,6 @@ package org.eclipse.tractusx.irs.services;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -67,7 +66,6 @@ import org.eclipse.tractusx.irs.connector.job.JobOrchestrator;
 import org.eclipse.tractusx.irs.connector.job.JobStore;
 import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
-import org.eclipse.tractusx.irs.connector.job.TransferProcess;
 import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
@@ -256,7 +254,7 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
         return Jobs.builder()
                    .job(multiJob.getJob()
                                 .toBuilder()
-                                .summary(buildSummary(multiJob.getCompletedTransfers().size(),
+                                .summary(buildSummary(multiJob.getCompletedTransferCount(),
                                         multiJob.getTransferProcessIds().size(), tombstones.size()))
                                 .build())
                    .relationships(relationships)
@@ -297,8 +295,7 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
     }
 
     private ItemContainer retrievePartialResults(final MultiTransferJob multiJob) {
-        final List<TransferProcess> completedTransfers = multiJob.getCompletedTransfers();
-        final List<String> transferIds = completedTransfers.stream().map(TransferProcess::getId).toList();
+        final List<String> transferIds = multiJob.getCompletedTransferIds();
 
         final var relationships = new ArrayList<Relationship>();
         final var tombstones = new ArrayList<Tombstone>();
@@ -336,7 +333,7 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
     }
 
     private ItemContainer toItemContainer(final byte[] blob) {
-        return new JsonUtil().fromString(new String(blob, StandardCharsets.UTF_8), ItemContainer.class);
+        return new JsonUtil().fromBytes(blob, ItemContainer.class);
     }
 
     private ItemContainer retrieveJobResultRelationships(final UUID jobId) {
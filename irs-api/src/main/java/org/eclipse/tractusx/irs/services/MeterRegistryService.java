@@ -46,6 +46,7 @@ public class MeterRegistryService {
     private static final String JOB_STATE_TAG = "jobstate";
     private static final String JOB_TIMER_TAG = "jobtimer";
     private static final String JOB_SNAPSHOT_TAG = "jobsnapshot";
+    private static final String CACHE_TAG = "cache";
 
     private final AtomicLong numbersOfJobsInJobStore = new AtomicLong();
     private final AtomicLong jobExecutionDuration = new AtomicLong();
@@ -209,4 +210,28 @@ public class MeterRegistryService {
     public JobMetrics getJobMetric() {
         return jobMetrics;
     }
+
+    public void incrementResultCacheHit(final String cacheName) {
+        Counter.builder("cache.item.result.hit")
+               .description("Number of item results answered from the cache")
+               .tag(CACHE_TAG, cacheName)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    public void incrementResultCacheMiss(final String cacheName) {
+        Counter.builder("cache.item.result.miss")
+               .description("Number of item results not found in the cache")
+               .tag(CACHE_TAG, cacheName)
+               .register(meterRegistry)
+               .increment();
+    }
+
+    public void incrementResultCacheEviction(final String cacheName) {
+        Counter.builder("cache.item.result.eviction")
+               .description("Number of item results evicted from the cache")
+               .tag(CACHE_TAG, cacheName)
+               .register(meterRegistry)
+               .increment();
+    }
 }
@@ -24,8 +24,11 @@
 package org.eclipse.tractusx.irs.services.validation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.networknt.schema.InputFormat;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
@@ -38,11 +41,15 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service to validate JSON payloads against JSON schemas.
+ * Compiled schemas are cached by their content, as the same few schemas are used for all payloads.
  */
 @Service
 @Slf4j
 public class JsonValidatorService {
+    private static final int MAX_CACHED_SCHEMAS = 500;
+
     private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    private final Map<String, JsonSchema> compiledSchemas = new ConcurrentHashMap<>();
 
     /**
      * Validate the payload against the schema.
@@ -69,6 +76,40 @@ public class JsonValidatorService {
         }
     }
 
+    /**
+     * Validate the already parsed payload against the schema.
+     *
+     * @param jsonSchema  the JSON schema
+     * @param jsonPayload the parsed JSON payload to validate
+     * @return the validation result, containing the validation errors if applicable
+     */
+    public ValidationResult validate(final String jsonSchema, final JsonNode jsonPayload)
+            throws InvalidSchemaException {
+        log.trace("Trying to validate JSON ({}) with schema ({})", jsonPayload, jsonSchema);
+
+        final JsonSchema schema = loadSchema(jsonSchema);
+
+        try {
+            final Set<ValidationMessage> errors = schema.validate(jsonPayload);
+            return createValidationResult(errors.stream().map(ValidationMessage::getMessage).toList());
+
+        } catch (final IllegalStateException e) {
+            log.warn("Unable to validate JSON payload ({})", jsonPayload, e);
+            return ValidationResult.builder()
+                                   .valid(false)
+                                   .validationError("Illegal JSON payload, cannot be validated")
+                                   .build();
+        }
+    }
+
+    /**
+     * Clearing the compiled schemas, so changed schemas are compiled again.
+     */
+    public void evictSchemaCache() {
+        log.debug("Clearing compiled JSON schemas.");
+        compiledSchemas.clear();
+    }
+
     private ValidationResult createValidationResult(final List<String> errors) {
         if (errors.isEmpty()) {
             log.debug("Validation was successful");
@@ -80,6 +121,22 @@ public class JsonValidatorService {
     }
 
     private JsonSchema loadSchema(final String jsonSchema) throws InvalidSchemaException {
+        if (jsonSchema == null) {
+            return compileSchema(null);
+        }
+        final JsonSchema cachedSchema = compiledSchemas.get(jsonSchema);
+        if (cachedSchema != null) {
+            return cachedSchema;
+        }
+        final JsonSchema schema = compileSchema(jsonSchema);
+        if (compiledSchemas.size() >= MAX_CACHED_SCHEMAS) {
+            compiledSchemas.clear();
+        }
+        compiledSchemas.put(jsonSchema, schema);
+        return schema;
+    }
+
+    private JsonSchema compileSchema(final String jsonSchema) throws InvalidSchemaException {
         try {
             return factory.getSchema(jsonSchema);
         } catch (final JsonSchemaException e) {
@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utilities for hashing
+ */
+public final class HashUtils {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private HashUtils() {
+        // private constructor, utility class
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the UTF-8 bytes of the value. It is used to deduplicate large amounts of
+     * strings within a single job without keeping the strings themselves.
+     *
+     * @param value the value to hash
+     * @return the hash
+     */
+    public static long fnv1a64(final String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= Byte.toUnsignedInt(b);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
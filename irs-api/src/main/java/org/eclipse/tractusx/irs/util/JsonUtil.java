@@ -23,12 +23,16 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.util;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -88,6 +92,22 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Serialize an object as UTF-8 encoded JSON bytes, without building an intermediate {@link String}.
+     *
+     * @param input the object to serialize.
+     * @return the JSON representation of the object
+     * @throws RuntimeException on serialization error.
+     */
+    public byte[] asBytes(final Object input) {
+        try {
+            return MAPPER.writeValueAsBytes(input);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing payload", e);
+            throw new JsonParseException(e);
+        }
+    }
+
     /**
      * Serialize an object as a Map {@link Map}.
      *
@@ -114,4 +134,64 @@ public class JsonUtil {
             throw new JsonParseException(e);
         }
     }
+
+    /**
+     * Deserialize an object from UTF-8 encoded JSON bytes.
+     *
+     * @param input the JSON bytes to deserialize.
+     * @param type  the type to return.
+     * @param <T>   the type to return.
+     * @return deserialized object.
+     * @throws RuntimeException on deserialization error.
+     */
+    public <T> T fromBytes(final byte[] input, final Class<T> type) {
+        try {
+            return MAPPER.readValue(input, type);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Parse a JSON {@link String} into a tree.
+     *
+     * @param input the JSON to parse.
+     * @return the root node of the tree.
+     * @throws RuntimeException on parse error.
+     */
+    public JsonNode readTree(final String input) {
+        try {
+            return MAPPER.readTree(input);
+        } catch (JsonProcessingException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Deserialize an object from an already parsed JSON tree.
+     *
+     * @param input the tree to deserialize.
+     * @param type  the type to return.
+     * @param <T>   the type to return.
+     * @return deserialized object.
+     * @throws RuntimeException on deserialization error.
+     */
+    public <T> T fromTree(final JsonNode input, final Class<T> type) {
+        try {
+            return MAPPER.treeToValue(input, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Create a generator writing JSON to a stream, using the configuration of this mapper for objects.
+     *
+     * @param output the stream to write to.
+     * @return the generator.
+     * @throws IOException if the generator cannot be created.
+     */
+    public JsonGenerator createGenerator(final OutputStream output) throws IOException {
+        return MAPPER.getFactory().createGenerator(output);
+    }
 }
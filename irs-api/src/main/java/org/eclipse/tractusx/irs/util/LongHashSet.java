@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.util;
+
+/**
+ * Minimal open addressing hash set of primitive long values.
+ * Used to deduplicate large amounts of items by a 64-bit hash without keeping the items themselves.
+ * Not thread-safe.
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] values;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this.values = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value
+     * @return true if the value was not contained before
+     */
+    public boolean add(final long value) {
+        if (value == 0) {
+            final boolean added = !containsZero;
+            containsZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        if (insert(values, value)) {
+            size++;
+            if (size > values.length * LOAD_FACTOR) {
+                grow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param value the value
+     * @return true if the value is contained in the set
+     */
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        final int mask = values.length - 1;
+        int index = mix(value) & mask;
+        while (values[index] != 0) {
+            if (values[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        final long[] grown = new long[values.length * 2];
+        for (final long value : values) {
+            if (value != 0) {
+                insert(grown, value);
+            }
+        }
+        values = grown;
+    }
+
+    private static boolean insert(final long[] table, final long value) {
+        final int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != 0) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    private static int mix(final long value) {
+        final long mixed = value * 0x9E3779B97F4A7C15L;
+        return Long.hashCode(mixed);
+    }
+}
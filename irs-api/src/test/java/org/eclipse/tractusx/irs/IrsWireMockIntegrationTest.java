@@ -185,6 +185,7 @@ class IrsWireMockIntegrationTest {
         registry.add("digitalTwinRegistry.lookupShellsTemplate", () -> LOOKUP_SHELLS_TEMPLATE);
         registry.add("digitalTwinRegistry.type", () -> "decentral");
         registry.add("digitalTwinRegistry.cacheEdcUrls", () -> "true");
+        registry.add("irs.job.cache.enabled", () -> false);
         registry.add("semanticshub.url", () -> SEMANTIC_HUB_URL);
         registry.add("semanticshub.modelJsonSchemaEndpoint", () -> SemanticHubWireMockSupport.SEMANTIC_HUB_SCHEMA_URL);
         registry.add("semanticshub.defaultUrns", () -> "");
@@ -199,6 +200,7 @@ class IrsWireMockIntegrationTest {
         registry.add("irs-edc-client.controlplane.api-key.header", () -> "X-Api-Key");
         registry.add("irs-edc-client.controlplane.api-key.secret", () -> "test");
         registry.add("irs-edc-client.controlplane.orchestration.thread-pool-size", () -> "2");
+        registry.add("irs-edc-client.controlplane.catalog-cache.ttl", () -> "PT0S");
         registry.add("resilience4j.retry.configs.default.waitDuration", () -> "1s");
     }
 
@@ -29,13 +29,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.tractusx.irs.InMemoryBlobStore;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
+import org.eclipse.tractusx.irs.common.util.concurrent.KeyedPermits;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferInitiateResponse;
 import org.eclipse.tractusx.irs.util.JsonUtil;
@@ -83,4 +89,84 @@ class AASTransferProcessManagerTest {
         assertThat(initiateResponse.getStatus()).isEqualTo(ResponseStatus.OK);
     }
 
+    @Test
+    void shouldCompleteTransferWhenProcessingFails() throws Exception {
+        // given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+        final AASTransferProcessManager asyncManager = new AASTransferProcessManager(digitalTwinProcessor, executor,
+                blobStore, new JsonUtil(), new KeyedPermits(1));
+        when(digitalTwinProcessor.processAsync(any(), any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new IllegalStateException("test")));
+        final ItemDataRequest itemDataRequest = ItemDataRequest.rootNode(
+                PartChainIdentificationKey.builder().globalAssetId(UUID.randomUUID().toString()).bpn("bpn123").build());
+        final CompletableFuture<AASTransferProcess> completed = new CompletableFuture<>();
+
+        // when
+        final TransferInitiateResponse response = asyncManager.initiateRequest(itemDataRequest, s -> {
+        }, completed::complete, jobParameter(), "jobId");
+
+        // then
+        assertThat(completed.get(5, TimeUnit.SECONDS).getId()).isEqualTo(response.getTransferId());
+        final ItemContainer itemContainer = new JsonUtil().fromBytes(
+                blobStore.getBlob(response.getTransferId()).orElseThrow(), ItemContainer.class);
+        assertThat(itemContainer.getTombstones()).hasSize(1);
+        assertThat(itemContainer.getTombstones().get(0).getCatenaXId()).isEqualTo(
+                itemDataRequest.getItemId().getGlobalAssetId());
+        assertThat(itemContainer.getTombstones().get(0).getProcessingError().getProcessStep()).isEqualTo(
+                ProcessStep.DIGITAL_TWIN_REQUEST);
+        assertThat(itemContainer.getTombstones().get(0).getProcessingError().getErrorDetail()).isEqualTo("test");
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldCompleteTransferWhenProcessingThrows() throws Exception {
+        // given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+        final AASTransferProcessManager asyncManager = new AASTransferProcessManager(digitalTwinProcessor, executor,
+                blobStore, new JsonUtil(), new KeyedPermits(1));
+        when(digitalTwinProcessor.processAsync(any(), any(), any(), any(), any())).thenThrow(
+                new IllegalStateException("test"));
+        final ItemDataRequest itemDataRequest = ItemDataRequest.rootNode(
+                PartChainIdentificationKey.builder().globalAssetId(UUID.randomUUID().toString()).bpn("bpn123").build());
+        final CompletableFuture<AASTransferProcess> completed = new CompletableFuture<>();
+
+        // when
+        final TransferInitiateResponse response = asyncManager.initiateRequest(itemDataRequest, s -> {
+        }, completed::complete, jobParameter(), "jobId");
+
+        // then
+        assertThat(completed.get(5, TimeUnit.SECONDS).getId()).isEqualTo(response.getTransferId());
+        final ItemContainer itemContainer = new JsonUtil().fromBytes(
+                blobStore.getBlob(response.getTransferId()).orElseThrow(), ItemContainer.class);
+        assertThat(itemContainer.getTombstones()).hasSize(1);
+        assertThat(itemContainer.getTombstones().get(0).getProcessingError().getErrorDetail()).isEqualTo("test");
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldReleasePermitWhenCompletingTransferFails() throws Exception {
+        // given
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AASTransferProcessManager asyncManager = new AASTransferProcessManager(digitalTwinProcessor, executor,
+                new InMemoryBlobStore(), new JsonUtil(), new KeyedPermits(1));
+        when(digitalTwinProcessor.processAsync(any(), any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new IllegalStateException("test")));
+        final ItemDataRequest itemDataRequest = ItemDataRequest.rootNode(
+                PartChainIdentificationKey.builder().globalAssetId(UUID.randomUUID().toString()).bpn("bpn123").build());
+        final CompletableFuture<AASTransferProcess> completed = new CompletableFuture<>();
+
+        // when
+        asyncManager.initiateRequest(itemDataRequest, s -> {
+        }, process -> {
+            throw new IllegalStateException("callback failed");
+        }, jobParameter(), "jobId");
+        asyncManager.initiateRequest(itemDataRequest, s -> {
+        }, completed::complete, jobParameter(), "jobId");
+
+        // then
+        assertThat(completed.get(5, TimeUnit.SECONDS)).isNotNull();
+        executor.shutdown();
+    }
 }
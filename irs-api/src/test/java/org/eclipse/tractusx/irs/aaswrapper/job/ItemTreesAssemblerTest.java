@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.GlobalAssetIdentification;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+class ItemTreesAssemblerTest {
+
+    private final JsonUtil jsonUtil = new JsonUtil();
+    private final ItemTreesAssembler sut = new ItemTreesAssembler(jsonUtil);
+
+    @Test
+    void shouldAssemblePartialGraphsWithDeduplicatedRelationships() throws IOException {
+        // arrange
+        final ItemContainer first = ItemContainer.builder()
+                                                 .relationship(relationship("urn:uuid:parent", "BPNL1"))
+                                                 .relationship(relationship("urn:uuid:child", "BPNL2"))
+                                                 .tombstone(Tombstone.builder().catenaXId("urn:uuid:broken").build())
+                                                 .bpn(Bpn.withManufacturerId("BPNL1").updateManufacturerName("OEM"))
+                                                 .build();
+        final ItemContainer second = ItemContainer.builder()
+                                                  .relationship(relationship("urn:uuid:child", "BPNL2"))
+                                                  .relationship(relationship("urn:uuid:grandchild", "BPNL3"))
+                                                  .bpn(Bpn.withManufacturerId("BPNL1").updateManufacturerName("OEM"))
+                                                  .bpn(Bpn.withManufacturerId("BPNL2"))
+                                                  .build();
+
+        // act
+        final long length;
+        final byte[] serialized;
+        try (AssembledItemGraph graph = sut.retrieveItemGraph(Stream.of(first, second));
+             InputStream stream = graph.openStream()) {
+            serialized = stream.readAllBytes();
+            length = graph.getLength();
+        }
+        final ItemContainer result = jsonUtil.fromBytes(serialized, ItemContainer.class);
+
+        // assert
+        assertThat(length).isEqualTo(serialized.length);
+        assertThat(result.getRelationships()).extracting(Relationship::getBpn)
+                                             .containsExactly("BPNL1", "BPNL2", "BPNL3");
+        assertThat(result.getTombstones()).hasSize(1);
+        assertThat(result.getShells()).isEmpty();
+        assertThat(result.getSubmodels()).isEmpty();
+        assertThat(result.getBpns()).extracting(Bpn::getManufacturerId).containsExactly("BPNL1");
+    }
+
+    @Test
+    void shouldAssembleEmptyGraph() throws IOException {
+        try (AssembledItemGraph graph = sut.retrieveItemGraph(Stream.empty());
+             InputStream stream = graph.openStream()) {
+            final ItemContainer result = jsonUtil.fromBytes(stream.readAllBytes(), ItemContainer.class);
+
+            assertThat(result.getRelationships()).isEmpty();
+            assertThat(result.getBpns()).isEmpty();
+        }
+    }
+
+    private static Relationship relationship(final String catenaXId, final String bpn) {
+        return Relationship.builder()
+                           .catenaXId(GlobalAssetIdentification.of(catenaXId))
+                           .aspectType("SingleLevelBomAsBuilt")
+                           .bpn(bpn)
+                           .build();
+    }
+}
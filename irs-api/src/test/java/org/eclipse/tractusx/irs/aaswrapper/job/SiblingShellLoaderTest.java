@@ -0,0 +1,210 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.github.resilience4j.core.functions.Either;
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
+import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
+import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
+import org.junit.jupiter.api.Test;
+
+class SiblingShellLoaderTest {
+
+    private static final String JOB_ID = "job-id";
+
+    private final DigitalTwinRegistryService registryService = mock(DigitalTwinRegistryService.class);
+    private final SiblingShellLoader loader = new SiblingShellLoader(registryService, Duration.ofMinutes(1), 100,
+            Duration.ofMinutes(1));
+
+    @Test
+    void shouldFetchShellsOfSiblingsTogether() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        when(registryService.fetchShells(anyCollection())).thenReturn(
+                List.of(Either.right(shell("first")), Either.right(shell("second"))));
+
+        loader.register(JOB_ID, List.of(first, second));
+
+        assertThat(loader.fetchShell(first)).contains(shell("first"));
+        assertThat(loader.fetchShell(second)).contains(shell("second"));
+        verify(registryService, times(1)).fetchShells(anyCollection());
+        verify(registryService, never()).fetchShell(any());
+    }
+
+    @Test
+    void shouldFailWithErrorOfSiblingsIfNotFoundTogetherWithThem() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        final var failure = new RegistryServiceException("Unable to find shell ID for global asset ID 'second'");
+        when(registryService.fetchShells(anyCollection())).thenReturn(
+                List.of(Either.right(shell("first")), Either.left(failure)));
+
+        loader.register(JOB_ID, List.of(first, second));
+
+        assertThatThrownBy(() -> loader.fetchShell(second)).isInstanceOf(ShellNotFoundException.class)
+                                                           .hasSuppressedException(failure);
+        verify(registryService, never()).fetchShell(any());
+    }
+
+    @Test
+    void shouldFailAllSiblingsIfFetchingThemTogetherFailed() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        final var failure = new ShellNotFoundException("Unable to find any of the requested shells", List.of());
+        when(registryService.fetchShells(anyCollection())).thenThrow(failure);
+
+        loader.register(JOB_ID, List.of(first, second));
+
+        assertThatThrownBy(() -> loader.fetchShell(first)).isSameAs(failure);
+        assertThatThrownBy(() -> loader.fetchShell(second)).isSameAs(failure);
+        verify(registryService, times(1)).fetchShells(anyCollection());
+        verify(registryService, never()).fetchShell(any());
+    }
+
+    @Test
+    void shouldFetchShellOnItsOwnOnceTakenFromSiblings() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        when(registryService.fetchShells(anyCollection())).thenReturn(
+                List.of(Either.right(shell("first")), Either.right(shell("second"))));
+        when(registryService.fetchShell(first)).thenReturn(Optional.of(shell("first")));
+
+        loader.register(JOB_ID, List.of(first, second));
+        loader.fetchShell(first);
+
+        assertThat(loader.fetchShell(first)).contains(shell("first"));
+        verify(registryService).fetchShell(first);
+    }
+
+    @Test
+    void shouldFetchShellsOnTheirOwnIfSiblingsHaveDifferentProviders() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL2");
+        when(registryService.fetchShell(first)).thenReturn(Optional.of(shell("first")));
+
+        loader.register(JOB_ID, List.of(first, second));
+
+        assertThat(loader.fetchShell(first)).contains(shell("first"));
+        verify(registryService, never()).fetchShells(anyCollection());
+    }
+
+    @Test
+    void shouldNotFetchTogetherIfDisabled() throws RegistryServiceException {
+        final var disabledLoader = new SiblingShellLoader(registryService, Duration.ZERO, 100,
+                Duration.ofMinutes(1));
+        final var first = key("first", "BPNL1");
+        when(registryService.fetchShell(first)).thenReturn(Optional.of(shell("first")));
+
+        disabledLoader.register(JOB_ID, List.of(first, key("second", "BPNL1")));
+
+        assertThat(disabledLoader.fetchShell(first)).contains(shell("first"));
+        verify(registryService, never()).fetchShells(anyCollection());
+    }
+
+    @Test
+    void shouldFetchShellOnItsOwnIfJobFinishedBeforeItWasTaken() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        when(registryService.fetchShell(first)).thenReturn(Optional.of(shell("first")));
+        loader.register(JOB_ID, List.of(first, second));
+
+        loader.handleJobProcessingFinishedEvent(
+                new JobProcessingFinishedEvent(JOB_ID, "COMPLETED", null, Optional.empty()));
+
+        assertThat(loader.fetchShell(first)).contains(shell("first"));
+        verify(registryService, never()).fetchShells(anyCollection());
+    }
+
+    @Test
+    void shouldKeepRegistrationOfOtherJobWhenJobFinished() throws RegistryServiceException {
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        when(registryService.fetchShells(anyCollection())).thenReturn(
+                List.of(Either.right(shell("first")), Either.right(shell("second"))));
+        loader.register(JOB_ID, List.of(first, second));
+        loader.register("other-job-id", List.of(first, second));
+
+        loader.release(JOB_ID);
+
+        assertThat(loader.fetchShell(first)).contains(shell("first"));
+        verify(registryService, never()).fetchShell(any());
+    }
+
+    @Test
+    void shouldFetchShellOnItsOwnIfSiblingsAreNotFetchedInTime() throws Exception {
+        final var timingOutLoader = new SiblingShellLoader(registryService, Duration.ofMinutes(1), 100,
+                Duration.ofMillis(50));
+        final var first = key("first", "BPNL1");
+        final var second = key("second", "BPNL1");
+        final CountDownLatch fetchStarted = new CountDownLatch(1);
+        final CountDownLatch registryResponds = new CountDownLatch(1);
+        when(registryService.fetchShells(anyCollection())).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            registryResponds.await();
+            return List.of(Either.right(shell("first")), Either.right(shell("second")));
+        });
+        when(registryService.fetchShell(second)).thenReturn(Optional.of(shell("second")));
+        timingOutLoader.register(JOB_ID, List.of(first, second));
+
+        final var firstShell = CompletableFuture.supplyAsync(() -> {
+            try {
+                return timingOutLoader.fetchShell(first);
+            } catch (RegistryServiceException e) {
+                throw new CompletionException(e);
+            }
+        });
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(timingOutLoader.fetchShell(second)).contains(shell("second"));
+        verify(registryService).fetchShell(second);
+        registryResponds.countDown();
+        assertThat(firstShell.get(5, TimeUnit.SECONDS)).contains(shell("first"));
+    }
+
+    private static PartChainIdentificationKey key(final String globalAssetId, final String bpn) {
+        return PartChainIdentificationKey.builder().globalAssetId(globalAssetId).bpn(bpn).build();
+    }
+
+    private static Shell shell(final String globalAssetId) {
+        return new Shell("contractAgreementId",
+                AssetAdministrationShellDescriptor.builder().globalAssetId(globalAssetId).build());
+    }
+}
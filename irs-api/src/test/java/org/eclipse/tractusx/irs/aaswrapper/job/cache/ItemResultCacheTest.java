@@ -0,0 +1,132 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.irs.util.TestMother.shell;
+import static org.eclipse.tractusx.irs.util.TestMother.shellDescriptor;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItemResultCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final PartChainIdentificationKey itemId = PartChainIdentificationKey.builder()
+                                                                                .globalAssetId("urn:uuid:1")
+                                                                                .bpn("BPNL00000000TEST")
+                                                                                .build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = mock(Clock.class);
+
+    private ItemResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        cache = new ItemResultCache(Duration.ofMinutes(10), 1000, new MeterRegistryService(meterRegistry), clock);
+    }
+
+    @Test
+    void shouldReturnCachedSubmodelWithContractAgreement() {
+        final ItemResultCacheKey key = submodelKey("urn:aspect#SerialPart");
+        cache.putSubmodel(key, new SubmodelDescriptor("cid", "{\"test\":1}"));
+
+        assertThat(cache.getSubmodel(key)).hasValueSatisfying(submodel -> {
+            assertThat(submodel.getCid()).isEqualTo("cid");
+            assertThat(submodel.getPayload()).isEqualTo("{\"test\":1}");
+        });
+        assertThat(meterRegistry.counter("cache.item.result.hit", "cache", "submodel").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheShellsSeparatelyFromSubmodels() {
+        final Shell shell = shell("cid", shellDescriptor(List.of()));
+        cache.putShell(ItemResultCacheKey.shell(itemId), shell);
+
+        assertThat(cache.getShell(ItemResultCacheKey.shell(itemId))).contains(shell);
+        assertThat(cache.getSubmodel(submodelKey("urn:aspect#SerialPart"))).isEmpty();
+        assertThat(meterRegistry.counter("cache.item.result.miss", "cache", "submodel").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        final ItemResultCacheKey key = submodelKey("urn:aspect#SerialPart");
+        cache.putSubmodel(key, new SubmodelDescriptor(null, "{}"));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(10)));
+
+        assertThat(cache.getSubmodel(key)).isEmpty();
+        assertThat(cache.getCurrentSizeInBytes()).isZero();
+        assertThat(meterRegistry.counter("cache.item.result.eviction", "cache", "submodel").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenSizeIsExceeded() {
+        final ItemResultCacheKey first = submodelKey("urn:aspect#First");
+        final ItemResultCacheKey second = submodelKey("urn:aspect#Second");
+        final ItemResultCacheKey third = submodelKey("urn:aspect#Third");
+        final String payload = "x".repeat(200); // 400 bytes
+
+        cache.putSubmodel(first, new SubmodelDescriptor(null, payload));
+        cache.putSubmodel(second, new SubmodelDescriptor(null, payload));
+        cache.getSubmodel(first);
+        cache.putSubmodel(third, new SubmodelDescriptor(null, payload));
+
+        assertThat(cache.getSubmodel(first)).isPresent();
+        assertThat(cache.getSubmodel(second)).isEmpty();
+        assertThat(cache.getSubmodel(third)).isPresent();
+        assertThat(cache.getCurrentSizeInBytes()).isEqualTo(800);
+    }
+
+    @Test
+    void shouldNotCacheEntriesLargerThanCache() {
+        final ItemResultCacheKey key = submodelKey("urn:aspect#SerialPart");
+        cache.putSubmodel(key, new SubmodelDescriptor(null, "x".repeat(600)));
+
+        assertThat(cache.getSubmodel(key)).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheAnythingWhenDisabled() {
+        final ItemResultCache disabled = ItemResultCache.disabled();
+        final ItemResultCacheKey key = submodelKey("urn:aspect#SerialPart");
+        disabled.putSubmodel(key, new SubmodelDescriptor(null, "{}"));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.getSubmodel(key)).isEmpty();
+    }
+
+    private ItemResultCacheKey submodelKey(final String aspect) {
+        return ItemResultCacheKey.submodel(itemId, aspect, "AS_BUILT", "https://provider/submodel");
+    }
+}
@@ -24,7 +24,7 @@
 package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -32,7 +32,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.Endpoint;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.ProtocolInformation;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
@@ -56,13 +59,14 @@ class AbstractDelegateTest {
 
     @BeforeEach
     void setUp() {
-        submodelDelegate = new SubmodelDelegate(null, null, null, null, null);
+        submodelDelegate = new SubmodelDelegate(null, null, null, null, null, ItemResultCache.disabled());
     }
 
     @Test
-    void shouldUseDspEndpointIfPresent() throws EdcClientException {
+    void shouldUseDspEndpointIfPresent() {
         // Arrange
-        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenReturn(new SubmodelDescriptor("cid", "test"));
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", "test")));
         final Endpoint endpoint = Endpoint.builder()
                                           .protocolInformation(ProtocolInformation.builder()
                                                                                   .href("http://dataplane.test/123")
@@ -73,21 +77,24 @@ class AbstractDelegateTest {
         final String bpn = "BPN123";
 
         // Act
-        final String submodel = submodelDelegate.requestSubmodel(submodelFacade, null, endpoint, bpn).getPayload();
+        final String submodel = submodelDelegate.requestSubmodelAsync(submodelFacade, null, endpoint, bpn,
+                Runnable::run).join().getPayload();
 
         // Assert
         assertThat(submodel).isEqualTo("test");
-        verify(submodelFacade, times(1)).getSubmodelPayload("http://edc.test", "http://dataplane.test/123", "123", "BPN123");
+        verify(submodelFacade, times(1)).getSubmodelPayloadAsync("http://edc.test", "http://dataplane.test/123", "123",
+                "BPN123");
     }
 
     @Test
-    void shouldUseDiscoveryFinderIfDspEndpointNotPresent() throws EdcClientException {
+    void shouldUseDiscoveryFinderIfDspEndpointNotPresent() {
         // Arrange
         final String connector1 = "http://edc.test1";
         final String connector2 = "http://edc.test2";
-        when(submodelFacade.getSubmodelPayload(eq(connector1), any(), any(), any())).thenThrow(
-                new EdcClientException("test"));
-        when(submodelFacade.getSubmodelPayload(eq(connector2), any(), any(), any())).thenReturn(new SubmodelDescriptor("cid", "test"));
+        when(submodelFacade.getSubmodelPayloadAsync(eq(connector1), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new EdcClientException("test")));
+        when(submodelFacade.getSubmodelPayloadAsync(eq(connector2), any(), any(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", "test")));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of(connector1, connector2));
         final String dataplaneUrl = "http://dataplane.test/123";
         final Endpoint endpoint = Endpoint.builder()
@@ -99,22 +106,23 @@ class AbstractDelegateTest {
         final String bpn = "BPN123";
 
         // Act
-        final String submodel = submodelDelegate.requestSubmodel(submodelFacade, connectorEndpointsService,
-                endpoint, bpn).getPayload();
+        final String submodel = submodelDelegate.requestSubmodelAsync(submodelFacade, connectorEndpointsService,
+                endpoint, bpn, Runnable::run).join().getPayload();
 
         // Assert
         assertThat(submodel).isEqualTo("test");
-        verify(submodelFacade, times(1)).getSubmodelPayload(connector1, dataplaneUrl, "123", "BPN123");
-        verify(submodelFacade, times(1)).getSubmodelPayload(connector2, dataplaneUrl, "123", "BPN123");
+        verify(submodelFacade, times(1)).getSubmodelPayloadAsync(connector1, dataplaneUrl, "123", "BPN123");
+        verify(submodelFacade, times(1)).getSubmodelPayloadAsync(connector2, dataplaneUrl, "123", "BPN123");
         verify(connectorEndpointsService, times(1)).fetchConnectorEndpoints(bpn);
     }
 
     @Test
-    void shouldThrowGenericEdcClientExceptionIfAllEndpointsThrowExceptions() throws EdcClientException {
+    void shouldThrowGenericEdcClientExceptionIfAllEndpointsThrowExceptions() {
         // Arrange
         final String connector1 = "http://edc.test1";
         final String connector2 = "http://edc.test2";
-        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(new EdcClientException("test"));
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new EdcClientException("test")));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of(connector1, connector2));
         final String dataplaneUrl = "http://dataplane.test/123";
         final Endpoint endpoint = Endpoint.builder()
@@ -126,13 +134,14 @@ class AbstractDelegateTest {
         final String bpn = "BPN123";
 
         // Act
-        assertThatExceptionOfType(EdcClientException.class).isThrownBy(
-                () -> submodelDelegate.requestSubmodel(submodelFacade, connectorEndpointsService, endpoint,
-                        bpn));
+        final CompletableFuture<SubmodelDescriptor> submodel = submodelDelegate.requestSubmodelAsync(submodelFacade,
+                connectorEndpointsService, endpoint, bpn, Runnable::run);
 
         // Assert
-        verify(submodelFacade, times(1)).getSubmodelPayload(connector1, dataplaneUrl, "123", "BPN123");
-        verify(submodelFacade, times(1)).getSubmodelPayload(connector2, dataplaneUrl, "123", "BPN123");
+        assertThatThrownBy(submodel::join).isInstanceOf(CompletionException.class)
+                                          .hasCauseInstanceOf(EdcClientException.class);
+        verify(submodelFacade, times(1)).getSubmodelPayloadAsync(connector1, dataplaneUrl, "123", "BPN123");
+        verify(submodelFacade, times(1)).getSubmodelPayloadAsync(connector2, dataplaneUrl, "123", "BPN123");
         verify(connectorEndpointsService, times(1)).fetchConnectorEndpoints(bpn);
     }
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ import io.github.resilience4j.core.functions.Either;
 import io.github.resilience4j.retry.RetryRegistry;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
@@ -51,7 +52,8 @@ import org.springframework.web.client.RestClientException;
 class DigitalTwinDelegateTest {
 
     final DigitalTwinRegistryService digitalTwinRegistryService = mock(DigitalTwinRegistryService.class);
-    final DigitalTwinDelegate digitalTwinDelegate = new DigitalTwinDelegate(null, digitalTwinRegistryService);
+    final DigitalTwinDelegate digitalTwinDelegate = new DigitalTwinDelegate(null, digitalTwinRegistryService,
+            ItemResultCache.disabled());
 
     @Test
     void shouldFillItemContainerWithShell() throws RegistryServiceException {
@@ -60,8 +62,8 @@ class DigitalTwinDelegateTest {
                 Optional.of(shell("", shellDescriptor(List.of(submodelDescriptorWithoutHref("any"))))));
 
         // when
-        final ItemContainer result = digitalTwinDelegate.process(ItemContainer.builder(), jobParameter(),
-                new AASTransferProcess("id", 0), createKey());
+        final ItemContainer result = digitalTwinDelegate.processAsync(ItemContainer.builder(), jobParameter(),
+                new AASTransferProcess("id", 0), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -76,8 +78,9 @@ class DigitalTwinDelegateTest {
         when(digitalTwinRegistryService.fetchShell(any())).thenReturn(
                 Optional.of(shell("", shellDescriptor(List.of(submodelDescriptorWithoutHref("any"))))));
         // when
-        final ItemContainer result = digitalTwinDelegate.process(ItemContainer.builder(),
-                jobParameterAuditContractNegotiation(), new AASTransferProcess("id", 0), createKey());
+        final ItemContainer result = digitalTwinDelegate.processAsync(ItemContainer.builder(),
+                jobParameterAuditContractNegotiation(), new AASTransferProcess("id", 0), createKey(),
+                Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -95,8 +98,8 @@ class DigitalTwinDelegateTest {
         final JobParameter jobParameter = JobParameter.builder().depth(1).aspects(List.of()).build();
 
         // when
-        final ItemContainer result = digitalTwinDelegate.process(ItemContainer.builder(), jobParameter,
-                new AASTransferProcess("id", 1), createKey());
+        final ItemContainer result = digitalTwinDelegate.processAsync(ItemContainer.builder(), jobParameter,
+                new AASTransferProcess("id", 1), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -111,8 +114,8 @@ class DigitalTwinDelegateTest {
                 new RestClientException("Unable to call endpoint"));
 
         // when
-        final ItemContainer result = digitalTwinDelegate.process(ItemContainer.builder(), jobParameter(),
-                new AASTransferProcess("id", 0), createKey());
+        final ItemContainer result = digitalTwinDelegate.processAsync(ItemContainer.builder(), jobParameter(),
+                new AASTransferProcess("id", 0), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -127,8 +130,8 @@ class DigitalTwinDelegateTest {
     @Test
     void shouldCreateTombstoneIfBPNEmpty() {
         // when
-        final ItemContainer result = digitalTwinDelegate.process(ItemContainer.builder(), jobParameter(),
-                new AASTransferProcess("id", 0), createKeyWithoutBpn());
+        final ItemContainer result = digitalTwinDelegate.processAsync(ItemContainer.builder(), jobParameter(),
+                new AASTransferProcess("id", 0), createKeyWithoutBpn(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
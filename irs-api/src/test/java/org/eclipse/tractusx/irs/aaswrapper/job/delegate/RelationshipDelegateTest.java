@@ -53,11 +53,13 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer.ItemContainerBuilder;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.Quantity;
@@ -80,7 +82,7 @@ class RelationshipDelegateTest {
     final ConnectorEndpointsService connectorEndpointsService = mock(ConnectorEndpointsService.class);
     final JsonUtil jsonUtil = new JsonUtil();
     final RelationshipDelegate relationshipDelegate = new RelationshipDelegate(null, submodelFacade,
-            connectorEndpointsService, jsonUtil);
+            connectorEndpointsService, jsonUtil, ItemResultCache.disabled());
 
     @Test
     void shouldFillItemContainerWithRelationshipAndAddChildIdsToProcess()
@@ -88,8 +90,8 @@ class RelationshipDelegateTest {
         // given
         final String payload = Files.readString(
                 Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelBomAsBuilt.json")).toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -100,8 +102,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -116,8 +118,8 @@ class RelationshipDelegateTest {
         // given
         final String payload = Files.readString(
                 Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelUsageAsBuilt.json")).toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -128,8 +130,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameterUpward(),
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameterUpward(),
+                aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -151,8 +153,8 @@ class RelationshipDelegateTest {
         final String payload = Files.readString(Paths.get(
                 Objects.requireNonNull(getClass().getResource("/relationships/singleLevelUsageAsPlanned-2.0.0.json"))
                        .toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -163,8 +165,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameterUpwardAsPlanned(),
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell,
+                jobParameterUpwardAsPlanned(), aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -186,8 +188,8 @@ class RelationshipDelegateTest {
         // given
         final String payload = Files.readString(Paths.get(
                 Objects.requireNonNull(getClass().getResource("/relationships/" + relationshipFile)).toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -197,8 +199,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter,
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter,
+                aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -238,8 +240,8 @@ class RelationshipDelegateTest {
         final String payload = Files.readString(Paths.get(
                 Objects.requireNonNull(getClass().getResource("/relationships/futureVersions/" + relationshipFile))
                        .toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -249,8 +251,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter,
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter,
+                aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -289,8 +291,8 @@ class RelationshipDelegateTest {
         // given
         final String payload = Files.readString(Paths.get(
                 Objects.requireNonNull(getClass().getResource("/relationships/previous/" + relationshipFile)).toURI()));
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(
-                new SubmodelDescriptor("cid", payload));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -300,8 +302,8 @@ class RelationshipDelegateTest {
         final AASTransferProcess aasTransferProcess = new AASTransferProcess();
 
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter,
-                aasTransferProcess, createKey());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter,
+                aasTransferProcess, createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -332,8 +334,9 @@ class RelationshipDelegateTest {
                                                                                          SINGLE_LEVEL_BOM_AS_BUILT_3_0_0,
                                                                                          "address")))));
         // when
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
-                new AASTransferProcess(), PartChainIdentificationKey.builder().globalAssetId("testId").build());
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                new AASTransferProcess(), PartChainIdentificationKey.builder().globalAssetId("testId").build(),
+                Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -351,8 +354,8 @@ class RelationshipDelegateTest {
     @Test
     void shouldCatchRestClientExceptionAndPutTombstone() throws EdcClientException {
         // given
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenThrow(
-                new EdcClientException("Unable to call endpoint"));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.failedFuture(new EdcClientException("Unable to call endpoint")));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
 
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -363,8 +366,8 @@ class RelationshipDelegateTest {
 
         // when
         final PartChainIdentificationKey partChainIdentificationKey = createKey();
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
-                new AASTransferProcess(), partChainIdentificationKey);
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                new AASTransferProcess(), partChainIdentificationKey, Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -382,8 +385,9 @@ class RelationshipDelegateTest {
     @Test
     void shouldCatchJsonParseExceptionAndPutTombstone() throws EdcClientException {
         // given
-        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenThrow(
-                new EdcClientException(new Exception("Payload did not match expected submodel")));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.failedFuture(
+                        new EdcClientException(new Exception("Payload did not match expected submodel"))));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
         final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
                                                                          .shell(shell("", shellDescriptor(
@@ -393,8 +397,8 @@ class RelationshipDelegateTest {
 
         // when
         final PartChainIdentificationKey partChainIdentificationKey = createKey();
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
-                new AASTransferProcess(), partChainIdentificationKey);
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                new AASTransferProcess(), partChainIdentificationKey, Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -421,11 +425,12 @@ class RelationshipDelegateTest {
                                                                                          "address")))));
 
         // when
-        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(
-                new UsagePolicyPermissionException(List.of(), null, partChainIdentificationKey.getBpn()));
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(
+                        new UsagePolicyPermissionException(List.of(), null, partChainIdentificationKey.getBpn())));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("connector.endpoint.nl"));
-        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
-                new AASTransferProcess(), partChainIdentificationKey);
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                new AASTransferProcess(), partChainIdentificationKey, Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -442,6 +447,55 @@ class RelationshipDelegateTest {
         assertThat(tombstone.getProcessingError().getProcessStep()).isEqualTo(ProcessStep.USAGE_POLICY_VALIDATION);
     }
 
+    @Test
+    void shouldFillItemContainerWithRelationshipWhenProcessedAsynchronously()
+            throws URISyntaxException, IOException {
+        // given
+        final String payload = Files.readString(
+                Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelBomAsBuilt.json")).toURI()));
+        when(submodelFacade.getSubmodelPayloadAsync(anyString(), anyString(), anyString(), any())).thenReturn(
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", payload)));
+
+        final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
+                                                                         .shell(shell("", shellDescriptor(
+                                                                                 List.of(submodelDescriptorWithDspEndpoint(
+                                                                                         SINGLE_LEVEL_BOM_AS_BUILT_3_0_0,
+                                                                                         "address")))));
+        final AASTransferProcess aasTransferProcess = new AASTransferProcess();
+
+        // when
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                aasTransferProcess, createKey(), Runnable::run).join();
+
+        // then
+        assertThat(result.getRelationships()).isNotEmpty();
+        assertThat(aasTransferProcess.getIdsToProcess()).isNotEmpty();
+    }
+
+    @Test
+    void shouldPutTombstoneWhenAsynchronousRequestFails() {
+        // given
+        final PartChainIdentificationKey partChainIdentificationKey = createKey();
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(
+                        new UsagePolicyPermissionException(List.of(), null, partChainIdentificationKey.getBpn())));
+
+        final ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
+                                                                         .shell(shell("", shellDescriptor(
+                                                                                 List.of(submodelDescriptorWithDspEndpoint(
+                                                                                         SINGLE_LEVEL_BOM_AS_BUILT_3_0_0,
+                                                                                         "address")))));
+
+        // when
+        final ItemContainer result = relationshipDelegate.processAsync(itemContainerWithShell, jobParameter(),
+                new AASTransferProcess(), partChainIdentificationKey, Runnable::run).join();
+
+        // then
+        assertThat(result.getTombstones()).hasSize(1);
+        assertThat(result.getTombstones().get(0).getProcessingError().getProcessStep()).isEqualTo(
+                ProcessStep.USAGE_POLICY_VALIDATION);
+    }
+
     private static PartChainIdentificationKey createKey() {
         return PartChainIdentificationKey.builder().globalAssetId("itemId").bpn("bpn123").build();
     }
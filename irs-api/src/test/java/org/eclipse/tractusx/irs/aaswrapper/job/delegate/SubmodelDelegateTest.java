@@ -33,14 +33,21 @@ import static org.eclipse.tractusx.irs.util.TestMother.shellDescriptor;
 import static org.eclipse.tractusx.irs.util.TestMother.submodelDescriptor;
 import static org.eclipse.tractusx.irs.util.TestMother.submodelDescriptorWithDspEndpoint;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.cache.ItemResultCache;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Submodel;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
@@ -65,7 +72,7 @@ class SubmodelDelegateTest {
     final JsonValidatorService jsonValidatorService = mock(JsonValidatorService.class);
     final ConnectorEndpointsService connectorEndpointsService = mock(ConnectorEndpointsService.class);
     final SubmodelDelegate submodelDelegate = new SubmodelDelegate(submodelFacade, semanticsHubFacade,
-            jsonValidatorService, new JsonUtil(), connectorEndpointsService);
+            jsonValidatorService, new JsonUtil(), connectorEndpointsService, ItemResultCache.disabled());
 
     @Test
     void shouldNotFilterSubmodelDescriptorsByAspectTypeFilter() {
@@ -80,8 +87,8 @@ class SubmodelDelegateTest {
                                                                                                                            "testAssemblyPartRelationshipEndpoint")))));
 
         // when
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels, jobParameterFilter(),
-                new AASTransferProcess(), createKey());
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithTwoSubmodels,
+                jobParameterFilter(), new AASTransferProcess(), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -103,8 +110,8 @@ class SubmodelDelegateTest {
         // when
         when(semanticsHubFacade.getModelJsonSchema(any())).thenThrow(
                 new JsonParseException(new Exception("Payload did not match expected submodel")));
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
-                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithTwoSubmodels,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -126,9 +133,9 @@ class SubmodelDelegateTest {
                                                                                                                            "testSingleLevelBomAsBuiltEndpoint")))));
 
         // when
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithTwoSubmodels,
                 jobParameterCollectAspects(), new AASTransferProcess(),
-                PartChainIdentificationKey.builder().globalAssetId("testId").build());
+                PartChainIdentificationKey.builder().globalAssetId("testId").build(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -152,11 +159,12 @@ class SubmodelDelegateTest {
                                                                                                                            "testSingleLevelBomAsBuiltEndpoint")))));
 
         // when
-        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(
-                new UsagePolicyPermissionException(List.of(), null, businessPartnerNumber));
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(
+                        new UsagePolicyPermissionException(List.of(), null, businessPartnerNumber)));
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("connector.endpoint.nl"));
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
-                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithTwoSubmodels,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -178,15 +186,16 @@ class SubmodelDelegateTest {
                                                                                                                   "")))));
 
         // when
-        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(
-                new ItemNotFoundInCatalogException("test", "itemId")).thenReturn(new SubmodelDescriptor("cid", """
-                {"test": "test"}
-                """));
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new ItemNotFoundInCatalogException("test", "itemId")),
+                CompletableFuture.completedFuture(new SubmodelDescriptor("cid", """
+                        {"test": "test"}
+                        """)));
+        when(jsonValidatorService.validate(any(), any(JsonNode.class))).thenReturn(ValidationResult.builder().valid(true).build());
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
                 List.of("connector.endpoint.n1", "connector.endpoint.n2"));
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithOneSubmodel,
-                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithOneSubmodel,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -211,8 +220,8 @@ class SubmodelDelegateTest {
         // when
         when(semanticsHubFacade.getModelJsonSchema(any())).thenThrow(
                 new RestClientException("Payload did not match expected submodel"));
-        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
-                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithTwoSubmodels,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey(), Runnable::run).join();
 
         // then
         assertThat(result).isNotNull();
@@ -222,6 +231,62 @@ class SubmodelDelegateTest {
                 ProcessStep.SCHEMA_REQUEST);
     }
 
+    @Test
+    void shouldRequestSubmodelsConcurrentlyAndKeepDescriptorOrder() throws InvalidSchemaException {
+        // given
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithTwoSubmodels = ItemContainer.builder()
+                                                                                                   .shell(shell("", shellDescriptor(
+                                                                                                           List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                                           SERIAL_PART_3_0_0,
+                                                                                                                           "testSerialPartEndpoint"),
+                                                                                                                   submodelDescriptorWithDspEndpoint(
+                                                                                                                           SINGLE_LEVEL_BOM_AS_BUILT_3_0_0,
+                                                                                                                           "testSingleLevelBomAsBuiltEndpoint")))));
+        final CompletableFuture<SubmodelDescriptor> slowSerialPart = new CompletableFuture<>();
+        when(submodelFacade.getSubmodelPayloadAsync(any(), eq("testSerialPartEndpoint"), any(), any())).thenReturn(
+                slowSerialPart);
+        when(submodelFacade.getSubmodelPayloadAsync(any(), eq("testSingleLevelBomAsBuiltEndpoint"), any(),
+                any())).thenReturn(CompletableFuture.completedFuture(new SubmodelDescriptor("cid", "{}")));
+        when(jsonValidatorService.validate(any(), any(JsonNode.class))).thenReturn(ValidationResult.builder().valid(true).build());
+
+        // when
+        final CompletableFuture<ItemContainer> future = submodelDelegate.processAsync(
+                itemContainerShellWithTwoSubmodels, jobParameterCollectAspects(), new AASTransferProcess(),
+                createKey(), Runnable::run);
+
+        // then
+        assertThat(future).isNotDone();
+        verify(submodelFacade, times(2)).getSubmodelPayloadAsync(any(), any(), any(), any());
+
+        slowSerialPart.complete(new SubmodelDescriptor("cid", "{}"));
+        final ItemContainer result = future.join();
+        assertThat(result.getSubmodels()).extracting(Submodel::getAspectType)
+                                         .containsExactly(SERIAL_PART_3_0_0, SINGLE_LEVEL_BOM_AS_BUILT_3_0_0);
+        assertThat(result.getTombstones()).isEmpty();
+    }
+
+    @Test
+    void shouldPutTombstoneWhenAsynchronousRequestFails() {
+        // given
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithOneSubmodel = ItemContainer.builder()
+                                                                                                  .shell(shell("", shellDescriptor(
+                                                                                                          List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                                  SERIAL_PART_3_0_0,
+                                                                                                                  "testSerialPartEndpoint")))));
+        when(submodelFacade.getSubmodelPayloadAsync(any(), any(), any(), any())).thenReturn(
+                CompletableFuture.failedFuture(new EdcClientException("test")));
+
+        // when
+        final ItemContainer result = submodelDelegate.processAsync(itemContainerShellWithOneSubmodel,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey(), Runnable::run).join();
+
+        // then
+        assertThat(result.getSubmodels()).isEmpty();
+        assertThat(result.getTombstones()).hasSize(1);
+        assertThat(result.getTombstones().get(0).getProcessingError().getProcessStep()).isEqualTo(
+                ProcessStep.SUBMODEL_REQUEST);
+    }
+
     private static PartChainIdentificationKey createKey() {
         return PartChainIdentificationKey.builder().globalAssetId("itemId").bpn("bpn123").build();
     }
@@ -32,6 +32,8 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import net.datafaker.Faker;
 import org.assertj.core.api.SoftAssertions;
@@ -228,6 +230,38 @@ class InMemoryJobStoreTest {
         assertThat(job.getJob().getState()).isEqualTo(JobState.RUNNING);
     }
 
+    @Test
+    void completeJob_ShouldNotBlockOtherJobsWhileCompletionActionRuns() {
+        // Arrange
+        sut.create(job);
+        sut.create(job2);
+        final String jobId2 = job2.getJobIdString();
+
+        // Act
+        sut.completeJob(job.getJobIdString(), completedJob -> CompletableFuture.runAsync(
+                () -> sut.addTransferProcess(jobId2, processId2)).orTimeout(5, TimeUnit.SECONDS).join());
+
+        // Assert
+        refreshJob();
+        refreshJob2();
+        assertThat(job.getJob().getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(job2.getTransferProcessIds()).containsExactly(processId2);
+    }
+
+    @Test
+    void completeJob_ShouldKeepErrorStateSetByCompletionAction() {
+        // Arrange
+        sut.create(job);
+
+        // Act
+        sut.completeJob(job.getJobIdString(),
+                completedJob -> sut.markJobInError(completedJob.getJobIdString(), errorDetail, errorDetail));
+
+        // Assert
+        refreshJob();
+        assertThat(job.getJob().getState()).isEqualTo(JobState.ERROR);
+    }
+
     @Test
     void markJobInError_WhenJobNotFound() {
         // Arrange
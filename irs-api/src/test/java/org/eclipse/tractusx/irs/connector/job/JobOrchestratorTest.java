@@ -417,6 +417,22 @@ class JobOrchestratorTest {
         verifyNoInteractions(processManager);
     }
 
+    @Test
+    void transferProcessCompleted_WhenCompletingTransferThrows_StopJob() {
+        // Arrange
+        when(jobStore.findByProcessId(transfer.getId())).thenReturn(Optional.of(job));
+        when(handler.recurse(job, transfer)).thenReturn(Stream.empty());
+        doThrow(new JobException("Timeout acquiring write lock")).when(jobStore)
+                                                                 .completeTransferProcess(job.getJobIdString(),
+                                                                         transfer);
+
+        // Act
+        callTransferProcessCompletedViaCallback();
+
+        // Assert
+        verify(jobStore).markJobInError(job.getJobIdString(), JOB_EXECUTION_FAILED, JobException.class.getName());
+    }
+
     private Object byCompletingJob() {
         job = job.toBuilder().transitionTransfersFinished().build();
         lenient().when(jobStore.find(job.getJobIdString())).thenReturn(Optional.of(job));
@@ -31,8 +31,10 @@ import java.util.Collection;
 import java.util.List;
 
 import net.datafaker.Faker;
+import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.component.enums.AspectType;
 import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.eclipse.tractusx.irs.util.TestMother;
 import org.junit.jupiter.api.Test;
 
@@ -66,4 +68,52 @@ class MultiTransferJobTest {
         assertThat(newJob.getJob().getState()).isEqualTo(JobState.RUNNING);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldShareTransfersBetweenSnapshots() {
+        final MultiTransferJob runningJob = generate.job(JobState.INITIAL).toBuilder().transitionInProgress().build();
+        final MultiTransferJob snapshot = runningJob.toBuilder().build();
+
+        runningJob.startTransferProcess("process-1");
+        runningJob.startTransferProcess("process-2");
+        snapshot.completeTransferProcess(() -> "process-1");
+
+        assertThat(runningJob.getTransferProcessIds()).containsExactly("process-2");
+        assertThat(runningJob.getCompletedTransferIds()).containsExactly("process-1");
+        assertThat(runningJob.getCompletedTransferCount()).isEqualTo(1);
+        assertThat(runningJob.countRunningTransfersWithout("process-2")).isZero();
+    }
+
+    @Test
+    void shouldNotChangeSnapshotWhenTransfersChangeLater() {
+        final MultiTransferJob runningJob = generate.job(JobState.RUNNING);
+        runningJob.startTransferProcess("process-1");
+        runningJob.startTransferProcess("process-2");
+
+        final MultiTransferJob snapshot = runningJob.snapshot();
+        runningJob.completeTransferProcess(() -> "process-1");
+
+        assertThat(snapshot.getTransferProcessIds()).containsExactlyInAnyOrder("process-1", "process-2");
+        assertThat(snapshot.getCompletedTransferIds()).isEmpty();
+        assertThat(runningJob.getTransferProcessIds()).containsExactly("process-2");
+    }
+
+    @Test
+    void shouldStoreCompletedTransfersWithoutChildIds() {
+        final AASTransferProcess process = new AASTransferProcess("process-1", 0);
+        process.addIdsToProcess(List.of(generate.partChainIdentificationKey("urn:uuid:child")));
+        final JsonUtil jsonUtil = new JsonUtil();
+
+        final MultiTransferJob completedJob = generate.job(JobState.RUNNING)
+                                                      .toBuilder()
+                                                      .transferProcessIds(List.of("process-1", "process-2"))
+                                                      .completedTransfers(List.of(process))
+                                                      .build();
+        final String serialized = jsonUtil.asString(completedJob);
+        final MultiTransferJob deserialized = jsonUtil.fromString(serialized, MultiTransferJob.class);
+
+        assertThat(serialized).doesNotContain("urn:uuid:child");
+        assertThat(deserialized.getTransferProcessIds()).containsExactly("process-2");
+        assertThat(deserialized.getCompletedTransferIds()).containsExactly("process-1");
+    }
+
+}
@@ -175,6 +175,40 @@ class PersistentJobStoreTest {
         assertThat(job.getJob().getState()).isEqualTo(JobState.RUNNING);
     }
 
+    @Test
+    void shouldWriteProgressBehindUntilCheckpoint() {
+        // Arrange
+        sut.create(job);
+        final String jobId = job.getJobIdString();
+        sut.addTransferProcess(jobId, processId1);
+        sut.addTransferProcess(jobId, processId2);
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+        assertThat(restartedStore.find(jobId).orElseThrow().getTransferProcessIds()).containsExactly(processId1);
+
+        // Act
+        sut.checkpoint();
+
+        // Assert
+        assertThat(restartedStore.find(jobId).orElseThrow().getTransferProcessIds()).containsExactly(processId1,
+                processId2);
+    }
+
+    @Test
+    void shouldWriteJobStateTransitionsImmediately() {
+        // Arrange
+        sut.create(job);
+        final String jobId = job.getJobIdString();
+        sut.addTransferProcess(jobId, processId1);
+
+        // Act
+        sut.completeTransferProcess(jobId, process1);
+        sut.completeJob(jobId, this::doNothing);
+
+        // Assert
+        final PersistentJobStore restartedStore = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+        assertThat(restartedStore.find(jobId).orElseThrow().getJob().getState()).isEqualTo(JobState.COMPLETED);
+    }
+
     @Test
     void completeTransferProcess_WhenJobNotFound() {
         sut.completeTransferProcess(otherJobId, process1);
@@ -0,0 +1,98 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemDataRequest;
+import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.Test;
+
+class VisitedNodeIndexTest {
+
+    private static final String JOB_ID = "job-1";
+
+    private final VisitedNodeIndex index = new VisitedNodeIndex();
+
+    @Test
+    void shouldSkipSameNodeAtSameOrGreaterDepth() {
+        final PartChainIdentificationKey key = key("urn:uuid:" + UUID.randomUUID(), "BPNL00000000TEST");
+
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 1))).isTrue();
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 1))).isFalse();
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 3))).isFalse();
+        assertThat(index.size(JOB_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRevisitNodeFoundCloserToRoot() {
+        final PartChainIdentificationKey key = key("urn:uuid:" + UUID.randomUUID(), "BPNL00000000TEST");
+
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 3))).isTrue();
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 2))).isTrue();
+        assertThat(index.visit(JOB_ID, new ItemDataRequest(key, 3))).isFalse();
+    }
+
+    @Test
+    void shouldDistinguishBpnsAndJobs() {
+        final String globalAssetId = "urn:uuid:" + UUID.randomUUID();
+
+        assertThat(index.visit(JOB_ID, ItemDataRequest.rootNode(key(globalAssetId, "BPNL00000000AAAA")))).isTrue();
+        assertThat(index.visit(JOB_ID, ItemDataRequest.rootNode(key(globalAssetId, "BPNL00000000BBBB")))).isTrue();
+        assertThat(index.visit("job-2", ItemDataRequest.rootNode(key(globalAssetId, "BPNL00000000AAAA")))).isTrue();
+    }
+
+    @Test
+    void shouldKeepAllNodesWhenGrowing() {
+        final int nodes = 10_000;
+        for (int i = 0; i < nodes; i++) {
+            assertThat(index.visit(JOB_ID, ItemDataRequest.rootNode(key("urn:uuid:" + i, "BPN")))).isTrue();
+        }
+        for (int i = 0; i < nodes; i++) {
+            assertThat(index.visit(JOB_ID, ItemDataRequest.rootNode(key("urn:uuid:" + i, "BPN")))).isFalse();
+        }
+        assertThat(index.size(JOB_ID)).isEqualTo(nodes);
+    }
+
+    @Test
+    void shouldAlwaysVisitRequestsWithoutKey() {
+        final DataRequest dataRequest = new TestMother().dataRequest();
+
+        assertThat(index.visit(JOB_ID, dataRequest)).isTrue();
+        assertThat(index.visit(JOB_ID, dataRequest)).isTrue();
+    }
+
+    @Test
+    void shouldReleaseJob() {
+        final PartChainIdentificationKey key = key("urn:uuid:" + UUID.randomUUID(), "BPNL00000000TEST");
+        index.visit(JOB_ID, ItemDataRequest.rootNode(key));
+
+        index.remove(JOB_ID);
+
+        assertThat(index.size(JOB_ID)).isZero();
+        assertThat(index.visit(JOB_ID, ItemDataRequest.rootNode(key))).isTrue();
+    }
+
+    private static PartChainIdentificationKey key(final String globalAssetId, final String bpn) {
+        return PartChainIdentificationKey.builder().globalAssetId(globalAssetId).bpn(bpn).build();
+    }
+}
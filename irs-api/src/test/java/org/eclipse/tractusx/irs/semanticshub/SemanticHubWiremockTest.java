@@ -32,6 +32,7 @@ import static org.eclipse.tractusx.irs.testing.wiremock.WireMockConfig.restTempl
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import org.eclipse.tractusx.irs.configuration.SemanticsHubConfiguration;
+import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,7 +53,7 @@ class SemanticHubWiremockTest {
         config.setModelJsonSchemaEndpoint(SEMANTIC_HUB_SCHEMA_URL);
 
         final SemanticsHubClient semanticsHubClient = new SemanticsHubClientImpl(restTemplate, config);
-        semanticsHubFacade = new SemanticsHubFacade(semanticsHubClient);
+        semanticsHubFacade = new SemanticsHubFacade(semanticsHubClient, new JsonValidatorService());
     }
 
     @Test
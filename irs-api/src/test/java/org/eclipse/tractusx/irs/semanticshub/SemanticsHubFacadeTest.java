@@ -25,12 +25,14 @@ package org.eclipse.tractusx.irs.semanticshub;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.junit.jupiter.api.Test;
 
 class SemanticsHubFacadeTest {
 
-    private final SemanticsHubFacade semanticsHubFacade = new SemanticsHubFacade(new SemanticsHubClientLocalStub());
+    private final SemanticsHubFacade semanticsHubFacade = new SemanticsHubFacade(new SemanticsHubClientLocalStub(),
+            new JsonValidatorService());
 
     @Test
     void shouldReturnModelJsonSchema() throws SchemaNotFoundException {
@@ -45,6 +45,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.eclipse.tractusx.irs.TestConfig;
 import org.eclipse.tractusx.irs.component.Job;
 import org.eclipse.tractusx.irs.component.JobErrorDetails;
@@ -132,7 +133,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
     @Test
     void registerJobWithCollectAspectsShouldIncludeSubmodels() throws InvalidSchemaException {
         // given
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        when(jsonValidatorService.validate(any(), any(JsonNode.class))).thenReturn(ValidationResult.builder().valid(true).build());
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
                 List.of("https://connector.endpoint.nl"));
         final RegisterJob registerJob = registerJob(EXISTING_GLOBAL_ASSET_ID, 100,
@@ -154,7 +155,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
     @Test
     void registerJobShouldCreateTombstonesWhenNotPassingJsonSchemaValidation() throws InvalidSchemaException {
         // given
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(false).build());
+        when(jsonValidatorService.validate(any(), any(JsonNode.class))).thenReturn(ValidationResult.builder().valid(false).build());
         when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
                 List.of("https://connector.endpoint.nl"));
 
@@ -33,6 +33,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 
 class JsonValidatorServiceTest {
@@ -88,6 +90,38 @@ class JsonValidatorServiceTest {
         assertThatThrownBy(() -> testee.validate(schema, payload)).isInstanceOf(InvalidSchemaException.class);
     }
 
+    @Test
+    void shouldValidateParsedPayload() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        final JsonNode payload = new JsonUtil().readTree(readFile("/__files/assemblyPartRelationship.json"));
+
+        final ValidationResult result = testee.validate(schema, payload);
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    void shouldReportErrorsForParsedPayloadWithReusedSchema() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        testee.validate(schema, readFile("/__files/assemblyPartRelationship.json"));
+
+        final ValidationResult result = testee.validate(schema, new JsonUtil().readTree("{}"));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getValidationErrors()).isNotEmpty();
+    }
+
+    @Test
+    void shouldValidateAfterSchemaCacheWasEvicted() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        final String payload = readFile("/__files/assemblyPartRelationship.json");
+        testee.validate(schema, payload);
+
+        testee.evictSchemaCache();
+
+        assertThat(testee.validate(schema, payload).isValid()).isTrue();
+    }
+
     private String readFile(final String path) throws IOException, URISyntaxException {
         final URL resource = getClass().getResource(path);
         Objects.requireNonNull(resource);
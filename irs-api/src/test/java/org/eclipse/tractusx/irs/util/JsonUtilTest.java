@@ -28,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import org.eclipse.tractusx.irs.data.JsonParseException;
@@ -49,6 +50,11 @@ class JsonUtilTest {
         assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> sut.asString(mockItem));
     }
 
+    @Test
+    void asBytes_onSuccess() {
+        assertThat(sut.asBytes(new HashMap<String, String>())).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test
     void fromString_OnSuccess() {
         assertThat(sut.fromString("{}", HashMap.class)).isEqualTo(new HashMap<String, String>());
@@ -25,9 +25,14 @@ package org.eclipse.tractusx.irs.common;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 
@@ -40,12 +45,15 @@ public class OutboundMeterRegistryService {
     private static final String ENDPOINT_SUBMODEL = "submodel";
     private static final String ENDPOINT_REGISTRY = "registry";
     private static final String TAG_ENDPOINT = "endpoint";
+    private static final String TAG_HOST = "host";
     private final Counter counterRetriesRegistry;
 
     private final Counter counterTimeoutsRegistry;
     private final MeterRegistry meterRegistry;
     private final Map<String, Counter> counterTimeoutsSubmodel;
     private final Map<String, Counter> counterRetriesSubmodel;
+    private final Map<String, Counter> counterCircuitBreakerRejectionsSubmodel = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counterConcurrencyLimitDropsSubmodel = new ConcurrentHashMap<>();
 
     public OutboundMeterRegistryService(final MeterRegistry meterRegistry, final RetryRegistry retryRegistry) {
         this.counterRetriesRegistry = Counter.builder("http.requests.retries")
@@ -71,6 +79,26 @@ public class OutboundMeterRegistryService {
 
     }
 
+    public OutboundMeterRegistryService(final MeterRegistry meterRegistry, final RetryRegistry retryRegistry,
+            final CircuitBreakerRegistry circuitBreakerRegistry) {
+        this(meterRegistry, retryRegistry);
+
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::registerSubmodelCircuitBreaker);
+        circuitBreakerRegistry.getEventPublisher()
+                              .onEntryAdded(event -> registerSubmodelCircuitBreaker(event.getAddedEntry()));
+    }
+
+    private void registerSubmodelCircuitBreaker(final CircuitBreaker circuitBreaker) {
+        final String target = circuitBreaker.getName();
+        Gauge.builder("http.requests.circuitbreaker.state", circuitBreaker, cb -> cb.getState().getOrder())
+             .tag(TAG_HOST, target)
+             .description("The state of the circuit breaker: 0 closed, 1 open, 2 half open.")
+             .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+             .register(meterRegistry);
+        circuitBreaker.getEventPublisher()
+                      .onCallNotPermitted(event -> incrementSubmodelCircuitBreakerRejectionCounter(target));
+    }
+
     public void incrementRegistryTimeoutCounter() {
         counterTimeoutsRegistry.increment();
     }
@@ -95,4 +123,51 @@ public class OutboundMeterRegistryService {
         counter.increment();
 
     }
+
+    public void incrementSubmodelCircuitBreakerRejectionCounter(final String target) {
+        final Counter counter = counterCircuitBreakerRejectionsSubmodel.computeIfAbsent(target,
+                key -> Counter.builder("http.requests.circuitbreaker.rejections")
+                              .tag(TAG_HOST, key)
+                              .description("The total number of requests rejected by an open circuit breaker.")
+                              .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+                              .register(meterRegistry));
+        counter.increment();
+    }
+
+    public void incrementSubmodelConcurrencyLimitDropCounter(final String target) {
+        final Counter counter = counterConcurrencyLimitDropsSubmodel.computeIfAbsent(target,
+                key -> Counter.builder("http.requests.concurrency.drops")
+                              .tag(TAG_HOST, key)
+                              .description("The total number of failed or slow requests lowering the limit.")
+                              .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+                              .register(meterRegistry));
+        counter.increment();
+    }
+
+    /**
+     * Registers the gauges of the adaptive concurrency limit of a host.
+     *
+     * @param target   the host
+     * @param limit    the current limit of concurrent requests
+     * @param inFlight the number of requests currently running
+     * @param waiting  the number of requests waiting for a free slot
+     */
+    public void registerSubmodelConcurrencyLimit(final String target, final Supplier<Number> limit,
+            final Supplier<Number> inFlight, final Supplier<Number> waiting) {
+        Gauge.builder("http.requests.concurrency.limit", limit)
+             .tag(TAG_HOST, target)
+             .description("The current limit of concurrent requests.")
+             .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+             .register(meterRegistry);
+        Gauge.builder("http.requests.concurrency.inflight", inFlight)
+             .tag(TAG_HOST, target)
+             .description("The number of requests currently running.")
+             .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+             .register(meterRegistry);
+        Gauge.builder("http.requests.concurrency.waiting", waiting)
+             .tag(TAG_HOST, target)
+             .description("The number of requests waiting for a free slot.")
+             .tag(TAG_ENDPOINT, ENDPOINT_SUBMODEL)
+             .register(meterRegistry);
+    }
 }
@@ -94,6 +94,12 @@ public class AzureBlobPersistence implements BlobPersistence {
         blobClient.upload(dataStream, blob.length, true);
     }
 
+    @Override
+    public void putBlob(final String targetBlobName, final InputStream blob, final long length) {
+        final BlobClient blobClient = containerClient.getBlobClient(targetBlobName);
+        blobClient.upload(blob, length, true);
+    }
+
     @Override
     public Optional<byte[]> getBlob(final String sourceBlobName) throws BlobPersistenceException {
         final BlobClient blobClient = containerClient.getBlobClient(sourceBlobName);
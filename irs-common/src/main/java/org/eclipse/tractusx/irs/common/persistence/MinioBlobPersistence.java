@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.common.persistence;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
@@ -152,6 +153,21 @@ public class MinioBlobPersistence implements BlobPersistence {
         }
     }
 
+    @Override
+    public void putBlob(final String targetBlobName, final InputStream blob, final long length)
+            throws BlobPersistenceException {
+        try {
+            minioClient.putObject(
+                    PutObjectArgs.builder().bucket(bucketName).object(targetBlobName).stream(blob, length, -1).build());
+            log.debug("Saving stream of {} bytes to bucket name {} with object name {}", length, bucketName,
+                    targetBlobName);
+        } catch (ServerException | InsufficientDataException | ErrorResponseException | IOException
+                 | NoSuchAlgorithmException | InvalidKeyException | InvalidResponseException | XmlParserException
+                 | InternalException e) {
+            throw new BlobPersistenceException("Encountered error while trying to store blob", e);
+        }
+    }
+
     @Override
     public Optional<byte[]> getBlob(final String sourceBlobName) throws BlobPersistenceException {
         final GetObjectResponse response;
@@ -40,4 +40,5 @@ public class BlobStoreConfiguration {
     private BlobStorePersistenceConfiguration persistence;
     private BlobStoreContainerConfiguration jobs;
     private BlobStoreContainerConfiguration policies;
+    private BlobStoreContainerConfiguration shellIdMappings;
 }
@@ -0,0 +1,133 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Limits the number of concurrent operations per key, e.g. per data provider or per host.
+ * Permits are handed out as futures, so waiting for a permit never blocks a thread.
+ */
+public class KeyedPermits {
+
+    private final ToIntFunction<String> permitsOfKey;
+    private final Map<String, KeyState> keys = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerKey maximum number of concurrent operations per key, unlimited if not positive
+     */
+    public KeyedPermits(final int permitsPerKey) {
+        this(key -> permitsPerKey);
+    }
+
+    /**
+     * @param permitsOfKey the current maximum number of concurrent operations of a key, unlimited if not positive.
+     *                     Called within map operations, so it must not access this instance.
+     */
+    public KeyedPermits(final ToIntFunction<String> permitsOfKey) {
+        this.permitsOfKey = permitsOfKey;
+    }
+
+    /**
+     * @param key the key, e.g. the BPN of a provider
+     * @return future which completes as soon as a permit for the key is available.
+     * Every completed acquisition must be followed by a call to {@link #release(String)}.
+     */
+    public CompletableFuture<Void> acquire(final String key) {
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+        if (permitsOfKey.applyAsInt(key(key)) <= 0) {
+            permit.complete(null);
+            return permit;
+        }
+        keys.compute(key(key), (name, state) -> {
+            final KeyState keyState = state == null ? new KeyState() : state;
+            if (keyState.inUse < permitsOfKey.applyAsInt(name)) {
+                keyState.inUse++;
+                permit.complete(null);
+            } else {
+                keyState.waiting.add(permit);
+            }
+            return keyState;
+        });
+        return permit;
+    }
+
+    /**
+     * Returns a permit, handing the free permits of the key over to the longest waiting acquisitions.
+     *
+     * @param key the key, e.g. the BPN of a provider
+     */
+    public void release(final String key) {
+        final List<CompletableFuture<Void>> next = new ArrayList<>();
+        keys.computeIfPresent(key(key), (name, state) -> {
+            state.inUse--;
+            final int permits = permitsOfKey.applyAsInt(name);
+            while ((permits <= 0 || state.inUse < permits) && !state.waiting.isEmpty()) {
+                state.inUse++;
+                next.add(state.waiting.poll());
+            }
+            return state.inUse == 0 ? null : state;
+        });
+        // complete outside the map operation, as dependent stages may run synchronously
+        for (final CompletableFuture<Void> waiting : next) {
+            if (!waiting.complete(null)) {
+                // the waiting acquisition was cancelled, pass the permit on
+                release(key);
+            }
+        }
+    }
+
+    /**
+     * @param key the key, e.g. the BPN of a provider
+     * @return the number of permits of the key in use
+     */
+    public int getInUse(final String key) {
+        final KeyState state = keys.get(key(key));
+        return state == null ? 0 : state.inUse;
+    }
+
+    /**
+     * @param key the key, e.g. the BPN of a provider
+     * @return the number of acquisitions waiting for a permit of the key
+     */
+    public int getWaiting(final String key) {
+        final KeyState state = keys.get(key(key));
+        return state == null ? 0 : state.waiting.size();
+    }
+
+    private static String key(final String key) {
+        return Objects.toString(key, "");
+    }
+
+    /**
+     * Permits in use and waiting acquisitions of one key. Only modified within map operations.
+     */
+    private static final class KeyState {
+        private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private volatile int inUse;
+    }
+}
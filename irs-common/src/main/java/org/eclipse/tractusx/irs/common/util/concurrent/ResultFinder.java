@@ -25,12 +25,18 @@ package org.eclipse.tractusx.irs.common.util.concurrent;
 
 import static java.util.concurrent.CompletableFuture.allOf;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import lombok.Getter;
@@ -47,7 +53,8 @@ public class ResultFinder {
     /**
      * Returns a new {@link CompletableFuture} which completes
      * when at least one of the given futures completes successfully or all fail.
-     * The result from the fastest successful future is returned. The others are ignored.
+     * The result from the fastest successful future is returned. The others are cancelled, as well as all futures
+     * if the returned future is cancelled.
      *
      * @param futures the futures
      * @param <T>     the return type
@@ -66,7 +73,7 @@ public class ResultFinder {
         // This way we do not need to wait for the others to complete.
         final CompletableFuture<T> overallFuture = new CompletableFuture<>();
 
-        final List<Throwable> exceptions = new ArrayList<>();
+        final List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
 
         final var futuresList = futures.stream()
                                        .map(future -> future.exceptionally(collectingExceptionsAndThrow(exceptions))
@@ -95,9 +102,86 @@ public class ResultFinder {
             }
         });
 
+        // the losers are not needed anymore, cancelling them stops dependent stages which have not started yet
+        overallFuture.whenComplete((value, ex) -> futures.stream()
+                                                         .filter(future -> !future.isDone())
+                                                         .forEach(future -> future.cancel(false)));
+
         return overallFuture;
     }
 
+    /**
+     * Starts the first of the given attempts immediately and the others after the hedging delay, or as soon as the
+     * first attempt failed. The attempts are ordered by preference, e.g. the connector which answered last time
+     * comes first. Attempts whose future is cancelled before their start are not started at all, cancelling the future
+     * of a started attempt cancels the future returned by the attempt.
+     *
+     * @param attempts     the attempts ordered by preference
+     * @param hedgingDelay the delay after which the other attempts are started, all are started at once if zero
+     * @param executor     the executor the attempts are started on
+     * @param <T>          the return type
+     * @return a future per attempt, in order of the attempts
+     */
+    public <T> List<CompletableFuture<T>> startHedged(final List<Supplier<CompletableFuture<T>>> attempts,
+            final Duration hedgingDelay, final Executor executor) {
+        if (attempts.isEmpty()) {
+            return List.of();
+        }
+
+        final CompletableFuture<Void> hedge = new CompletableFuture<>();
+        final CompletableFuture<T> first = start(attempts.get(0), CompletableFuture.completedFuture(null), executor);
+        first.whenComplete((value, ex) -> {
+            if (ex != null || value == null) {
+                hedge.complete(null);
+            }
+        });
+        if (hedgingDelay.isZero() || hedgingDelay.isNegative()) {
+            hedge.complete(null);
+        } else {
+            CompletableFuture.delayedExecutor(hedgingDelay.toMillis(), TimeUnit.MILLISECONDS)
+                             .execute(() -> hedge.complete(null));
+        }
+
+        final List<CompletableFuture<T>> futures = new ArrayList<>();
+        futures.add(first);
+        attempts.stream().skip(1).forEach(attempt -> futures.add(start(attempt, hedge, executor)));
+        return futures;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static <T> CompletableFuture<T> start(final Supplier<CompletableFuture<T>> attempt,
+            final CompletableFuture<Void> trigger, final Executor executor) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        trigger.thenRunAsync(() -> {
+            if (result.isDone()) {
+                log.debug("Attempt cancelled before it was started");
+                return;
+            }
+            try {
+                final CompletableFuture<T> started = attempt.get();
+                result.whenComplete((value, ex) -> {
+                    if (result.isCancelled()) {
+                        started.cancel(false);
+                    }
+                });
+                started.whenComplete((value, ex) -> {
+                    if (ex == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(ex);
+                    }
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, executor).exceptionally(ex -> {
+            // e.g. the executor rejected the attempt
+            result.completeExceptionally(ex);
+            return null;
+        });
+        return result;
+    }
+
     private static <T> CompletableFuture<T>[] toArray(final List<CompletableFuture<T>> handledFutures) {
         return handledFutures.toArray(new CompletableFuture[0]);
     }
@@ -122,7 +206,9 @@ public class ResultFinder {
 
             } else {
                 if (throwable != null) {
-                    log.warn("Exception occurred: " + throwable.getMessage(), throwable);
+                    if (!isCancellation(throwable)) {
+                        log.warn("Exception occurred: " + throwable.getMessage(), throwable);
+                    }
                     throw new CompletionException(throwable.getMessage(), throwable);
                 }
                 return false;
@@ -132,12 +218,21 @@ public class ResultFinder {
 
     private static <T> Function<Throwable, T> collectingExceptionsAndThrow(final List<Throwable> exceptions) {
         return t -> {
-            log.error("Exception occurred: " + t.getMessage(), t);
+            if (isCancellation(t)) {
+                log.debug("Future cancelled: {}", t.getMessage());
+            } else {
+                log.error("Exception occurred: " + t.getMessage(), t);
+            }
             exceptions.add(t);
             throw new CompletionException(t);
         };
     }
 
+    private static boolean isCancellation(final Throwable throwable) {
+        return throwable instanceof CancellationException
+                || throwable instanceof CompletionException && throwable.getCause() instanceof CancellationException;
+    }
+
     /**
      * Helper exception that can hold multiple causes.
      */
@@ -29,7 +29,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -81,4 +85,24 @@ class OutboundMeterRegistryServiceTest {
 
         assertThat(testee.getCounterRetriesSubmodel().get("testTarget").count()).isOne();
     }
+
+    @Test
+    void shouldReportCircuitBreakerStateAndRejections() {
+        final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+                CircuitBreakerConfig.custom().minimumNumberOfCalls(1).slidingWindowSize(1).build());
+        new OutboundMeterRegistryService(meterRegistry, retryRegistry, circuitBreakerRegistry);
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("testTarget");
+
+        circuitBreaker.onError(0, TimeUnit.MILLISECONDS, new IllegalStateException());
+        circuitBreaker.tryAcquirePermission();
+
+        assertThat(meterRegistry.get("http.requests.circuitbreaker.state")
+                                .tag("host", "testTarget")
+                                .gauge()
+                                .value()).isOne();
+        assertThat(meterRegistry.get("http.requests.circuitbreaker.rejections")
+                                .tag("host", "testTarget")
+                                .counter()
+                                .count()).isOne();
+    }
 }
\ No newline at end of file
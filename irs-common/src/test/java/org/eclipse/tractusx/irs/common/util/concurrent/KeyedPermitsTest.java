@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class KeyedPermitsTest {
+
+    @Test
+    void shouldQueueAcquisitionsAboveLimitPerKey() {
+        final KeyedPermits permits = new KeyedPermits(1);
+
+        final CompletableFuture<Void> first = permits.acquire("BPNL1");
+        final CompletableFuture<Void> second = permits.acquire("BPNL1");
+        final CompletableFuture<Void> otherKey = permits.acquire("BPNL2");
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotCompleted();
+        assertThat(otherKey).isCompleted();
+        assertThat(permits.getWaiting("BPNL1")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandOverPermitOnRelease() {
+        final KeyedPermits permits = new KeyedPermits(1);
+        permits.acquire("BPNL1");
+        final CompletableFuture<Void> second = permits.acquire("BPNL1");
+
+        permits.release("BPNL1");
+
+        assertThat(second).isCompleted();
+        assertThat(permits.getWaiting("BPNL1")).isZero();
+        assertThat(permits.acquire("BPNL1")).isNotCompleted();
+    }
+
+    @Test
+    void shouldFreePermitWhenNobodyIsWaiting() {
+        final KeyedPermits permits = new KeyedPermits(1);
+        permits.acquire(null);
+
+        permits.release(null);
+
+        assertThat(permits.acquire(null)).isCompleted();
+    }
+
+    @Test
+    void shouldNotLimitWithoutPermits() {
+        final KeyedPermits permits = new KeyedPermits(0);
+
+        permits.acquire("BPNL1");
+
+        assertThat(permits.acquire("BPNL1")).isCompleted();
+    }
+
+    @Test
+    void shouldPassPermitOnIfWaitingAcquisitionWasCancelled() {
+        final KeyedPermits permits = new KeyedPermits(1);
+        permits.acquire("BPNL1");
+        final CompletableFuture<Void> cancelled = permits.acquire("BPNL1");
+        final CompletableFuture<Void> third = permits.acquire("BPNL1");
+        cancelled.cancel(false);
+
+        permits.release("BPNL1");
+
+        assertThat(third).isCompleted();
+        assertThat(permits.getInUse("BPNL1")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandOverAllPermitsWhenLimitWasRaised() {
+        final AtomicInteger limit = new AtomicInteger(1);
+        final KeyedPermits permits = new KeyedPermits(key -> limit.get());
+        permits.acquire("host");
+        final CompletableFuture<Void> second = permits.acquire("host");
+        final CompletableFuture<Void> third = permits.acquire("host");
+        final CompletableFuture<Void> fourth = permits.acquire("host");
+
+        limit.set(3);
+        permits.release("host");
+
+        assertThat(second).isCompleted();
+        assertThat(third).isCompleted();
+        assertThat(fourth).isCompleted();
+        assertThat(permits.getInUse("host")).isEqualTo(3);
+    }
+}
@@ -28,10 +28,12 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -137,6 +139,77 @@ class ResultFinderTest {
         assertThat(result).isEqualTo("fastest success");
     }
 
+    @Test
+    void withOneSuccessfulCompletableFuture_theOthersShouldBeCancelled()
+            throws ExecutionException, InterruptedException {
+
+        // given
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        final List<CompletableFuture<String>> futures = List.of(pending, supplyAsync(() -> "ok"));
+
+        // when
+        final String result = sut.getFastestResult(futures).get();
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(pending).isCancelled();
+    }
+
+    @Test
+    void withHedgedAttempts_theOthersShouldNotBeStartedIfTheFirstSucceedsWithinTheDelay()
+            throws ExecutionException, InterruptedException {
+
+        // given
+        final AtomicInteger started = new AtomicInteger();
+        final List<Supplier<CompletableFuture<String>>> attempts = List.of(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("preferred");
+        }, () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        // when
+        final var futures = sut.startHedged(attempts, Duration.ofSeconds(10), Runnable::run);
+        final String result = sut.getFastestResult(futures).get();
+
+        // then
+        assertThat(result).isEqualTo("preferred");
+        assertThat(started).hasValue(1);
+        assertThat(futures.get(1)).isCancelled();
+    }
+
+    @Test
+    void withHedgedAttempts_theOthersShouldBeStartedAsSoonAsTheFirstFails()
+            throws ExecutionException, InterruptedException {
+
+        // given
+        final List<Supplier<CompletableFuture<String>>> attempts = List.of(
+                () -> CompletableFuture.failedFuture(new RuntimeException("failing")),
+                () -> CompletableFuture.completedFuture("other"));
+
+        // when
+        final String result = sut.getFastestResult(sut.startHedged(attempts, Duration.ofSeconds(10), Runnable::run))
+                                 .get();
+
+        // then
+        assertThat(result).isEqualTo("other");
+    }
+
+    @Test
+    void withHedgedAttempts_cancellingAStartedAttemptShouldCancelItsFuture() {
+
+        // given
+        final CompletableFuture<String> attemptFuture = new CompletableFuture<>();
+        final var futures = sut.<String>startHedged(List.of(() -> attemptFuture), Duration.ZERO, Runnable::run);
+
+        // when
+        futures.get(0).cancel(false);
+
+        // then
+        assertThat(attemptFuture).isCancelled();
+    }
+
     private static CompletableFuture<String> futureThrowAfterMillis(final int sleepMillis,
             final Supplier<RuntimeException> exceptionSupplier) {
         return supplyAsync(() -> {
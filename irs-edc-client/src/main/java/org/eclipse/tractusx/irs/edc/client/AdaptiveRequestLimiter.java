@@ -0,0 +1,130 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
+import org.eclipse.tractusx.irs.common.util.concurrent.KeyedPermits;
+
+/**
+ * Limits the number of concurrent requests per provider host with a limit adapting to the provider's behaviour
+ * (additive increase, multiplicative decrease): the limit grows by one for every successful request while the
+ * provider is busy and is reduced by the backoff ratio for every failed request or request slower than the latency
+ * threshold. A slow provider is thereby limited to a few requests, while healthy providers are served at full
+ * concurrency.
+ * Permits are handed out as futures, waiting requests are served in order of their acquisition.
+ */
+class AdaptiveRequestLimiter {
+
+    private final EdcConfiguration.SubmodelConfig.ConcurrencyLimitConfig config;
+    private final OutboundMeterRegistryService meterRegistryService;
+    private final Map<String, HostLimit> limits = new ConcurrentHashMap<>();
+    private final KeyedPermits permits = new KeyedPermits(this::getLimit);
+
+    /**
+     * @param config               the limit configuration
+     * @param meterRegistryService the metrics the limits are reported to, may be null
+     */
+    AdaptiveRequestLimiter(final EdcConfiguration.SubmodelConfig.ConcurrencyLimitConfig config,
+            final OutboundMeterRegistryService meterRegistryService) {
+        this.config = config;
+        this.meterRegistryService = meterRegistryService;
+    }
+
+    /**
+     * @param host the provider host
+     * @return future which completes as soon as a permit for the host is available.
+     * Every completed acquisition must be followed by a call to {@link #release(String, Duration, boolean)}.
+     */
+    CompletableFuture<Void> acquire(final String host) {
+        if (!config.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        limits.computeIfAbsent(key(host), this::createLimit);
+        return permits.acquire(host);
+    }
+
+    /**
+     * Returns a permit and adapts the limit of the host to the outcome of the request.
+     *
+     * @param host    the provider host
+     * @param latency the duration of the request
+     * @param failed  whether the request failed because of the provider, e.g. timed out
+     */
+    void release(final String host, final Duration latency, final boolean failed) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        final boolean dropped = failed || latency.compareTo(config.getLatencyThreshold()) > 0;
+        limits.computeIfPresent(key(host), (key, limit) -> {
+            if (dropped) {
+                limit.value = Math.max(config.getMinLimit(), limit.value * config.getBackoffRatio());
+            } else if (permits.getInUse(host) * 2 >= limit.current()) {
+                limit.value = Math.min(config.getMaxLimit(), limit.value + 1);
+            }
+            return limit;
+        });
+        if (dropped && meterRegistryService != null) {
+            meterRegistryService.incrementSubmodelConcurrencyLimitDropCounter(host);
+        }
+        permits.release(host);
+    }
+
+    /**
+     * @param host the provider host
+     * @return the current limit of concurrent requests to the host
+     */
+    int getLimit(final String host) {
+        final HostLimit limit = limits.get(key(host));
+        return limit == null ? config.getInitialLimit() : limit.current();
+    }
+
+    private HostLimit createLimit(final String host) {
+        final HostLimit limit = new HostLimit(config.getInitialLimit());
+        if (meterRegistryService != null) {
+            meterRegistryService.registerSubmodelConcurrencyLimit(host, limit::current, () -> permits.getInUse(host),
+                    () -> permits.getWaiting(host));
+        }
+        return limit;
+    }
+
+    private static String key(final String host) {
+        return Objects.toString(host, "");
+    }
+
+    /**
+     * Current limit of one host. Only modified within map operations.
+     */
+    private static final class HostLimit {
+        private volatile double value;
+
+        private HostLimit(final double value) {
+            this.value = value;
+        }
+
+        private int current() {
+            return (int) value;
+        }
+    }
+}
@@ -27,11 +27,17 @@ import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration.NAMESPACE_EDC_ID;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,11 +47,14 @@ import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * EDC Catalog facade which handles pagination of the catalog, aggregation of contract offers
  * and transformation into {@link CatalogItem}.
+ * Catalog items requested with a filter are cached for a configurable time, concurrent requests for the same
+ * catalog share a single request to the provider.
  */
 @Component("irsEdcClientEdcCatalogFacade")
 @RequiredArgsConstructor
@@ -55,6 +64,7 @@ public class EDCCatalogFacade {
     public static final String NAMESPACE_DSPACE_PARTICIPANT_ID = "https://w3id.org/dspace/v0.8/participantId";
     private final EdcControlPlaneClient controlPlaneClient;
     private final EdcConfiguration config;
+    private final Map<CatalogCacheKey, CachedCatalog> catalogCache = new ConcurrentHashMap<>();
 
     private static CatalogItem createCatalogItem(final Catalog pageableCatalog, final Dataset dataset) {
         final int maxNumberOfOffers = 1;
@@ -173,10 +183,72 @@ public class EDCCatalogFacade {
     @SuppressWarnings("PMD.UseObjectForClearerAPI") // TODO (ds-jhartmann) see https://github.com/eclipse-tractusx/item-relationship-service/issues/547
     public List<CatalogItem> fetchCatalogByFilter(final String connectorUrl, final String key, final String value,
             final String bpn) {
+        if (!isPositive(config.getControlplane().getCatalogCache().getTtl())) {
+            return requestCatalogByFilter(connectorUrl, key, value, bpn);
+        }
+
+        final CatalogCacheKey cacheKey = new CatalogCacheKey(connectorUrl, key, value, bpn);
+        final CachedCatalog loading = new CachedCatalog();
+        final CachedCatalog cached = catalogCache.compute(cacheKey,
+                (cacheKeyToLoad, existing) -> existing == null || existing.isExpired() ? loading : existing);
+
+        if (cached == loading) {
+            loadCatalog(cacheKey, loading);
+        } else {
+            log.debug("Reusing cached catalog of '{}' for filter '{}'='{}'", connectorUrl, key, value);
+        }
+        return cached.getCatalogItems();
+    }
+
+    /**
+     * Removes all cached catalogs of the connector which contain the given offer, e.g. because a negotiation for the
+     * offer failed and the offer might not be valid anymore.
+     *
+     * @param connectorUrl The EDC Connector from which the Catalog was requested
+     * @param offerId      The id of the offer
+     */
+    public void invalidateCatalogsWithOffer(final String connectorUrl, final String offerId) {
+        catalogCache.entrySet()
+                    .removeIf(entry -> entry.getKey().connectorUrl().equals(connectorUrl)
+                            && entry.getValue().containsOffer(offerId));
+    }
+
+    /**
+     * Removes expired catalogs from the cache. Runs on its own interval, as the time to live may be zero.
+     */
+    @Scheduled(fixedDelayString = "${irs-edc-client.controlplane.catalog-cache.eviction-interval:PT1M}")
+    public void evictExpiredCatalogs() {
+        catalogCache.values().removeIf(CachedCatalog::isExpired);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // the loading failure is handed to all waiting requests
+    private void loadCatalog(final CatalogCacheKey cacheKey, final CachedCatalog loading) {
+        try {
+            final List<CatalogItem> catalogItems = requestCatalogByFilter(cacheKey.connectorUrl(), cacheKey.key(),
+                    cacheKey.value(), cacheKey.bpn());
+            final Duration ttl = catalogItems.isEmpty()
+                    ? config.getControlplane().getCatalogCache().getEmptyTtl()
+                    : config.getControlplane().getCatalogCache().getTtl();
+            if (!isPositive(ttl)) {
+                catalogCache.remove(cacheKey, loading);
+            }
+            loading.complete(catalogItems, isPositive(ttl) ? Instant.now().plus(ttl) : Instant.MIN);
+        } catch (RuntimeException e) {
+            catalogCache.remove(cacheKey, loading);
+            loading.fail(e);
+        }
+    }
+
+    private List<CatalogItem> requestCatalogByFilter(final String connectorUrl, final String key, final String value,
+            final String bpn) {
         final Catalog catalog = controlPlaneClient.getCatalogWithFilter(connectorUrl, key, value, bpn);
         return mapToCatalogItems(catalog);
     }
 
+    private static boolean isPositive(final Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
     private Optional<Dataset> findOfferIfExist(final String target, final Catalog catalog) {
         return emptyIfNull(catalog.getDatasets()).stream()
                                                  .filter(dataset -> target.equals(dataset.getId()))
@@ -192,4 +264,52 @@ public class EDCCatalogFacade {
                                                                                     .collect(toSet());
         return previousOffers.equals(nextOffers);
     }
+
+    /**
+     * Identifies a catalog requested with a filter.
+     */
+    private record CatalogCacheKey(String connectorUrl, String key, String value, String bpn) {
+    }
+
+    /**
+     * Catalog items of one catalog request. Requests arriving while the catalog is loaded wait for the result.
+     */
+    private static final class CachedCatalog {
+        private final CompletableFuture<List<CatalogItem>> catalogItems = new CompletableFuture<>();
+        private volatile Instant expiresAt;
+
+        private void complete(final List<CatalogItem> items, final Instant expiry) {
+            this.expiresAt = expiry;
+            catalogItems.complete(items);
+        }
+
+        private void fail(final RuntimeException exception) {
+            this.expiresAt = Instant.MIN;
+            catalogItems.completeExceptionally(exception);
+        }
+
+        private boolean isExpired() {
+            final Instant expiry = expiresAt;
+            return expiry != null && !Instant.now().isBefore(expiry);
+        }
+
+        private boolean containsOffer(final String offerId) {
+            if (catalogItems.isCompletedExceptionally()) {
+                return false;
+            }
+            final List<CatalogItem> items = catalogItems.getNow(List.of());
+            return items.stream().anyMatch(item -> Objects.equals(item.getOfferId(), offerId));
+        }
+
+        private List<CatalogItem> getCatalogItems() {
+            try {
+                return catalogItems.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
 }
@@ -27,7 +27,6 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import io.swagger.v3.oas.annotations.Hidden;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.JsonParseException;
@@ -41,7 +40,9 @@ import org.eclipse.tractusx.irs.edc.client.model.edr.Properties;
 import org.eclipse.tractusx.irs.edc.client.model.edr.TransferProcessCallbackPayload;
 import org.eclipse.tractusx.irs.edc.client.storage.ContractNegotiationIdStorage;
 import org.eclipse.tractusx.irs.edc.client.storage.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.storage.StorageKeyNotifier;
 import org.eclipse.tractusx.irs.edc.client.util.Masker;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -53,11 +54,24 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 @RestController("irsEdcClientEdcCallbackController")
 @Hidden
-@RequiredArgsConstructor
 public class EdcCallbackController {
 
     private final EndpointDataReferenceStorage storage;
     private final ContractNegotiationIdStorage storageNegotiationId;
+    private final StorageKeyNotifier storageKeyNotifier;
+
+    @Autowired
+    public EdcCallbackController(final EndpointDataReferenceStorage storage,
+            final ContractNegotiationIdStorage storageNegotiationId, final StorageKeyNotifier storageKeyNotifier) {
+        this.storage = storage;
+        this.storageNegotiationId = storageNegotiationId;
+        this.storageKeyNotifier = storageKeyNotifier;
+    }
+
+    public EdcCallbackController(final EndpointDataReferenceStorage storage,
+            final ContractNegotiationIdStorage storageNegotiationId) {
+        this(storage, storageNegotiationId, new StorageKeyNotifier());
+    }
 
     private static EndpointDataReference mapToEndpointDataReference(final String endpointDataReference)
             throws EdcClientException {
@@ -132,11 +146,13 @@ public class EdcCallbackController {
 
     private void storeEdr(final String contractId, final EndpointDataReference dataReference) {
         storage.put(contractId, dataReference);
+        storageKeyNotifier.notifyStored(contractId);
         log.info("Endpoint Data Reference received and cached for agreement: {}", Masker.mask(contractId));
     }
 
     private void storeNegotiationId(final String contractNegotiationId, final String contractAgreementId) {
         storageNegotiationId.put(contractNegotiationId, contractAgreementId);
+        storageKeyNotifier.notifyStored(contractNegotiationId);
         log.info("Mapped Contract NegotiationId {} to Contract AgreementId and cached for agreement: {}",
                 contractNegotiationId, Masker.mask(contractAgreementId));
     }
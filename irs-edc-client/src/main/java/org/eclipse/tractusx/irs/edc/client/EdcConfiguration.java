@@ -28,6 +28,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 /**
  * EDC configuration settings. Automatically populated by Spring from application.yml
@@ -39,6 +40,20 @@ import org.springframework.context.annotation.Configuration;
 public class EdcConfiguration {
 
     private static final int ASYNC_TIMEOUT_MINUTES_DEFAULT = 10;
+    private static final int CALLBACK_FALLBACK_POLL_SECONDS_DEFAULT = 5;
+    private static final int CATALOG_REQUESTS_PER_COUNTERPARTY_DEFAULT = 2;
+    private static final int CATALOG_CACHE_TTL_MINUTES_DEFAULT = 5;
+    private static final int CATALOG_CACHE_EMPTY_TTL_SECONDS_DEFAULT = 30;
+    private static final int CATALOG_CACHE_EVICTION_INTERVAL_MINUTES_DEFAULT = 1;
+    private static final double EDR_REFRESH_LIFETIME_FRACTION_DEFAULT = 0.8;
+    private static final int EDR_REFRESH_IDLE_TIMEOUT_MINUTES_DEFAULT = 5;
+    private static final int EDR_REFRESH_INTERVAL_SECONDS_DEFAULT = 10;
+    private static final int MAX_PAYLOAD_SIZE_MEGABYTES_DEFAULT = 50;
+    private static final int CONCURRENCY_INITIAL_LIMIT_DEFAULT = 10;
+    private static final int CONCURRENCY_MAX_LIMIT_DEFAULT = 100;
+    private static final double CONCURRENCY_BACKOFF_RATIO_DEFAULT = 0.9;
+    private static final int CONCURRENCY_LATENCY_THRESHOLD_SECONDS_DEFAULT = 30;
+    private static final int SHELL_REQUESTS_PER_REGISTRY_DEFAULT = 10;
 
     private ControlplaneConfig controlplane = new ControlplaneConfig();
     private SubmodelConfig submodel = new SubmodelConfig();
@@ -47,6 +62,7 @@ public class EdcConfiguration {
     private CallbackConfig callback = new CallbackConfig();
     private Duration asyncTimeout = Duration.ofMinutes(ASYNC_TIMEOUT_MINUTES_DEFAULT);
     private boolean cacheEdcUrls = true;
+    private int shellRequestsPerRegistry = SHELL_REQUESTS_PER_REGISTRY_DEFAULT;
 
     public Long getAsyncTimeoutMillis() {
         return asyncTimeout.toMillis();
@@ -77,10 +93,18 @@ public class EdcConfiguration {
 
         private Duration requestTtl;
 
+        private Duration callbackFallbackPollInterval = Duration.ofSeconds(CALLBACK_FALLBACK_POLL_SECONDS_DEFAULT);
+
         private boolean edrManagementEnabled;
 
         private ApiKeyConfig apiKey = new ApiKeyConfig();
 
+        private OrchestrationConfig orchestration = new OrchestrationConfig();
+
+        private CatalogCacheConfig catalogCache = new CatalogCacheConfig();
+
+        private EdrRefreshConfig edrRefresh = new EdrRefreshConfig();
+
         /**
          * Container for controlplane endpoint config
          */
@@ -109,6 +133,35 @@ public class EdcConfiguration {
             private String secret;
 
         }
+
+        /**
+         * Container for controlplane orchestration config
+         */
+        @Data
+        public static class OrchestrationConfig {
+            private int catalogRequestsPerCounterparty = CATALOG_REQUESTS_PER_COUNTERPARTY_DEFAULT;
+        }
+
+        /**
+         * Container for controlplane catalog cache config
+         */
+        @Data
+        public static class CatalogCacheConfig {
+            private Duration ttl = Duration.ofMinutes(CATALOG_CACHE_TTL_MINUTES_DEFAULT);
+            private Duration emptyTtl = Duration.ofSeconds(CATALOG_CACHE_EMPTY_TTL_SECONDS_DEFAULT);
+            private Duration evictionInterval = Duration.ofMinutes(CATALOG_CACHE_EVICTION_INTERVAL_MINUTES_DEFAULT);
+        }
+
+        /**
+         * Container for the proactive refresh of endpoint data references
+         */
+        @Data
+        public static class EdrRefreshConfig {
+            private boolean enabled = true;
+            private Duration interval = Duration.ofSeconds(EDR_REFRESH_INTERVAL_SECONDS_DEFAULT);
+            private double lifetimeFraction = EDR_REFRESH_LIFETIME_FRACTION_DEFAULT;
+            private Duration idleTimeout = Duration.ofMinutes(EDR_REFRESH_IDLE_TIMEOUT_MINUTES_DEFAULT);
+        }
     }
 
     /**
@@ -121,5 +174,22 @@ public class EdcConfiguration {
 
         private String urnPrefix;
         private String submodelSuffix;
+
+        private DataSize maxPayloadSize = DataSize.ofMegabytes(MAX_PAYLOAD_SIZE_MEGABYTES_DEFAULT);
+
+        private ConcurrencyLimitConfig concurrencyLimit = new ConcurrencyLimitConfig();
+
+        /**
+         * Container for the adaptive limit of concurrent data plane requests per provider
+         */
+        @Data
+        public static class ConcurrencyLimitConfig {
+            private boolean enabled = true;
+            private int initialLimit = CONCURRENCY_INITIAL_LIMIT_DEFAULT;
+            private int minLimit = 1;
+            private int maxLimit = CONCURRENCY_MAX_LIMIT_DEFAULT;
+            private double backoffRatio = CONCURRENCY_BACKOFF_RATIO_DEFAULT;
+            private Duration latencyThreshold = Duration.ofSeconds(CONCURRENCY_LATENCY_THRESHOLD_SECONDS_DEFAULT);
+        }
     }
 }
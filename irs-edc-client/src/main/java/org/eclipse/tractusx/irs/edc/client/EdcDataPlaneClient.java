@@ -23,10 +23,17 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.StringMapper;
@@ -39,7 +46,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -49,19 +60,31 @@ import org.springframework.web.client.RestTemplate;
 @Service("irsEdcClientEdcDataPlaneClient")
 public class EdcDataPlaneClient {
 
-    private static final Pattern RESPONSE_PATTERN = Pattern.compile("\\{\"data\":\"(?<embeddedData>.*)\"\\}");
+    private static final String EMBEDDED_DATA_PREFIX = "{\"data\":\"";
+    private static final byte[] EMBEDDED_DATA_PREFIX_BYTES = EMBEDDED_DATA_PREFIX.getBytes(StandardCharsets.UTF_8);
+    private static final String EMBEDDED_DATA_FIELD = "data";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private final RestTemplate edcRestTemplate;
+    private final DataSize maxPayloadSize;
 
-    public EdcDataPlaneClient(@Qualifier("edcClientRestTemplate") final RestTemplate edcRestTemplate) {
+    public EdcDataPlaneClient(@Qualifier("edcClientRestTemplate") final RestTemplate edcRestTemplate,
+            final EdcConfiguration config) {
         this.edcRestTemplate = edcRestTemplate;
+        this.maxPayloadSize = config.getSubmodel().getMaxPayloadSize();
     }
 
+    /**
+     * Requests the data from the data plane. The response body is read once, limited to the configured maximum
+     * payload size, decoded with the charset of its content type, UTF-8 by default, and embedded data is unwrapped
+     * from it without building a JSON tree.
+     *
+     * @param dataReference        the endpoint data reference to authorize the request
+     * @param submodelDataplaneUrl the url of the data
+     * @return the unwrapped data
+     */
     public String getData(final EndpointDataReference dataReference, final String submodelDataplaneUrl) {
-        final String response = edcRestTemplate.exchange(submodelDataplaneUrl, HttpMethod.GET,
-                new HttpEntity<>(null, headers(dataReference)), String.class).getBody();
-
-        log.info("Extracting raw embeddedData from EDC data plane response");
-        return extractEmbeddedData(response);
+        return edcRestTemplate.execute(submodelDataplaneUrl, HttpMethod.GET, requestCallback(dataReference),
+                this::extractEmbeddedData);
     }
 
     public EdcNotificationResponse sendData(final EndpointDataReference dataReference,
@@ -87,14 +110,94 @@ public class EdcDataPlaneClient {
         return headers;
     }
 
-    private String extractEmbeddedData(final String response) {
-        String modifiedResponse = response;
-        Matcher dataMatcher = RESPONSE_PATTERN.matcher(modifiedResponse);
-        while (dataMatcher.matches()) {
-            modifiedResponse = dataMatcher.group("embeddedData");
-            modifiedResponse = modifiedResponse.replace("\\\"", "\"").replace("\\\\", "\\");
-            dataMatcher = RESPONSE_PATTERN.matcher(response);
+    /**
+     * Sets the headers of the request, as {@link RestTemplate#execute} does not add an Accept header for a custom
+     * callback.
+     */
+    private RequestCallback requestCallback(final EndpointDataReference dataReference) {
+        final HttpHeaders headers = headers(dataReference);
+        return request -> request.getHeaders().putAll(headers);
+    }
+
+    private String extractEmbeddedData(final ClientHttpResponse response) throws IOException {
+        final byte[] body = readBody(response.getBody());
+        if (body.length == 0) {
+            return null;
+        }
+        log.info("Extracting raw embeddedData from EDC data plane response");
+        final Charset charset = charset(response);
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return unwrapEmbeddedData(new String(body, charset));
+        }
+        if (!startsWithEmbeddedDataPrefix(body)) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            final String embeddedData = readEmbeddedData(parser);
+            return embeddedData == null ? new String(body, StandardCharsets.UTF_8) : unwrapEmbeddedData(embeddedData);
+        }
+    }
+
+    private static Charset charset(final ClientHttpResponse response) {
+        final MediaType contentType = response.getHeaders().getContentType();
+        return contentType == null || contentType.getCharset() == null
+                ? StandardCharsets.UTF_8
+                : contentType.getCharset();
+    }
+
+    private byte[] readBody(final InputStream body) throws IOException {
+        final long maxBytes = maxPayloadSize.toBytes();
+        final byte[] bytes = body.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+        if (bytes.length > maxBytes) {
+            throw new RestClientException(
+                    "Data plane response exceeds the maximum payload size of %s".formatted(maxPayloadSize));
+        }
+        return bytes;
+    }
+
+    private static boolean startsWithEmbeddedDataPrefix(final byte[] body) {
+        return body.length >= EMBEDDED_DATA_PREFIX_BYTES.length && Arrays.equals(body, 0,
+                EMBEDDED_DATA_PREFIX_BYTES.length, EMBEDDED_DATA_PREFIX_BYTES, 0, EMBEDDED_DATA_PREFIX_BYTES.length);
+    }
+
+    /**
+     * Unwraps payloads embedded as JSON string into a {"data": "..."} envelope, also if the data is wrapped several
+     * times. Responses without such an envelope are returned untouched.
+     */
+    private static String unwrapEmbeddedData(final String response) throws IOException {
+        String embeddedData = response;
+        while (embeddedData.startsWith(EMBEDDED_DATA_PREFIX)) {
+            try (JsonParser parser = JSON_FACTORY.createParser(embeddedData)) {
+                final String unwrapped = readEmbeddedData(parser);
+                if (unwrapped == null) {
+                    return embeddedData;
+                }
+                embeddedData = unwrapped;
+            }
+        }
+        return embeddedData;
+    }
+
+    /**
+     * Reads the envelope token by token, so the (usually large) data is only copied once into the returned string.
+     *
+     * @return the embedded data, or null if the document is no envelope with the data field only
+     */
+    private static String readEmbeddedData(final JsonParser parser) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                    || !EMBEDDED_DATA_FIELD.equals(parser.currentName())
+                    || parser.nextToken() != JsonToken.VALUE_STRING) {
+                return null;
+            }
+            final String embeddedData = parser.getText();
+            if (parser.nextToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return null;
+            }
+            return embeddedData;
+        } catch (final JsonProcessingException e) {
+            log.debug("Response starts like a data envelope but is no valid JSON, returning it as is");
+            return null;
         }
-        return modifiedResponse;
     }
 }
@@ -18,17 +18,26 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client;
 
+import static org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus.TokenStatus.EXPIRED;
 import static org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus.TokenStatus.VALID;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.common.util.concurrent.KeyedPermits;
 import org.eclipse.tractusx.irs.data.StringMapper;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
@@ -37,7 +46,10 @@ import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
 import org.eclipse.tractusx.irs.edc.client.model.TransferProcessResponse;
 import org.eclipse.tractusx.irs.edc.client.storage.ContractNegotiationIdStorage;
+import org.eclipse.tractusx.irs.edc.client.storage.StorageKeyNotifier;
 import org.eclipse.tractusx.irs.edc.client.util.Masker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 
@@ -59,13 +71,32 @@ public class EdcOrchestrator {
     private final ContractNegotiationIdStorage contractNegotiationIdStorage;
     private final ExecutorService executorService;
     private final OngoingNegotiationStorage ongoingNegotiationStorage;
+    private final StorageKeyNotifier storageKeyNotifier;
+    private final ExecutorService catalogExecutorService;
+    private final KeyedPermits catalogRequestLimiter;
+    private final Map<String, RefreshableReference> refreshableReferences = new ConcurrentHashMap<>();
+    private final Map<CompletableFuture<EndpointDataReference>, AtomicInteger> negotiationSubscribers =
+            new ConcurrentHashMap<>();
 
     public EdcOrchestrator(final EdcConfiguration config, final ContractNegotiationService contractNegotiationService,
             final AsyncPollingService pollingService, final EDCCatalogFacade catalogFacade,
             final EndpointDataReferenceCacheService endpointDataReferenceCacheService,
             final ContractNegotiationIdStorage contractNegotiationIdStorage,
-            final ExecutorService fixedThreadPoolExecutorService,
+            final ExecutorService fixedThreadPoolExecutorService, final ExecutorService catalogExecutorService,
             final OngoingNegotiationStorage ongoingNegotiationStorage) {
+        this(config, contractNegotiationService, pollingService, catalogFacade, endpointDataReferenceCacheService,
+                contractNegotiationIdStorage, fixedThreadPoolExecutorService, catalogExecutorService,
+                ongoingNegotiationStorage, new StorageKeyNotifier());
+    }
+
+    @Autowired
+    public EdcOrchestrator(final EdcConfiguration config, final ContractNegotiationService contractNegotiationService,
+            final AsyncPollingService pollingService, final EDCCatalogFacade catalogFacade,
+            final EndpointDataReferenceCacheService endpointDataReferenceCacheService,
+            final ContractNegotiationIdStorage contractNegotiationIdStorage,
+            final ExecutorService fixedThreadPoolExecutorService, final ExecutorService catalogExecutorService,
+            final OngoingNegotiationStorage ongoingNegotiationStorage,
+            final StorageKeyNotifier storageKeyNotifier) {
         this.config = config;
         this.contractNegotiationService = contractNegotiationService;
         this.pollingService = pollingService;
@@ -74,6 +105,10 @@ public class EdcOrchestrator {
         this.contractNegotiationIdStorage = contractNegotiationIdStorage;
         this.executorService = fixedThreadPoolExecutorService;
         this.ongoingNegotiationStorage = ongoingNegotiationStorage;
+        this.storageKeyNotifier = storageKeyNotifier;
+        this.catalogExecutorService = catalogExecutorService;
+        this.catalogRequestLimiter = new KeyedPermits(
+                config.getControlplane().getOrchestration().getCatalogRequestsPerCounterparty());
     }
 
     private static void stopWatchOnEdcTask(final StopWatch stopWatch) {
@@ -91,31 +126,49 @@ public class EdcOrchestrator {
      * @return A list of {@link CatalogItem} objects that match the specified filter criteria.
      * @throws EdcClientException If an error occurs while retrieving the catalog items.
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException") // catching a generic exception is intended here
     public List<CatalogItem> getCatalogItems(final String dspEndpointAddress, final String filterKey,
             final String filterValue, final String bpn) throws EdcClientException {
-        final StopWatch stopWatch = new StopWatch();
-        stopWatch.start("Get Catalog Items");
+        try {
+            return getCatalogItemsAsync(dspEndpointAddress, filterKey, filterValue, bpn).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcClientException("Error retrieving catalog items.", e);
+        } catch (ExecutionException e) {
+            throw new EdcClientException("Error retrieving catalog items.", e);
+        }
+    }
 
-        CompletableFuture<List<CatalogItem>> objectCompletableFuture;
+    /**
+     * Retrieves a list of catalog items from a specified endpoint, filtered by the given criteria.
+     * The number of parallel catalog requests is limited per endpoint. Requests exceeding the limit wait for a
+     * running request to the same endpoint to finish without occupying a thread.
+     *
+     * @param dspEndpointAddress The address of the endpoint from which to retrieve catalog items.
+     * @param filterKey          The key used to filter the catalog items.
+     * @param filterValue        The value associated with the filter key to filter the catalog items.
+     * @param bpn                The business partner number associated with the catalog items.
+     * @return A {@link CompletableFuture} that will complete with the {@link CatalogItem} objects that match the
+     * specified filter criteria.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // catching a generic exception is intended here
+    public CompletableFuture<List<CatalogItem>> getCatalogItemsAsync(final String dspEndpointAddress,
+            final String filterKey, final String filterValue, final String bpn) {
+        final CompletableFuture<Void> permit = catalogRequestLimiter.acquire(dspEndpointAddress);
         try {
-            objectCompletableFuture = CompletableFuture.supplyAsync(() -> {
+            return permit.thenApplyAsync(granted -> {
+                final StopWatch stopWatch = new StopWatch();
+                stopWatch.start("Get Catalog Items");
                 final List<CatalogItem> contractOffers = catalogFacade.fetchCatalogByFilter(dspEndpointAddress,
                         filterKey, filterValue, bpn);
 
                 log.debug("Retrieved catalog items: '{}'", StringMapper.mapToString(contractOffers));
                 stopWatchOnEdcTask(stopWatch);
                 return contractOffers;
-
-            }, executorService);
+            }, catalogExecutorService).whenComplete((contractOffers, throwable) -> catalogRequestLimiter.release(
+                    dspEndpointAddress));
         } catch (Exception e) {
-            objectCompletableFuture = CompletableFuture.failedFuture(
-                    new EdcClientException("Error retrieving catalog items.", e));
-        }
-        try {
-            return objectCompletableFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new EdcClientException("Error retrieving catalog items.", e);
+            permit.thenRun(() -> catalogRequestLimiter.release(dspEndpointAddress));
+            return CompletableFuture.failedFuture(new EdcClientException("Error retrieving catalog items.", e));
         }
     }
 
@@ -143,7 +196,7 @@ public class EdcOrchestrator {
     /**
      * Retrieves an {@link EndpointDataReference} for a given catalog item from the specified endpoint address.
      * The method first checks if a valid endpoint data reference is available in the cache.
-     * If not, it checks if a negotiation is already ongoing for the asset.
+     * If not, it checks if a negotiation is already ongoing for the asset or its contract offer.
      * If the token is expired, it attempts to renew the token; otherwise, it starts a new negotiation.
      *
      * @param dspEndpointAddress The address of the endpoint from which to retrieve the endpoint data reference.
@@ -166,33 +219,71 @@ public class EdcOrchestrator {
                 dspEndpointAddress);
         final String storageId = assetId + dspEndpointAddress;
 
-        synchronized (ongoingNegotiationStorage) {
-            final EndpointDataReferenceStatus cachedEdr = endpointDataReferenceCacheService.getEndpointDataReference(
+        final EndpointDataReferenceStatus cachedEdr = endpointDataReferenceCacheService.getEndpointDataReference(
+                storageId);
+        final Optional<CompletableFuture<EndpointDataReference>> reusable = findReusableEndpointDataReference(
+                storageId, cachedEdr);
+        if (reusable.isPresent()) {
+            return reusable.get();
+        }
+
+        final CatalogItem catalogItem;
+        if (optionalCatalogItem.isPresent()) {
+            catalogItem = optionalCatalogItem.get();
+            log.debug("Reusing existing catalogItem: '{}'", catalogItem);
+        } else {
+            // no lock is held here, so a slow provider does not delay lookups for other providers
+            catalogItem = getCatalogItem(dspEndpointAddress, assetId, bpn);
+            log.debug("No catalogItem provided, requesting new: '{}'", catalogItem);
+        }
+        return getOrStartNegotiation(dspEndpointAddress, catalogItem, storageId, cachedEdr);
+    }
+
+    private Optional<CompletableFuture<EndpointDataReference>> findReusableEndpointDataReference(
+            final String storageId, final EndpointDataReferenceStatus cachedEdr) {
+        if (VALID.equals(cachedEdr.tokenStatus())) {
+            log.info("Endpoint data reference found in cache with token status valid, reusing cache record.");
+            refreshableReferences.computeIfPresent(storageId, (key, reference) -> reference.used());
+            return Optional.of(CompletableFuture.completedFuture(cachedEdr.endpointDataReference()));
+        }
+        final CompletableFuture<EndpointDataReference> ongoingNegotiation = ongoingNegotiationStorage.getOngoingNegotiation(
+                storageId);
+        if (ongoingNegotiation != null) {
+            log.info("Negotiation for storage id '{}' is already in progress. Returning ongoing negotiation.",
                     storageId);
-            if (VALID.equals(cachedEdr.tokenStatus())) {
-                log.info("Endpoint data reference found in cache with token status valid, reusing cache record.");
-                return CompletableFuture.completedFuture(cachedEdr.endpointDataReference());
-            }
-            if (ongoingNegotiationStorage.isNegotiationOngoing(storageId)) {
-                log.info(
-                        "Negotiation for asset id '{}' on edc: '{}' is already in progress. Returning ongoing negotiation.",
-                        assetId, dspEndpointAddress);
-                return ongoingNegotiationStorage.getOngoingNegotiation(storageId);
-            }
+        }
+        return Optional.ofNullable(ongoingNegotiation).map(this::subscribe);
+    }
 
-            final CatalogItem catalogItem;
-            if (optionalCatalogItem.isPresent()) {
-                catalogItem = optionalCatalogItem.get();
-                log.debug("Reusing existing catalogItem: '{}'", catalogItem);
+    /**
+     * Hands out a separate future per caller of a negotiation, so a caller cancelling its future does not cancel the
+     * negotiation for the others. The negotiation itself is cancelled once all its callers cancelled their futures,
+     * e.g. because another connector of the provider answered faster.
+     *
+     * @param negotiation the shared negotiation
+     * @return the future of the caller
+     */
+    private CompletableFuture<EndpointDataReference> subscribe(
+            final CompletableFuture<EndpointDataReference> negotiation) {
+        final CompletableFuture<EndpointDataReference> subscription = new CompletableFuture<>();
+        final AtomicInteger subscribers = negotiationSubscribers.get(negotiation);
+        if (subscribers != null) {
+            subscribers.incrementAndGet();
+            subscription.whenComplete((endpointDataReference, throwable) -> {
+                if (subscription.isCancelled() && subscribers.decrementAndGet() == 0) {
+                    log.info("All requests waiting for the negotiation were cancelled, cancelling the negotiation");
+                    negotiation.cancel(false);
+                }
+            });
+        }
+        negotiation.whenComplete((endpointDataReference, throwable) -> {
+            if (throwable == null) {
+                subscription.complete(endpointDataReference);
             } else {
-                catalogItem = getCatalogItem(dspEndpointAddress, assetId, bpn);
-                log.debug("No catalogItem provided, requesting new: '{}'", catalogItem);
+                subscription.completeExceptionally(throwable);
             }
-
-            log.info("No previous or ongoing negotiations for asset id '{}' on edc '{}'. Starting new negotiation.",
-                    assetId, dspEndpointAddress);
-            return negotiateEndpointDataReference(dspEndpointAddress, catalogItem, cachedEdr);
-        }
+        });
+        return subscription;
     }
 
     /**
@@ -220,43 +311,185 @@ public class EdcOrchestrator {
         }).toList();
     }
 
+    /**
+     * Negotiations are deduplicated by contract offer and asset, as the resulting EDR is only valid for the asset it
+     * was negotiated for. The negotiation is registered with a compare-and-set on the ongoing negotiations, no lock is
+     * held while the negotiation is started.
+     */
+    private CompletableFuture<EndpointDataReference> getOrStartNegotiation(final String dspEndpointAddress,
+            final CatalogItem catalogItem, final String storageId,
+            final EndpointDataReferenceStatus endpointDataReferenceStatus) {
+        final String negotiationKey = getNegotiationKey(catalogItem, storageId);
+        final CompletableFuture<EndpointDataReference> negotiation = new CompletableFuture<>();
+        negotiationSubscribers.put(negotiation, new AtomicInteger());
+        negotiation.whenComplete((endpointDataReference, throwable) -> negotiationSubscribers.remove(negotiation));
+        final CompletableFuture<EndpointDataReference> ongoingNegotiation = ongoingNegotiationStorage.addToOngoingNegotiationsIfAbsent(
+                negotiationKey, negotiation);
+        if (ongoingNegotiation != null) {
+            negotiationSubscribers.remove(negotiation);
+            log.info("Negotiation for offer '{}' on edc '{}' is already in progress. Returning ongoing negotiation.",
+                    catalogItem.getOfferId(), dspEndpointAddress);
+            return subscribe(ongoingNegotiation);
+        }
+
+        // a negotiation for the same offer may have completed since the cache was checked
+        final EndpointDataReferenceStatus currentEdr = endpointDataReferenceCacheService.getEndpointDataReference(
+                storageId);
+        if (VALID.equals(currentEdr.tokenStatus())) {
+            log.info("Endpoint data reference found in cache with token status valid, reusing cache record.");
+            negotiation.complete(currentEdr.endpointDataReference());
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(negotiationKey, negotiation);
+            return negotiation;
+        }
+        ongoingNegotiationStorage.addToOngoingNegotiationsIfAbsent(storageId, negotiation);
+        return subscribe(negotiateEndpointDataReference(dspEndpointAddress, catalogItem, endpointDataReferenceStatus,
+                negotiationKey, storageId, negotiation));
+    }
+
+    private static String getNegotiationKey(final CatalogItem catalogItem, final String storageId) {
+        return catalogItem.getOfferId() == null ? storageId : catalogItem.getOfferId() + storageId;
+    }
+
     private CompletableFuture<EndpointDataReference> negotiateEndpointDataReference(final String dspEndpointAddress,
-            final CatalogItem catalogItem, final EndpointDataReferenceStatus endpointDataReferenceStatus) {
+            final CatalogItem catalogItem, final EndpointDataReferenceStatus endpointDataReferenceStatus,
+            final String negotiationKey, final String storageId,
+            final CompletableFuture<EndpointDataReference> negotiation) {
         final String assetId = catalogItem.getItemId();
-        final String storageId = assetId + dspEndpointAddress;
+        log.info("No previous or ongoing negotiations for asset id '{}' on edc '{}'. Starting new negotiation.",
+                assetId, dspEndpointAddress);
 
-        final CompletableFuture<EndpointDataReference> completableFuture = awaitEndpointReferenceForAsset(
-                dspEndpointAddress, catalogItem, endpointDataReferenceStatus);
+        try {
+            final CompletableFuture<EndpointDataReference> negotiated = awaitEndpointReferenceForAsset(
+                    dspEndpointAddress, catalogItem, endpointDataReferenceStatus, negotiation);
+            negotiated.whenComplete((endpointDataReference, throwable) -> {
+                if (throwable == null) {
+                    negotiation.complete(endpointDataReference);
+                } else {
+                    negotiation.completeExceptionally(throwable);
+                }
+            });
+        } catch (CompletionException e) {
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(storageId, negotiation);
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(negotiationKey, negotiation);
+            catalogFacade.invalidateCatalogsWithOffer(dspEndpointAddress, catalogItem.getOfferId());
+            negotiation.completeExceptionally(e);
+            throw e;
+        }
         log.info("Initiated negotiation for id '{}' on edc '{}' and storing it in ongoing negotiations", assetId,
                 dspEndpointAddress);
-        ongoingNegotiationStorage.addToOngoingNegotiations(storageId, completableFuture);
 
-        completableFuture.whenCompleteAsync((endpointDataReference, throwable) -> {
+        negotiation.whenCompleteAsync((endpointDataReference, throwable) -> {
+            if (negotiation.isCancelled()) {
+                log.info("Negotiation for id '{}' on edc '{}' was cancelled, removing from ongoing negotiations",
+                        assetId, dspEndpointAddress);
+                ongoingNegotiationStorage.removeFromOngoingNegotiations(storageId, negotiation);
+                ongoingNegotiationStorage.removeFromOngoingNegotiations(negotiationKey, negotiation);
+                return;
+            }
+            if (throwable != null) {
+                log.info("Negotiation failed, removing the offer '{}' from the catalog cache",
+                        catalogItem.getOfferId());
+                catalogFacade.invalidateCatalogsWithOffer(dspEndpointAddress, catalogItem.getOfferId());
+            }
             log.info("Completed waiting for EndpointDataReference. Storing EDR and removing from ongoing negotiations");
             endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage(storageId, endpointDataReference);
-            ongoingNegotiationStorage.removeFromOngoingNegotiations(storageId);
+            if (throwable == null) {
+                trackForRefresh(dspEndpointAddress, catalogItem, storageId);
+            }
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(storageId, negotiation);
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(negotiationKey, negotiation);
         }, executorService);
 
-        return completableFuture;
+        return negotiation;
+    }
+
+    private void trackForRefresh(final String dspEndpointAddress, final CatalogItem catalogItem,
+            final String storageId) {
+        if (config.getControlplane().getEdrRefresh().isEnabled()) {
+            refreshableReferences.put(storageId, new RefreshableReference(dspEndpointAddress, catalogItem,
+                    Instant.now()));
+        }
+    }
+
+    /**
+     * Renews the endpoint data references which were used recently and reached the configured fraction of their
+     * token lifetime, so requests do not have to wait for the renewal once the token expired.
+     * The renewal is registered as ongoing negotiation, requests arriving after the token expired join it.
+     */
+    @Scheduled(fixedDelayString = "#{@irsEdcClientEdcConfiguration.controlplane.edrRefresh.interval.toMillis()}")
+    public void refreshEndpointDataReferences() {
+        endpointDataReferenceCacheService.evictExpiredTokens();
+        final EdcConfiguration.ControlplaneConfig.EdrRefreshConfig refreshConfig = config.getControlplane()
+                                                                                         .getEdrRefresh();
+        final Instant idleSince = Instant.now().minus(refreshConfig.getIdleTimeout());
+        refreshableReferences.forEach((storageId, reference) -> {
+            final EndpointDataReference endpointDataReference = endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(
+                    storageId).orElse(null);
+            if (!refreshConfig.isEnabled() || reference.lastUsed().isBefore(idleSince)
+                    || endpointDataReference == null) {
+                refreshableReferences.remove(storageId, reference);
+            } else if (endpointDataReferenceCacheService.isRefreshDue(endpointDataReference,
+                    refreshConfig.getLifetimeFraction())) {
+                refreshEndpointDataReference(storageId, reference, endpointDataReference);
+            }
+        });
+    }
+
+    private void refreshEndpointDataReference(final String storageId, final RefreshableReference reference,
+            final EndpointDataReference endpointDataReference) {
+        final CompletableFuture<EndpointDataReference> refresh = new CompletableFuture<>();
+        if (ongoingNegotiationStorage.addToOngoingNegotiationsIfAbsent(storageId, refresh) != null) {
+            return;
+        }
+        log.info("Refreshing endpoint data reference for storage id '{}' before its token expires", storageId);
+        try {
+            final CompletableFuture<EndpointDataReference> refreshed = awaitEndpointReferenceForAsset(
+                    reference.dspEndpointAddress(), reference.catalogItem(),
+                    new EndpointDataReferenceStatus(endpointDataReference, EXPIRED), refresh);
+            refreshed.whenComplete((refreshedReference, throwable) -> {
+                if (throwable == null) {
+                    refresh.complete(refreshedReference);
+                } else {
+                    refresh.completeExceptionally(throwable);
+                }
+            });
+        } catch (CompletionException e) {
+            refresh.completeExceptionally(e);
+        }
+        refresh.whenCompleteAsync((refreshedReference, throwable) -> {
+            if (throwable == null) {
+                endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage(storageId, refreshedReference);
+            } else {
+                log.warn("Refreshing endpoint data reference for storage id '{}' failed, it is renewed on the next "
+                        + "request once expired", storageId, throwable);
+                refreshableReferences.remove(storageId, reference);
+            }
+            ongoingNegotiationStorage.removeFromOngoingNegotiations(storageId, refresh);
+        }, executorService);
     }
 
+    /**
+     * Starts the negotiation and waits for the resulting endpoint data reference. Waiting stops as soon as the given
+     * cancellation future is cancelled.
+     */
     private CompletableFuture<EndpointDataReference> awaitEndpointReferenceForAsset(final String dspEndpointAddress,
-            final CatalogItem catalogItem, final EndpointDataReferenceStatus endpointDataReferenceStatus) {
+            final CatalogItem catalogItem, final EndpointDataReferenceStatus endpointDataReferenceStatus,
+            final CompletableFuture<?> cancellation) {
         final StopWatch stopWatch = new StopWatch();
         stopWatch.start("Get EDC Submodel task for shell descriptor, endpoint " + dspEndpointAddress);
         final String bpn = catalogItem.getConnectorId();
+        final EndpointDataReference replacedReference = EXPIRED.equals(endpointDataReferenceStatus.tokenStatus())
+                ? endpointDataReferenceStatus.endpointDataReference()
+                : null;
         CompletableFuture<String> futureStorageId;
         try {
             if (config.getControlplane().isEdrManagementEnabled()) {
                 log.debug("Starting negotiation with EDR Endpoint.");
                 final String contractNegotiationId = contractNegotiationService.negotiateWithEdrManagement(
                         dspEndpointAddress, catalogItem, bpn);
-                futureStorageId = pollingService.<String>createJob()
-                                                .action(() -> retrieveContractAgreementId(contractNegotiationId))
-                                                .timeToLive(config.getSubmodel().getRequestTtl())
-                                                .description("waiting for contract agreement id retrieval")
-                                                .build()
-                                                .schedule();
+                futureStorageId = awaitStoredValue(contractNegotiationId,
+                        () -> retrieveContractAgreementId(contractNegotiationId),
+                        "waiting for contract agreement id retrieval", cancellation);
             } else {
                 log.debug("Starting classic EDC negotiation.");
                 futureStorageId = CompletableFuture.supplyAsync(() -> {
@@ -272,23 +505,59 @@ public class EdcOrchestrator {
         } catch (EdcClientException e) {
             throw new CompletionException(e);
         }
-        return futureStorageId.thenComposeAsync(storageId -> pollingService.<EndpointDataReference>createJob()
-                                                                           .action(() -> retrieveEndpointReference(
-                                                                                   storageId, stopWatch))
-                                                                           .timeToLive(
-                                                                                   config.getSubmodel().getRequestTtl())
-                                                                           .description(
-                                                                                   "waiting for Endpoint Reference retrieval")
-                                                                           .build()
-                                                                           .schedule());
+        return futureStorageId.thenComposeAsync(
+                storageId -> awaitStoredValue(storageId,
+                        () -> retrieveEndpointReference(storageId, replacedReference, stopWatch),
+                        "waiting for Endpoint Reference retrieval", cancellation));
+    }
+
+    /**
+     * Waits until the value for the given key is stored by the EDC callback. The lookup is executed as soon as the
+     * callback notified about the key, polling only serves as fallback in case a notification is missed.
+     * Polling stops once the cancellation future is cancelled.
+     */
+    private <T> CompletableFuture<T> awaitStoredValue(final String key, final Supplier<Optional<T>> lookup,
+            final String description, final CompletableFuture<?> cancellation) {
+        final CompletableFuture<Void> stored = key == null
+                ? new CompletableFuture<>()
+                : storageKeyNotifier.await(key);
+        final CompletableFuture<T> result = pollingService.<T>createJob()
+                                                          .action(lookup)
+                                                          .timeToLive(config.getSubmodel().getRequestTtl())
+                                                          .pollInterval(getCallbackFallbackPollInterval())
+                                                          .description(description)
+                                                          .build()
+                                                          .schedule();
+        stored.thenRunAsync(() -> lookup.get().ifPresent(result::complete), executorService);
+        result.whenComplete((value, throwable) -> {
+            if (key != null) {
+                storageKeyNotifier.release(key, stored);
+            }
+        });
+        cancellation.whenComplete((value, throwable) -> {
+            if (cancellation.isCancelled()) {
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private Duration getCallbackFallbackPollInterval() {
+        final Duration interval = config.getControlplane().getCallbackFallbackPollInterval();
+        // the polling job needs a delay of at least one millisecond
+        return interval != null && interval.toMillis() > 0 ? interval : null;
     }
 
     private Optional<EndpointDataReference> retrieveEndpointReference(final String storageId,
-            final StopWatch stopWatch) {
+            final EndpointDataReference replacedReference, final StopWatch stopWatch) {
 
         log.info("Retrieving dataReference from storage for storageId (assetId or contractAgreementId): {}",
                 Masker.mask(storageId));
-        final var dataReference = endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(storageId);
+        // when renewing an expired reference, wait until the renewed reference replaced it in the storage
+        final var dataReference = endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(storageId)
+                                                                   .filter(ref -> replacedReference == null
+                                                                           || !Objects.equals(ref.getAuthCode(),
+                                                                           replacedReference.getAuthCode()));
 
         if (dataReference.isPresent()) {
             final EndpointDataReference ref = dataReference.get();
@@ -322,4 +591,14 @@ public class EdcOrchestrator {
         }
         return Optional.empty();
     }
+
+    /**
+     * An endpoint data reference which is renewed in the background while it is in use.
+     */
+    private record RefreshableReference(String dspEndpointAddress, CatalogItem catalogItem, Instant lastUsed) {
+
+        private RefreshableReference used() {
+            return new RefreshableReference(dspEndpointAddress, catalogItem, Instant.now());
+        }
+    }
 }
@@ -28,16 +28,27 @@ import static org.eclipse.tractusx.irs.edc.client.util.UrlValidator.isValidUrl;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
@@ -48,12 +59,17 @@ import org.eclipse.tractusx.irs.edc.client.model.notification.EdcNotificationRes
 import org.eclipse.tractusx.irs.edc.client.model.notification.NotificationContent;
 import org.eclipse.tractusx.irs.edc.client.util.UriPathJoiner;
 import org.springframework.util.StopWatch;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 /**
- * Public API facade for EDC domain
+ * Public API facade for EDC domain.
+ * Requests to a provider pass a circuit breaker per provider host, so that providers failing continuously are not
+ * called until they recover. The outcome of an asynchronous request is recorded once it completes. Data plane
+ * requests are additionally limited by an adaptive number of concurrent requests per provider host, so that slow
+ * providers do not occupy the capacity for all others, and run on a bounded executor.
  */
 @Slf4j
-@RequiredArgsConstructor
 @SuppressWarnings({ "PMD.ExcessiveImports",
                     "PMD.UseObjectForClearerAPI"
 })
@@ -69,6 +85,46 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
     private final EdcDataPlaneClient edcDataPlaneClient;
     private final EdcOrchestrator edcOrchestrator;
     private final RetryRegistry retryRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final AdaptiveRequestLimiter requestLimiter;
+    private final Executor dataPlaneExecutor;
+
+    /**
+     * Creates a client with default circuit breakers which runs the data plane requests on the common pool.
+     *
+     * @param config             the EDC configuration
+     * @param edcDataPlaneClient the data plane client
+     * @param edcOrchestrator    the orchestrator for catalog requests and negotiations
+     * @param retryRegistry      the registry of the retries per provider host
+     */
+    public EdcSubmodelClientImpl(final EdcConfiguration config, final EdcDataPlaneClient edcDataPlaneClient,
+            final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry) {
+        this(config, edcDataPlaneClient, edcOrchestrator, retryRegistry, CircuitBreakerRegistry.ofDefaults(), null,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param config                 the EDC configuration
+     * @param edcDataPlaneClient     the data plane client
+     * @param edcOrchestrator        the orchestrator for catalog requests and negotiations
+     * @param retryRegistry          the registry of the retries per provider host
+     * @param circuitBreakerRegistry the registry of the circuit breakers per provider host
+     * @param meterRegistryService   the metrics of the concurrency limits per provider host, may be null
+     * @param dataPlaneExecutor      the bounded executor running the data plane requests
+     */
+    public EdcSubmodelClientImpl(final EdcConfiguration config, final EdcDataPlaneClient edcDataPlaneClient,
+            final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final OutboundMeterRegistryService meterRegistryService, final Executor dataPlaneExecutor) {
+        this.config = config;
+        this.edcDataPlaneClient = edcDataPlaneClient;
+        this.edcOrchestrator = edcOrchestrator;
+        this.retryRegistry = retryRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.requestLimiter = new AdaptiveRequestLimiter(config.getSubmodel().getConcurrencyLimit(),
+                meterRegistryService);
+        this.dataPlaneExecutor = dataPlaneExecutor;
+    }
 
     private static void stopWatchOnEdcTask(final StopWatch stopWatch) {
         stopWatch.stop();
@@ -83,10 +139,11 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
 
         final String dspEndpointAddress = appendSuffix(connectorEndpoint, config.getControlplane().getProviderSuffix());
 
-        final CompletableFuture<EndpointDataReference> endpointDataReference = execute(dspEndpointAddress,
-                () -> edcOrchestrator.getEndpointDataReference(dspEndpointAddress, assetId, bpn, Optional.empty()));
+        final CompletableFuture<EndpointDataReference> endpointDataReference = executeAsync(dspEndpointAddress,
+                () -> edcOrchestrator.getEndpointDataReference(dspEndpointAddress, assetId, bpn, Optional.empty()),
+                future -> future);
 
-        return execute(dspEndpointAddress, () -> endpointDataReference.thenApply(futureEdr -> {
+        return endpointDataReference.thenCompose(futureEdr -> callDataPlane(dspEndpointAddress, () -> {
             log.info("Retrieving data from EDC data plane for dataReference with id {}", futureEdr.getId());
             final String payload = edcDataPlaneClient.getData(futureEdr, submodelDataplaneUrl);
             stopWatchOnEdcTask(stopWatch);
@@ -107,10 +164,10 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         final CatalogItem catalogItem = execute(dspEndpointAddress,
                 () -> edcOrchestrator.getCatalogItem(dspEndpointAddress, assetId, bpn));
 
-        final CompletableFuture<EndpointDataReference> endpointDataReference = execute(dspEndpointAddress,
-                () -> edcOrchestrator.getEndpointDataReference(dspEndpointAddress, catalogItem));
+        final CompletableFuture<EndpointDataReference> endpointDataReference = executeAsync(dspEndpointAddress,
+                () -> edcOrchestrator.getEndpointDataReference(dspEndpointAddress, catalogItem), future -> future);
 
-        return execute(dspEndpointAddress, () -> endpointDataReference.thenApply(futureEdr -> {
+        return endpointDataReference.thenCompose(futureEdr -> callDataPlane(dspEndpointAddress, () -> {
             log.info("Sending dataReference to EDC data plane for assetId '{}'", assetId);
             final EdcNotificationResponse response = edcDataPlaneClient.sendData(futureEdr, notification);
             stopWatchOnEdcTask(stopWatch);
@@ -144,8 +201,9 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
                             endpointAddress, filterKey, filterValue));
         }
 
-        return execute(dspEndpointAddress,
-                () -> edcOrchestrator.getEndpointDataReferences(dspEndpointAddress, contractOffers));
+        return executeAsync(dspEndpointAddress,
+                () -> edcOrchestrator.getEndpointDataReferences(dspEndpointAddress, contractOffers),
+                EdcSubmodelClientImpl::anySucceeded);
     }
 
     @Override
@@ -174,8 +232,9 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
                             DT_DATA_CORE_REGISTRY));
         }
 
-        return execute(dspEndpointAddress,
-                () -> edcOrchestrator.getEndpointDataReferences(dspEndpointAddress, contractOffers));
+        return executeAsync(dspEndpointAddress,
+                () -> edcOrchestrator.getEndpointDataReferences(dspEndpointAddress, contractOffers),
+                EdcSubmodelClientImpl::anySucceeded);
     }
 
     private String appendSuffix(final String endpointAddress, final String providerSuffix) throws EdcClientException {
@@ -196,20 +255,131 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
                         "PMD.AvoidCatchingGenericException"
     })
     private <T> T execute(final String endpointAddress, final CheckedSupplier<T> supplier) throws EdcClientException {
-        if (!isValidUrl(endpointAddress)) {
-            throw new IllegalArgumentException(String.format("Malformed endpoint address '%s'", endpointAddress));
+        final String host = hostOf(endpointAddress);
+
+        final Retry retry = retryRegistry.retry(host, "default");
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(host);
+        try {
+
+            return CircuitBreaker.decorateCallable(circuitBreaker, Retry.decorateCallable(retry, supplier::get))
+                                 .call();
+        } catch (EdcClientException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EdcClientException(e);
         }
-        final String host = URI.create(endpointAddress).getHost();
+    }
+
+    /**
+     * Starts an asynchronous request. The circuit breaker of the provider host records its outcome once, when the
+     * future derived from the result by the given completion function completes, instead of when the request was
+     * started.
+     *
+     * @param endpointAddress the address of the provider connector
+     * @param supplier        starts the request
+     * @param completion      the future completing with the outcome of the started request
+     * @param <T>             the result type
+     * @return the result of the supplier
+     * @throws EdcClientException if the circuit breaker is open or the request could not be started
+     */
+    @SuppressWarnings({ "PMD.AvoidRethrowingException",
+                        "PMD.AvoidCatchingGenericException"
+    })
+    private <T> T executeAsync(final String endpointAddress, final CheckedSupplier<T> supplier,
+            final Function<T, CompletableFuture<?>> completion) throws EdcClientException {
+        final String host = hostOf(endpointAddress);
 
         final Retry retry = retryRegistry.retry(host, "default");
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(host);
         try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            throw new EdcClientException(e);
+        }
 
-            return Retry.decorateCallable(retry, supplier::get).call();
+        final long start = System.nanoTime();
+        final T result;
+        try {
+            result = Retry.decorateCallable(retry, supplier::get).call();
         } catch (EdcClientException e) {
+            recordOutcome(circuitBreaker, start, e);
             throw e;
         } catch (Exception e) {
+            recordOutcome(circuitBreaker, start, e);
             throw new EdcClientException(e);
         }
+        completion.apply(result).whenComplete((value, throwable) -> recordOutcome(circuitBreaker, start, throwable));
+        return result;
+    }
+
+    private static void recordOutcome(final CircuitBreaker circuitBreaker, final long start,
+            final Throwable throwable) {
+        final long duration = System.nanoTime() - start;
+        if (throwable == null) {
+            circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+        } else {
+            // unwrap, so the ignored and recorded exceptions of the circuit breaker match the actual failure
+            circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, unwrap(throwable));
+        }
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * @param futures the futures of one call
+     * @return future completing once all futures completed, exceptionally if none of them succeeded
+     */
+    private static CompletableFuture<?> anySucceeded(final List<? extends CompletableFuture<?>> futures) {
+        final CompletableFuture<?>[] completions = futures.stream()
+                                                          .map(future -> future.handle((value, throwable) -> value))
+                                                          .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(completions).thenRun(() -> {
+            if (!futures.isEmpty() && futures.stream().allMatch(CompletableFuture::isCompletedExceptionally)) {
+                futures.get(0).join();
+            }
+        });
+    }
+
+    private static String hostOf(final String endpointAddress) {
+        if (!isValidUrl(endpointAddress)) {
+            throw new IllegalArgumentException(String.format("Malformed endpoint address '%s'", endpointAddress));
+        }
+        return URI.create(endpointAddress).getHost();
+    }
+
+    /**
+     * Runs a data plane request on the data plane executor as soon as the concurrency limit of the provider host
+     * permits it, so that it never runs on the thread releasing the permit. The duration and outcome of the request
+     * adapt the limit and are recorded by the circuit breaker of the provider host.
+     *
+     * @param endpointAddress the address of the provider connector
+     * @param request         the data plane request
+     * @param <T>             the result type
+     * @return future of the request result
+     */
+    private <T> CompletableFuture<T> callDataPlane(final String endpointAddress, final Supplier<T> request) {
+        final String host = URI.create(endpointAddress).getHost();
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(host);
+
+        return requestLimiter.acquire(host).thenApplyAsync(permit -> {
+            final long start = System.nanoTime();
+            boolean failed = false;
+            try {
+                return circuitBreaker.executeSupplier(request);
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                failed = true;
+                throw e;
+            } finally {
+                requestLimiter.release(host, Duration.ofNanos(System.nanoTime() - start), failed);
+            }
+        }, dataPlaneExecutor);
     }
 
     /**
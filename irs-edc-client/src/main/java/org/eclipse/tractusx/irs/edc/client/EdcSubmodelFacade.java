@@ -26,6 +26,7 @@ package org.eclipse.tractusx.irs.edc.client;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -90,6 +91,45 @@ public class EdcSubmodelFacade {
         }
     }
 
+    /**
+     * Retrieves the submodel payload from the specified connector endpoint without blocking the calling thread.
+     * The returned future fails with an {@link EdcClientException} in the same cases
+     * {@link #getSubmodelPayload(String, String, String, String)} throws one.
+     *
+     * @param connectorEndpoint    The endpoint address of the EDC connector.
+     * @param submodelDataplaneUrl The data plane URL of the submodel.
+     * @param assetId              The ID of the asset to retrieve.
+     * @param bpn                  The Business Partner Number of the data provider.
+     * @return future completing with the {@link SubmodelDescriptor} containing the payload.
+     */
+    public CompletableFuture<SubmodelDescriptor> getSubmodelPayloadAsync(final String connectorEndpoint,
+            final String submodelDataplaneUrl, final String assetId, final String bpn) {
+        try {
+            final String fullSubmodelDataplaneUrl = getFullSubmodelDataplaneUrl(submodelDataplaneUrl);
+
+            log.debug("Requesting Submodel asynchronously for URL: '{}'", fullSubmodelDataplaneUrl);
+            return client.getSubmodelPayload(connectorEndpoint, fullSubmodelDataplaneUrl, assetId, bpn)
+                         .orTimeout(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS)
+                         .exceptionallyCompose(throwable -> CompletableFuture.failedFuture(
+                                 toEdcClientException(throwable)));
+        } catch (EdcClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static EdcClientException toEdcClientException(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException || throwable instanceof ExecutionException
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof EdcClientException exceptionCause) {
+            return exceptionCause;
+        }
+        if (cause instanceof TimeoutException) {
+            return new EdcClientException("Timeout while getting submodel payload", cause);
+        }
+        return new EdcClientException(cause);
+    }
+
     /**
      * Constructs the full submodel data plane URL by appending the submodel suffix from the configuration.
      *
@@ -47,6 +47,18 @@ public class OngoingNegotiationStorage {
         ongoingNegotiations.put(assetId, completableFuture);
     }
 
+    /**
+     * Adds a new ongoing negotiation for the specified key, unless a negotiation is already stored for it.
+     *
+     * @param key               The key of the negotiation, e.g. the asset ID or the contract offer.
+     * @param completableFuture The CompletableFuture representing the ongoing negotiation.
+     * @return The CompletableFuture of the negotiation already ongoing for the key, or null if the given one was added.
+     */
+    public CompletableFuture<EndpointDataReference> addToOngoingNegotiationsIfAbsent(final String key,
+            final CompletableFuture<EndpointDataReference> completableFuture) {
+        return ongoingNegotiations.putIfAbsent(key, completableFuture);
+    }
+
     /**
      * Removes the ongoing negotiation for the specified asset ID.
      *
@@ -56,6 +68,17 @@ public class OngoingNegotiationStorage {
         ongoingNegotiations.remove(assetId);
     }
 
+    /**
+     * Removes the ongoing negotiation for the specified key, if it is still the given negotiation.
+     *
+     * @param key               The key of the negotiation to remove.
+     * @param completableFuture The CompletableFuture of the negotiation to remove.
+     */
+    public void removeFromOngoingNegotiations(final String key,
+            final CompletableFuture<EndpointDataReference> completableFuture) {
+        ongoingNegotiations.remove(key, completableFuture);
+    }
+
     /**
      * Retrieves the ongoing negotiation for the specified asset ID.
      *
@@ -23,8 +23,11 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +41,7 @@ import org.springframework.stereotype.Service;
 /**
  * Cache service to check if there is
  * {@link org.eclipse.edc.spi.types.domain.edr.EndpointDataReference} stored.
+ * The expiry of the auth code tokens is parsed once per token and kept until the token expired.
  */
 @Service
 @AllArgsConstructor
@@ -45,6 +49,7 @@ import org.springframework.stereotype.Service;
 public class EndpointDataReferenceCacheService {
 
     private final EndpointDataReferenceStorage endpointDataReferenceStorage;
+    private final Map<String, TokenValidity> tokenValidities = new ConcurrentHashMap<>();
 
     /**
      * Returns {@link org.eclipse.edc.spi.types.domain.edr.EndpointDataReference}
@@ -88,18 +93,60 @@ public class EndpointDataReferenceCacheService {
 
     public void putEndpointDataReferenceIntoStorage(final String assetId,
             final EndpointDataReference endpointDataReference) {
+        if (endpointDataReference != null && endpointDataReference.getAuthCode() != null) {
+            getTokenValidity(endpointDataReference.getAuthCode());
+        }
         endpointDataReferenceStorage.put(assetId, endpointDataReference);
     }
 
-    private static boolean isTokenExpired(final @NotNull String authCode) {
-        final Instant tokenExpirationInstant = extractTokenExpiration(authCode);
-        return Instant.now().isAfter(tokenExpirationInstant);
+    /**
+     * Checks whether the token of the given {@link EndpointDataReference} reached the given fraction of its
+     * lifetime. The lifetime is measured from the moment the token was first seen by this service.
+     *
+     * @param endpointDataReference the endpoint data reference to check
+     * @param lifetimeFraction      the fraction of the token lifetime after which the token should be refreshed
+     * @return true if the token should be refreshed
+     */
+    public boolean isRefreshDue(final EndpointDataReference endpointDataReference, final double lifetimeFraction) {
+        final String authCode = endpointDataReference.getAuthCode();
+        if (authCode == null) {
+            return false;
+        }
+        return !Instant.now().isBefore(getTokenValidity(authCode).refreshAt(lifetimeFraction));
+    }
+
+    /**
+     * Removes the parsed expiry of all tokens which are expired.
+     */
+    public void evictExpiredTokens() {
+        final Instant now = Instant.now();
+        tokenValidities.values().removeIf(tokenValidity -> now.isAfter(tokenValidity.expiresAt()));
+    }
+
+    private boolean isTokenExpired(final @NotNull String authCode) {
+        return Instant.now().isAfter(getTokenValidity(authCode).expiresAt());
+    }
+
+    private TokenValidity getTokenValidity(final String authCode) {
+        return tokenValidities.computeIfAbsent(authCode,
+                token -> new TokenValidity(Instant.now(), extractTokenExpiration(token)));
     }
 
     private static Instant extractTokenExpiration(final String token) {
         return Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(token).getExp());
     }
 
+    /**
+     * The expiry of a token and the time it was first seen.
+     */
+    private record TokenValidity(Instant receivedAt, Instant expiresAt) {
+
+        private Instant refreshAt(final double lifetimeFraction) {
+            final Duration lifetime = Duration.between(receivedAt, expiresAt);
+            return receivedAt.plusMillis((long) (lifetime.toMillis() * lifetimeFraction));
+        }
+    }
+
 }
 
 
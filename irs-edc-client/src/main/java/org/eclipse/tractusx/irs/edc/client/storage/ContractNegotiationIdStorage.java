@@ -22,6 +22,7 @@ package org.eclipse.tractusx.irs.edc.client.storage;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -40,16 +41,24 @@ public class ContractNegotiationIdStorage {
     private final Duration duration;
     private final boolean useRedis;
 
+    public ContractNegotiationIdStorage(final Duration duration, final boolean useRedis,
+            final StringRedisTemplate redisTemplate) {
+        this(duration, useRedis, redisTemplate, 0, null);
+    }
+
+    @Autowired
     public ContractNegotiationIdStorage(
             @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration duration,
             @Value("${irs-edc-client.controlplane.datareference.storage.useRedis:false}") final boolean useRedis,
-            @Autowired(required = false) final StringRedisTemplate redisTemplate) {
+            @Autowired(required = false) final StringRedisTemplate redisTemplate,
+            @Value("${irs-edc-client.controlplane.datareference.storage.maximumSize:0}") final int maximumSize,
+            @Autowired(required = false) final MeterRegistry meterRegistry) {
         this.duration = duration;
         this.useRedis = useRedis;
         this.redisTemplate = redisTemplate;
 
         if (!useRedis) {
-            this.localStorage = new ExpiringStorage<>(duration);
+            this.localStorage = new ExpiringStorage<>(duration, maximumSize, meterRegistry, "contract-negotiation-id");
         }
     }
 
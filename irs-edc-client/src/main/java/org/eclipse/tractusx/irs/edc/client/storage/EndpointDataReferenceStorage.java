@@ -22,6 +22,7 @@ package org.eclipse.tractusx.irs.edc.client.storage;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -49,16 +50,24 @@ public class EndpointDataReferenceStorage {
     @Getter
     private final boolean useRedis;
 
+    public EndpointDataReferenceStorage(final Duration duration, final boolean useRedis,
+            final StringRedisTemplate redisTemplate) {
+        this(duration, useRedis, redisTemplate, 0, null);
+    }
+
+    @Autowired
     public EndpointDataReferenceStorage(
             @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration duration,
             @Value("${irs-edc-client.controlplane.datareference.storage.useRedis:false}") final boolean useRedis,
-            @Autowired(required = false) final StringRedisTemplate redisTemplate) {
+            @Autowired(required = false) final StringRedisTemplate redisTemplate,
+            @Value("${irs-edc-client.controlplane.datareference.storage.maximumSize:0}") final int maximumSize,
+            @Autowired(required = false) final MeterRegistry meterRegistry) {
         this.duration = duration;
         this.useRedis = useRedis;
         this.redisTemplate = redisTemplate;
 
         if (!useRedis) {
-            this.localStorage = new ExpiringStorage<>(duration);
+            this.localStorage = new ExpiringStorage<>(duration, maximumSize, meterRegistry, "endpoint-data-reference");
         }
     }
 
@@ -19,57 +19,242 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client.storage;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Generic in-memory storage. Storage duration can be set via storageDuration.
+ * <p>
+ * All entries are stored for the same duration, so they expire in the order they were written. Expired entries are
+ * removed from the head of that order on every write and when they are read, which keeps the cost of expiry
+ * amortised constant. Reads do not take a lock, only writes are serialized on the expiry order. If a maximum size is
+ * set, entries are evicted once it is exceeded, starting with the oldest entry which was not read since the last
+ * eviction passed it (second chance), an approximation of the least recently used entry.
+ * Hits, misses and evictions are recorded if a {@link MeterRegistry} is given.
  */
 public class ExpiringStorage<T> {
+
+    private static final int UNBOUNDED = 0;
+    private static final String STORAGE_TAG = "storage";
+    private static final String CAUSE_TAG = "cause";
+
     private final Map<String, ExpiringContainer<T>> storageMap = new ConcurrentHashMap<>();
+    /**
+     * The stored containers in the order they were written, holding one entry per key. Only accessed while
+     * synchronized on it.
+     */
+    private final Map<String, ExpiringContainer<T>> expiryOrder = new LinkedHashMap<>();
     private final Duration storageDuration;
+    private final int maximumSize;
+    private final Clock clock;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredCounter;
+    private final Counter evictedCounter;
 
     public ExpiringStorage(final Duration storageDuration) {
+        this(storageDuration, UNBOUNDED, null, null, Clock.systemUTC());
+    }
+
+    public ExpiringStorage(final Duration storageDuration, final int maximumSize, final MeterRegistry meterRegistry,
+            final String name) {
+        this(storageDuration, maximumSize, meterRegistry, name, Clock.systemUTC());
+    }
+
+    /**
+     * @param storageDuration how long entries are stored
+     * @param maximumSize     the maximum number of entries, unbounded if zero or negative
+     * @param meterRegistry   the registry to record the metrics in, or null to record no metrics
+     * @param name            the name of the storage used as tag of the metrics
+     * @param clock           the clock to determine the expiry
+     */
+    public ExpiringStorage(final Duration storageDuration, final int maximumSize, final MeterRegistry meterRegistry,
+            final String name, final Clock clock) {
         this.storageDuration = storageDuration;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+
+        if (meterRegistry == null) {
+            this.hitCounter = null;
+            this.missCounter = null;
+            this.expiredCounter = null;
+            this.evictedCounter = null;
+        } else {
+            this.hitCounter = Counter.builder("edc.storage.hit")
+                                     .description("Number of values found in the storage")
+                                     .tags(STORAGE_TAG, name)
+                                     .register(meterRegistry);
+            this.missCounter = Counter.builder("edc.storage.miss")
+                                      .description("Number of values not found in the storage")
+                                      .tags(STORAGE_TAG, name)
+                                      .register(meterRegistry);
+            this.expiredCounter = Counter.builder("edc.storage.eviction")
+                                         .description("Number of values removed from the storage")
+                                         .tags(STORAGE_TAG, name, CAUSE_TAG, "expired")
+                                         .register(meterRegistry);
+            this.evictedCounter = Counter.builder("edc.storage.eviction")
+                                         .description("Number of values removed from the storage")
+                                         .tags(STORAGE_TAG, name, CAUSE_TAG, "size")
+                                         .register(meterRegistry);
+            Gauge.builder("edc.storage.size", this, ExpiringStorage::size)
+                 .description("Number of values in the storage")
+                 .tags(STORAGE_TAG, name)
+                 .register(meterRegistry);
+        }
     }
 
     public void put(final String storageId, final T storedObject) {
-        storageMap.put(storageId, new ExpiringContainer<>(Instant.now(), storedObject));
-        cleanup();
+        final Instant now = clock.instant();
+        final ExpiringContainer<T> container = new ExpiringContainer<>(now.plus(storageDuration), storedObject);
+        synchronized (expiryOrder) {
+            removeExpired(now);
+            storageMap.put(storageId, container);
+            // an overwritten entry moves to the end of the expiry order
+            expiryOrder.remove(storageId);
+            expiryOrder.put(storageId, container);
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    public Optional<T> get(final String storageId) {
+        ExpiringContainer<T> container = storageMap.get(storageId);
+        if (container != null && container.isExpired(clock.instant())) {
+            if (storageMap.remove(storageId, container)) {
+                increment(expiredCounter);
+            }
+            container = null;
+        }
+        if (container == null) {
+            increment(missCounter);
+            return Optional.empty();
+        }
+        container.markReferenced();
+        increment(hitCounter);
+        return Optional.of(container.getStoredObject());
     }
 
     /**
-     * Cleans up all dangling references which were not collected after the storageDuration.
+     * @param storageId the key of the entry
+     * @return whether an entry was removed
      */
-    private void cleanup() {
-        final Set<String> keys = new HashSet<>(storageMap.keySet());
-        keys.forEach(key -> {
-            final Instant creationTimestamp = storageMap.get(key).creationTimestamp();
-            if (Instant.now().isAfter(creationTimestamp.plus(storageDuration))) {
-                storageMap.remove(key);
-            }
-        });
+    public boolean remove(final String storageId) {
+        synchronized (expiryOrder) {
+            expiryOrder.remove(storageId);
+            return storageMap.remove(storageId) != null;
+        }
     }
 
-    public Optional<T> get(final String storageId) {
-        return Optional.ofNullable(storageMap.get(storageId)).map(ExpiringContainer::storedObject);
+    public int size() {
+        return storageMap.size();
     }
 
     public void clear() {
-        storageMap.clear();
+        synchronized (expiryOrder) {
+            storageMap.clear();
+            expiryOrder.clear();
+        }
     }
 
     /**
-     * Stores the object with its creation date.
+     * Removes the expired entries from the head of the expiry order. Entries which were already removed when they
+     * were read are skipped.
      */
-    private record ExpiringContainer<T>(Instant creationTimestamp, T storedObject) {
+    private void removeExpired(final Instant now) {
+        final Iterator<Map.Entry<String, ExpiringContainer<T>>> oldest = expiryOrder.entrySet().iterator();
+        while (oldest.hasNext()) {
+            final Map.Entry<String, ExpiringContainer<T>> entry = oldest.next();
+            if (!entry.getValue().isExpired(now)) {
+                return;
+            }
+            oldest.remove();
+            if (storageMap.remove(entry.getKey(), entry.getValue())) {
+                increment(expiredCounter);
+            }
+        }
     }
 
-}
+    private void evictLeastRecentlyUsed() {
+        if (maximumSize <= UNBOUNDED) {
+            return;
+        }
+        while (storageMap.size() > maximumSize && !expiryOrder.isEmpty()) {
+            final Map.Entry<String, ExpiringContainer<T>> victim = findEvictionCandidate();
+            expiryOrder.remove(victim.getKey());
+            if (storageMap.remove(victim.getKey(), victim.getValue())) {
+                increment(evictedCounter);
+            }
+        }
+    }
 
+    /**
+     * @return the oldest entry which was not read since it was passed the last time, or the oldest entry if all were
+     * read
+     */
+    private Map.Entry<String, ExpiringContainer<T>> findEvictionCandidate() {
+        Map.Entry<String, ExpiringContainer<T>> oldest = null;
+        for (final Map.Entry<String, ExpiringContainer<T>> entry : expiryOrder.entrySet()) {
+            if (oldest == null) {
+                oldest = entry;
+            }
+            if (!entry.getValue().clearReferenced()) {
+                return entry;
+            }
+        }
+        return oldest;
+    }
+
+    private static void increment(final Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Stores the object with its expiry date and whether it was read since the last eviction passed it.
+     */
+    private static final class ExpiringContainer<T> {
+        private final Instant expiresAt;
+        private final T storedObject;
+        private volatile boolean referenced;
+
+        private ExpiringContainer(final Instant expiresAt, final T storedObject) {
+            this.expiresAt = expiresAt;
+            this.storedObject = storedObject;
+        }
+
+        private T getStoredObject() {
+            return storedObject;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return now.isAfter(expiresAt);
+        }
+
+        private void markReferenced() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        /**
+         * @return whether the container was referenced before
+         */
+        private boolean clearReferenced() {
+            final boolean wasReferenced = referenced;
+            referenced = false;
+            return wasReferenced;
+        }
+    }
+
+}
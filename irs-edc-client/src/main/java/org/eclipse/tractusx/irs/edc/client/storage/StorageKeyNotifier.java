@@ -0,0 +1,126 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Notifies waiting requests as soon as a value was stored for a key, e.g. when the EDC control plane called back with
+ * a contract agreement id or an endpoint data reference. When Redis is used, the notification is published to all
+ * instances, so the request is notified regardless of which instance received the callback.
+ */
+@Service("irsEdcClientStorageKeyNotifier")
+@Slf4j
+public class StorageKeyNotifier {
+
+    /* package */ static final String CHANNEL = "irs-edc-client:stored-keys";
+
+    private final Map<String, CompletableFuture<Void>> waitingRequests = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public StorageKeyNotifier(
+            @Value("${irs-edc-client.controlplane.datareference.storage.useRedis:false}") final boolean useRedis,
+            @Autowired(required = false) final StringRedisTemplate redisTemplate) {
+        this.listenerContainer = useRedis && redisTemplate != null ? subscribe(redisTemplate) : null;
+        this.redisTemplate = this.listenerContainer == null ? null : redisTemplate;
+    }
+
+    /**
+     * Creates a notifier which only notifies requests waiting in this instance.
+     */
+    public StorageKeyNotifier() {
+        this(false, null);
+    }
+
+    /**
+     * @param key the key to wait for
+     * @return a future which is completed once a value was stored for the key
+     */
+    public CompletableFuture<Void> await(final String key) {
+        return waitingRequests.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    /**
+     * Stops waiting for the key, e.g. because the value was found in another way.
+     *
+     * @param key     the key
+     * @param waiting the future returned by {@link #await(String)}
+     */
+    public void release(final String key, final CompletableFuture<Void> waiting) {
+        waitingRequests.remove(key, waiting);
+    }
+
+    /**
+     * Notifies all requests waiting for the key.
+     *
+     * @param key the key a value was stored for
+     */
+    public void notifyStored(final String key) {
+        if (redisTemplate == null) {
+            complete(key);
+        } else {
+            redisTemplate.convertAndSend(CHANNEL, key);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    private void complete(final String key) {
+        final CompletableFuture<Void> waiting = waitingRequests.remove(key);
+        if (waiting != null) {
+            waiting.complete(null);
+        }
+    }
+
+    private RedisMessageListenerContainer subscribe(final StringRedisTemplate template) {
+        final RedisConnectionFactory connectionFactory = template.getConnectionFactory();
+        if (connectionFactory == null) {
+            log.warn("No Redis connection available, stored keys are only notified within this instance");
+            return null;
+        }
+        final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> complete(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+}
@@ -93,6 +93,7 @@ public class EdcTransformer {
     private final TransformerContext transformerContext;
     private final JsonObjectFromAssetTransformer jsonObjectFromAssetTransformer;
     private final JsonObjectToIrsPolicyTransformer jsonObjectToIrsPolicyTransformer;
+    private final SimpleContextJsonLdExpander simpleContextJsonLdExpander = new SimpleContextJsonLdExpander();
 
     public EdcTransformer(@Qualifier(JSON_LD_OBJECT_MAPPER) final ObjectMapper objectMapper,
             final TitaniumJsonLd titaniumJsonLd, final TypeTransformerRegistry typeTransformerRegistry) {
@@ -157,19 +158,22 @@ public class EdcTransformer {
     }
 
     public Catalog transformCatalog(final String jsonString, final Charset charset) {
-        final Result<JsonObject> expand;
-        expand = expandJsonLd(jsonString, charset);
-        return jsonObjectToCatalogTransformer.transform(expand.getContent(), transformerContext);
+        final JsonObject catalog = readJsonObject(jsonString, charset);
+        // catalogs of EDC connectors usually only define namespace prefixes, which does not need the generic expansion
+        final JsonObject expanded = simpleContextJsonLdExpander.expand(catalog)
+                                                               .orElseGet(() -> titaniumJsonLd.expand(catalog)
+                                                                                              .getContent());
+        return jsonObjectToCatalogTransformer.transform(expanded, transformerContext);
     }
 
     public Result<JsonObject> expandJsonLd(final String jsonString, final Charset charset) {
-        final Result<JsonObject> expand;
-        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(jsonString.getBytes(charset)))) {
+        return titaniumJsonLd.expand(readJsonObject(jsonString, charset));
+    }
 
-            expand = titaniumJsonLd.expand(
-                    JsonDocument.of(reader.read()).getJsonContent().orElseThrow().asJsonObject());
+    private static JsonObject readJsonObject(final String jsonString, final Charset charset) {
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(jsonString.getBytes(charset)))) {
+            return JsonDocument.of(reader.read()).getJsonContent().orElseThrow().asJsonObject();
         }
-        return expand;
     }
 
     public JsonObject transformNegotiationRequestToJson(final NegotiationRequest negotiationRequest) {
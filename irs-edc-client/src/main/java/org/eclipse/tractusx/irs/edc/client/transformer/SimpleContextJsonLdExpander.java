@@ -0,0 +1,245 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.transformer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Expands JSON-LD documents whose context only defines a vocabulary and namespace prefixes, like the catalogs
+ * returned by the EDC management API, without running the generic JSON-LD expansion algorithm.
+ * Resolved contexts are cached, as the responses of the EDC connectors repeat the same few contexts.
+ * Documents using any other JSON-LD feature are not expanded and have to be handed to the generic expansion.
+ */
+class SimpleContextJsonLdExpander {
+
+    private static final String CONTEXT = "@context";
+    private static final String VOCAB = "@vocab";
+    private static final String ID = "@id";
+    private static final String TYPE = "@type";
+    private static final String VALUE = "@value";
+    private static final String PREFIX_DELIMITERS = ":/?#[]@";
+    private static final Pattern IRI_SCHEME = Pattern.compile("[A-Za-z][A-Za-z0-9+.-]*");
+    private static final int MAX_CACHED_CONTEXTS = 64;
+
+    private final Map<JsonObject, Optional<SimpleContext>> resolvedContexts = new ConcurrentHashMap<>();
+
+    /**
+     * @param document the compacted JSON-LD document
+     * @return the expanded document, or empty if the document uses JSON-LD features not supported by this expander
+     */
+    Optional<JsonObject> expand(final JsonObject document) {
+        if (!(document.get(CONTEXT) instanceof JsonObject context)) {
+            return Optional.empty();
+        }
+        return resolveContext(context).flatMap(simpleContext -> {
+            try {
+                final JsonObject expanded = simpleContext.expandNode(document, true);
+                return expanded == null || expanded.isEmpty() || expanded.containsKey(VALUE)
+                        || expanded.size() == 1 && expanded.containsKey(ID)
+                        ? Optional.empty()
+                        : Optional.of(expanded);
+            } catch (UnsupportedDocumentException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private Optional<SimpleContext> resolveContext(final JsonObject context) {
+        final Optional<SimpleContext> cached = resolvedContexts.get(context);
+        if (cached != null) {
+            return cached;
+        }
+        if (resolvedContexts.size() >= MAX_CACHED_CONTEXTS) {
+            resolvedContexts.clear();
+        }
+        final Optional<SimpleContext> resolved = SimpleContext.of(context);
+        resolvedContexts.put(context, resolved);
+        return resolved;
+    }
+
+    /**
+     * Vocabulary mapping and prefix definitions of a context.
+     */
+    private record SimpleContext(String vocabulary, Map<String, String> prefixes) {
+
+        private static Optional<SimpleContext> of(final JsonObject context) {
+            String vocabulary = null;
+            final Map<String, String> prefixes = new HashMap<>();
+            for (final Map.Entry<String, JsonValue> definition : context.entrySet()) {
+                if (!(definition.getValue() instanceof JsonString iriValue)) {
+                    return Optional.empty();
+                }
+                final String term = definition.getKey();
+                final String iri = iriValue.getString();
+                if (VOCAB.equals(term) && iri.indexOf(':') > 0) {
+                    vocabulary = iri;
+                } else if (isPrefixDefinition(term, iri)) {
+                    prefixes.put(term, iri);
+                } else {
+                    return Optional.empty();
+                }
+            }
+            return vocabulary == null ? Optional.empty() : Optional.of(new SimpleContext(vocabulary, prefixes));
+        }
+
+        private static boolean isPrefixDefinition(final String term, final String iri) {
+            return !term.isEmpty() && term.charAt(0) != '@' && term.indexOf(':') < 0 && term.indexOf('/') < 0
+                    && !iri.isEmpty() && iri.charAt(0) != '@' && iri.indexOf(':') > 0
+                    && PREFIX_DELIMITERS.indexOf(iri.charAt(iri.length() - 1)) >= 0;
+        }
+
+        private JsonObject expandNode(final JsonObject node, final boolean document) {
+            if (node.containsKey(VALUE)) {
+                return expandValueObject(node);
+            }
+            final JsonObjectBuilder result = Json.createObjectBuilder();
+            final Map<String, List<JsonValue>> properties = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonValue> entry : node.entrySet()) {
+                final String key = entry.getKey();
+                final JsonValue value = entry.getValue();
+                switch (key) {
+                    case CONTEXT -> {
+                        // only the context of the document itself is supported
+                        if (!document) {
+                            throw new UnsupportedDocumentException();
+                        }
+                    }
+                    case ID -> result.add(ID, expandIri(asString(value), false));
+                    case TYPE -> result.add(TYPE, expandTypes(value));
+                    default -> {
+                        if (key.isEmpty() || key.charAt(0) == '@') {
+                            throw new UnsupportedDocumentException();
+                        }
+                        final List<JsonValue> expandedValues = expandValues(value);
+                        if (expandedValues != null) {
+                            properties.computeIfAbsent(expandIri(key, true), iri -> new ArrayList<>())
+                                      .addAll(expandedValues);
+                        }
+                    }
+                }
+            }
+            properties.forEach((iri, values) -> {
+                final JsonArrayBuilder array = Json.createArrayBuilder();
+                values.forEach(array::add);
+                result.add(iri, array);
+            });
+            return result.build();
+        }
+
+        private static JsonObject expandValueObject(final JsonObject valueObject) {
+            if (valueObject.size() != 1) {
+                throw new UnsupportedDocumentException();
+            }
+            return switch (valueObject.get(VALUE).getValueType()) {
+                case NULL -> null;
+                case STRING, NUMBER, TRUE, FALSE -> valueObject;
+                default -> throw new UnsupportedDocumentException();
+            };
+        }
+
+        private List<JsonValue> expandValues(final JsonValue value) {
+            return switch (value.getValueType()) {
+                case NULL -> null;
+                case ARRAY -> {
+                    final List<JsonValue> expandedValues = new ArrayList<>();
+                    for (final JsonValue item : value.asJsonArray()) {
+                        if (item.getValueType() == JsonValue.ValueType.ARRAY) {
+                            throw new UnsupportedDocumentException();
+                        }
+                        final List<JsonValue> expandedItem = expandValues(item);
+                        if (expandedItem != null) {
+                            expandedValues.addAll(expandedItem);
+                        }
+                    }
+                    yield expandedValues;
+                }
+                case OBJECT -> {
+                    final JsonObject expanded = expandNode(value.asJsonObject(), false);
+                    yield expanded == null ? null : List.of(expanded);
+                }
+                default -> List.of(Json.createObjectBuilder().add(VALUE, value).build());
+            };
+        }
+
+        private JsonArrayBuilder expandTypes(final JsonValue value) {
+            final JsonArrayBuilder types = Json.createArrayBuilder();
+            if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+                value.asJsonArray().forEach(type -> types.add(expandIri(asString(type), true)));
+            } else {
+                types.add(expandIri(asString(value), true));
+            }
+            return types;
+        }
+
+        private String expandIri(final String value, final boolean vocab) {
+            if (value.isEmpty() || value.charAt(0) == '@' || value.charAt(0) == ':') {
+                throw new UnsupportedDocumentException();
+            }
+            if (vocab && prefixes.containsKey(value)) {
+                return prefixes.get(value);
+            }
+            final int colon = value.indexOf(':');
+            if (colon > 0) {
+                final String prefix = value.substring(0, colon);
+                final String suffix = value.substring(colon + 1);
+                if (prefixes.containsKey(prefix) && !suffix.startsWith("//")) {
+                    return prefixes.get(prefix) + suffix;
+                }
+                if ("_".equals(prefix) || !vocab || IRI_SCHEME.matcher(prefix).matches()) {
+                    return value;
+                }
+                throw new UnsupportedDocumentException();
+            }
+            // identifiers are resolved against the document, which has no base IRI
+            return vocab ? vocabulary + value : value;
+        }
+
+        private static String asString(final JsonValue value) {
+            if (value instanceof JsonString string) {
+                return string.getString();
+            }
+            throw new UnsupportedDocumentException();
+        }
+    }
+
+    /**
+     * Signals a document which has to be expanded by the generic JSON-LD expansion.
+     */
+    private static final class UnsupportedDocumentException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedDocumentException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRequestLimiterTest {
+
+    private static final String HOST = "provider.com";
+    private static final Duration FAST = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EdcConfiguration.SubmodelConfig.ConcurrencyLimitConfig config;
+    private AdaptiveRequestLimiter testee;
+
+    @BeforeEach
+    void setUp() {
+        config = new EdcConfiguration.SubmodelConfig.ConcurrencyLimitConfig();
+        config.setInitialLimit(2);
+        config.setMinLimit(1);
+        config.setMaxLimit(4);
+        config.setBackoffRatio(0.5);
+        config.setLatencyThreshold(Duration.ofSeconds(1));
+        testee = new AdaptiveRequestLimiter(config,
+                new OutboundMeterRegistryService(meterRegistry, RetryRegistry.ofDefaults()));
+    }
+
+    @Test
+    void shouldQueueRequestsExceedingLimitUntilPermitIsReleased() {
+        // arrange
+        final CompletableFuture<Void> first = testee.acquire(HOST);
+        final CompletableFuture<Void> second = testee.acquire(HOST);
+
+        // act
+        final CompletableFuture<Void> third = testee.acquire(HOST);
+
+        // assert
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+        assertThat(meterRegistry.get("http.requests.concurrency.waiting").tag("host", HOST).gauge().value()).isOne();
+
+        testee.release(HOST, FAST, false);
+        assertThat(third).isCompleted();
+    }
+
+    @Test
+    void shouldRaiseLimitForSuccessfulRequestsWhileBusy() {
+        // arrange
+        testee.acquire(HOST);
+        testee.acquire(HOST);
+
+        // act
+        testee.release(HOST, FAST, false);
+
+        // assert
+        assertThat(testee.getLimit(HOST)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldLowerLimitForFailedAndSlowRequests() {
+        // arrange
+        config.setInitialLimit(4);
+        testee.acquire(HOST);
+        testee.acquire(HOST);
+
+        // act
+        testee.release(HOST, FAST, true);
+        final int limitAfterFailure = testee.getLimit(HOST);
+        testee.release(HOST, Duration.ofSeconds(2), false);
+
+        // assert
+        assertThat(limitAfterFailure).isEqualTo(2);
+        assertThat(testee.getLimit(HOST)).isEqualTo(1);
+        assertThat(meterRegistry.get("http.requests.concurrency.drops").tag("host", HOST).counter().count()).isEqualTo(
+                2);
+    }
+
+    @Test
+    void shouldLimitHostsIndependently() {
+        // arrange
+        testee.acquire(HOST);
+        testee.acquire(HOST);
+        testee.release(HOST, FAST, true);
+
+        // act
+        final CompletableFuture<Void> otherHost = testee.acquire("other.com");
+
+        // assert
+        assertThat(otherHost).isCompleted();
+        assertThat(testee.getLimit("other.com")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPassPermitOnIfWaitingRequestWasCancelled() {
+        // arrange
+        testee.acquire(HOST);
+        testee.acquire(HOST);
+        final CompletableFuture<Void> cancelled = testee.acquire(HOST);
+        final CompletableFuture<Void> waiting = testee.acquire(HOST);
+        cancelled.cancel(false);
+
+        // act
+        testee.release(HOST, Duration.ofSeconds(2), false);
+        testee.release(HOST, FAST, false);
+
+        // assert
+        assertThat(waiting).isCompleted();
+    }
+
+    @Test
+    void shouldNotLimitIfDisabled() {
+        // arrange
+        config.setEnabled(false);
+        config.setInitialLimit(1);
+
+        // act
+        testee.acquire(HOST);
+        final CompletableFuture<Void> second = testee.acquire(HOST);
+
+        // assert
+        assertThat(second).isCompleted();
+    }
+}
@@ -24,6 +24,7 @@
 package org.eclipse.tractusx.irs.edc.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.tractusx.irs.edc.client.testutil.TestMother.createCatalog;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -34,6 +35,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.eclipse.edc.catalog.spi.Catalog;
@@ -155,4 +157,69 @@ class EDCCatalogFacadeTest {
         assertThat(catalogPolicy.getTarget()).isEqualTo(assetId);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReuseCachedCatalogUntilOfferIsInvalidated() {
+        // arrange
+        final String connectorUrl = "testConnector";
+        final String providerBpn = "BPN000123456";
+        final String offerId = "definitionId:testTarget:randomId";
+        when(controlPlaneClient.getCatalogWithFilter(connectorUrl, "filterKey", "testTarget", providerBpn)).thenReturn(
+                createCatalog("testTarget", createPolicy(), providerBpn, offerId));
+
+        // act
+        final List<CatalogItem> first = edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "filterKey",
+                "testTarget", providerBpn);
+        final List<CatalogItem> second = edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "filterKey",
+                "testTarget", providerBpn);
+        edcCatalogFacade.invalidateCatalogsWithOffer(connectorUrl, offerId);
+        final List<CatalogItem> afterInvalidation = edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "filterKey",
+                "testTarget", providerBpn);
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(afterInvalidation).hasSize(1);
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter(connectorUrl, "filterKey", "testTarget",
+                providerBpn);
+    }
+
+    @Test
+    void shouldNotCacheEmptyCatalogWithoutEmptyTtl() {
+        // arrange
+        edcConfig.getControlplane().getCatalogCache().setEmptyTtl(Duration.ZERO);
+        when(controlPlaneClient.getCatalogWithFilter(anyString(), anyString(), anyString(), anyString())).thenReturn(
+                createCatalog("other", 0));
+
+        // act
+        edcCatalogFacade.fetchCatalogByFilter("testConnector", "filterKey", "testTarget", "BPN000123456");
+        final List<CatalogItem> catalogItems = edcCatalogFacade.fetchCatalogByFilter("testConnector", "filterKey",
+                "testTarget", "BPN000123456");
+
+        // assert
+        assertThat(catalogItems).isEmpty();
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldNotCacheFailedCatalogRequests() {
+        // arrange
+        when(controlPlaneClient.getCatalogWithFilter(anyString(), anyString(), anyString(), anyString())).thenThrow(
+                new IllegalStateException("catalog error"));
+
+        // act & assert
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> edcCatalogFacade.fetchCatalogByFilter("testConnector", "filterKey", "testTarget",
+                    "BPN000123456")).isInstanceOf(IllegalStateException.class);
+        }
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter(anyString(), anyString(), anyString(), anyString());
+    }
+
+    private static Policy createPolicy() {
+        return Policy.Builder.newInstance()
+                             .type(PolicyType.OFFER)
+                             .permissions(List.of())
+                             .prohibitions(List.of())
+                             .duties(List.of())
+                             .build();
+    }
+}
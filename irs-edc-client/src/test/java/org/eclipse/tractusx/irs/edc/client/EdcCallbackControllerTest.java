@@ -32,13 +32,16 @@ import java.util.Optional;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.edc.client.storage.ContractNegotiationIdStorage;
 import org.eclipse.tractusx.irs.edc.client.storage.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.storage.StorageKeyNotifier;
 import org.junit.jupiter.api.Test;
 
 class EdcCallbackControllerTest {
 
     private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1), false, null);
     private final ContractNegotiationIdStorage contractNegotiationIdStorage = new ContractNegotiationIdStorage(Duration.of(1, ChronoUnit.MINUTES), false, null);
-    private final EdcCallbackController testee = new EdcCallbackController(storage, contractNegotiationIdStorage);
+    private final StorageKeyNotifier storageKeyNotifier = new StorageKeyNotifier();
+    private final EdcCallbackController testee = new EdcCallbackController(storage, contractNegotiationIdStorage,
+            storageKeyNotifier);
 
     @Test
     void shouldStoreAgreementId() {
@@ -68,8 +71,11 @@ class EdcCallbackControllerTest {
         final String expectedAuthKey = "Authorization";
         final String expectedAuthCode = "testToken";
 
+        final var waiting = storageKeyNotifier.await(expectedContractId);
+
         // act
         testee.receiveEdcCallback(ref);
+        assertThat(waiting).isCompleted();
 
         // assert
         final var result = storage.get("testContractId");
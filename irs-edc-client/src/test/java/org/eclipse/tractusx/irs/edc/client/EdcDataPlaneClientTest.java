@@ -24,23 +24,34 @@
 package org.eclipse.tractusx.irs.edc.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.edc.client.model.notification.EdcNotification;
 import org.eclipse.tractusx.irs.edc.client.model.notification.EdcNotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,9 +60,13 @@ class EdcDataPlaneClientTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private EdcDataPlaneClient testee;
 
+    @BeforeEach
+    void setUp() {
+        testee = new EdcDataPlaneClient(restTemplate, new EdcConfiguration());
+    }
+
     @Test
     void shouldReturnValidData() {
         // arrange
@@ -63,8 +78,7 @@ class EdcDataPlaneClientTest {
                                                                            .id("testid")
                                                                            .contractId("testContractId")
                                                                            .build();
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(), eq(String.class))).thenReturn(
-                ResponseEntity.of(Optional.of(expectedData)));
+        mockDataPlaneResponse(expectedData);
 
         // act
         final String result = testee.getData(dataRef, "");
@@ -74,6 +88,32 @@ class EdcDataPlaneClientTest {
 
     }
 
+    @Test
+    void shouldUnwrapNestedEmbeddedData() {
+        // arrange
+        final String response = "{\"data\":\"{\\\"data\\\":\\\"{\\\\\\\"catenaXId\\\\\\\":\\\\\\\"urn:uuid:1\\\\\\\"}\\\"}\"}";
+        mockDataPlaneResponse(response);
+
+        // act
+        final String result = testee.getData(dataReference(), "");
+
+        // assert
+        assertThat(result).isEqualTo("{\"catenaXId\":\"urn:uuid:1\"}");
+    }
+
+    @Test
+    void shouldNotUnwrapDataEnvelopeWithAdditionalFields() {
+        // arrange
+        final String response = "{\"data\":\"test\",\"other\":\"value\"}";
+        mockDataPlaneResponse(response);
+
+        // act
+        final String result = testee.getData(dataReference(), "");
+
+        // assert
+        assertThat(result).isEqualTo(response);
+    }
+
     @Test
     void shouldSendNotification() {
         // arrange
@@ -95,4 +135,74 @@ class EdcDataPlaneClientTest {
         assertThat(result.deliveredSuccessfully()).isTrue();
 
     }
-}
\ No newline at end of file
+
+    private static EndpointDataReference dataReference() {
+        return EndpointDataReference.Builder.newInstance()
+                                            .authKey("testkey")
+                                            .authCode("testcode")
+                                            .endpoint("testEndpoint")
+                                            .id("testid")
+                                            .contractId("testContractId")
+                                            .build();
+    }
+
+    @Test
+    void shouldRejectResponseExceedingMaximumPayloadSize() {
+        // arrange
+        final EdcConfiguration config = new EdcConfiguration();
+        config.getSubmodel().setMaxPayloadSize(DataSize.ofBytes(4));
+        final EdcDataPlaneClient limitedClient = new EdcDataPlaneClient(restTemplate, config);
+        mockDataPlaneResponse("testdata");
+
+        // act & assert
+        assertThatThrownBy(() -> limitedClient.getData(dataReference(), "")).isInstanceOf(
+                RestClientException.class).hasMessageContaining("maximum payload size");
+    }
+
+    @Test
+    void shouldRequestJsonWithAuthorization() throws Exception {
+        // arrange
+        final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://data"));
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+            invocation.<RequestCallback>getArgument(2).doWithRequest(request);
+            return "testdata";
+        });
+
+        // act
+        testee.getData(dataReference(), "");
+
+        // assert
+        assertThat(request.getHeaders().getAccept()).containsExactly(MediaType.APPLICATION_JSON);
+        assertThat(request.getHeaders().getFirst("testkey")).isEqualTo("testcode");
+    }
+
+    @Test
+    void shouldDecodeResponseWithCharsetOfContentType() {
+        // arrange
+        final String body = "{\"data\":\"M\u00fcller\"}";
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+            final MockClientHttpResponse response = new MockClientHttpResponse(
+                    body.getBytes(StandardCharsets.ISO_8859_1), HttpStatus.OK);
+            response.getHeaders()
+                    .setContentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.ISO_8859_1));
+            return invocation.<ResponseExtractor<String>>getArgument(3).extractData(response);
+        });
+
+        // act
+        final String result = testee.getData(dataReference(), "");
+
+        // assert
+        assertThat(result).isEqualTo("M\u00fcller");
+    }
+
+    private void mockDataPlaneResponse(final String body) {
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class))).thenAnswer(invocation -> {
+            final ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(
+                    new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        });
+    }
+}
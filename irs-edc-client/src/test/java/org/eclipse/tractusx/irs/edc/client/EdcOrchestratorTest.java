@@ -23,7 +23,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,10 +40,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ThrowableAssert;
@@ -61,6 +65,7 @@ import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
 import org.eclipse.tractusx.irs.edc.client.model.TransferProcessResponse;
 import org.eclipse.tractusx.irs.edc.client.storage.ContractNegotiationIdStorage;
 import org.eclipse.tractusx.irs.edc.client.storage.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.storage.StorageKeyNotifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -94,6 +99,7 @@ class EdcOrchestratorTest {
     private AsyncPollingService pollingService;
 
     private final int threadPoolThreads = 1;
+    private final ExecutorService catalogExecutorService = Executors.newCachedThreadPool();
 
     @BeforeEach
     void setUp() {
@@ -106,7 +112,8 @@ class EdcOrchestratorTest {
         ongoingNegotiationStorage = spy(new OngoingNegotiationStorage());
 
         orchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService, catalogFacade,
-                endpointDataReferenceStorage, contractNegotiationIdStorage, fixedThreadPoolExecutorService, ongoingNegotiationStorage);
+                endpointDataReferenceStorage, contractNegotiationIdStorage, fixedThreadPoolExecutorService,
+                catalogExecutorService, ongoingNegotiationStorage);
         when(config.getSubmodel().getRequestTtl()).thenReturn(Duration.ofSeconds(5));
         ongoingNegotiationStorage.getOngoingNegotiations()
                                  .forEach(ongoingNegotiationStorage::removeFromOngoingNegotiations);
@@ -143,6 +150,43 @@ class EdcOrchestratorTest {
         assertThat(totalTimeToCompletion).isCloseTo(expectedTimeToCompletion, Percentage.withPercentage(90));
     }
 
+    @Test
+    void shouldLimitParallelCatalogRequestsPerCounterparty() throws Exception {
+        // Arrange
+        when(config.getControlplane().getOrchestration().getCatalogRequestsPerCounterparty()).thenReturn(1);
+        final EdcOrchestrator limitedOrchestrator = new EdcOrchestrator(config, contractNegotiationService,
+                pollingService, catalogFacade, endpointDataReferenceStorage, contractNegotiationIdStorage,
+                Executors.newFixedThreadPool(threadPoolThreads), catalogExecutorService, ongoingNegotiationStorage);
+        final String slowEndpointAddress = "http://slow.provider.edc";
+        final CountDownLatch slowProviderResponds = new CountDownLatch(1);
+        when(catalogFacade.fetchCatalogByFilter(eq(slowEndpointAddress), any(), any(), any())).thenAnswer(
+                invocation -> {
+                    slowProviderResponds.await();
+                    return List.of(createCatalogItem("slow", BPN));
+                });
+        when(catalogFacade.fetchCatalogByFilter(eq(ENDPOINT_ADDRESS), any(), any(), any())).thenReturn(
+                List.of(createCatalogItem("fast", BPN)));
+
+        // Act
+        final var firstSlowRequest = limitedOrchestrator.getCatalogItemsAsync(slowEndpointAddress, "key", "value",
+                BPN);
+        final var secondSlowRequest = limitedOrchestrator.getCatalogItemsAsync(slowEndpointAddress, "key", "value",
+                BPN);
+        final var fastRequest = limitedOrchestrator.getCatalogItemsAsync(ENDPOINT_ADDRESS, "key", "value", BPN);
+
+        // Assert
+        assertThat(fastRequest.get(5, TimeUnit.SECONDS)).hasSize(1);
+        verify(catalogFacade, timeout(1000).times(1)).fetchCatalogByFilter(eq(slowEndpointAddress), any(), any(),
+                any());
+        assertThat(firstSlowRequest).isNotDone();
+        assertThat(secondSlowRequest).isNotDone();
+
+        slowProviderResponds.countDown();
+        assertThat(firstSlowRequest.get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(secondSlowRequest.get(5, TimeUnit.SECONDS)).hasSize(1);
+        verify(catalogFacade, times(2)).fetchCatalogByFilter(eq(slowEndpointAddress), any(), any(), any());
+    }
+
     @Test
     void shouldThrowEdcClientExceptionWhenCatalogRequestThrowsException() {
         // Arrange
@@ -287,12 +331,10 @@ class EdcOrchestratorTest {
         assertThat(endpointDataReferences).containsOnly(endpointDataReferences.get(0));
         verify(contractNegotiationService, times(1)).negotiate(ENDPOINT_ADDRESS, catalogItem, statusNew, BPN);
         final String storageId = assetId + ENDPOINT_ADDRESS;
-        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiations(eq(storageId), any());
-
-        final int expectedNumberOfOngoingNegotiationChecks = numberOfNegotiations - 1;
-        verify(ongoingNegotiationStorage, times(expectedNumberOfOngoingNegotiationChecks)).getOngoingNegotiation(
-                storageId);
-        verify(ongoingNegotiationStorage, times(numberOfNegotiations)).isNegotiationOngoing(storageId);
+        final String negotiationKey = catalogItem.getOfferId() + storageId;
+        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiationsIfAbsent(eq(negotiationKey), any());
+        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiationsIfAbsent(eq(storageId), any());
+        verify(ongoingNegotiationStorage, times(numberOfNegotiations)).getOngoingNegotiation(storageId);
 
         final long expectedTimeToCompletion = NEGOTIATION_TIME / threadPoolThreads;
         final long totalTimeToCompletion = stopWatch.getLastTaskTimeMillis();
@@ -403,7 +445,8 @@ class EdcOrchestratorTest {
         final int increasedThreadPoolThreads = 10;
         final ExecutorService fixedThreadPoolExecutorService = Executors.newFixedThreadPool(increasedThreadPoolThreads);
         final EdcOrchestrator orchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService,
-                catalogFacade, endpointDataReferenceStorage, contractNegotiationIdStorage, fixedThreadPoolExecutorService, ongoingNegotiationStorage);
+                catalogFacade, endpointDataReferenceStorage, contractNegotiationIdStorage,
+                fixedThreadPoolExecutorService, catalogExecutorService, ongoingNegotiationStorage);
 
         final String assetId = "test1";
         final String contractAgreementId = "contractAgreementId";
@@ -448,12 +491,10 @@ class EdcOrchestratorTest {
         assertThat(endpointDataReferences).containsOnly(endpointDataReferences.get(0));
         verify(contractNegotiationService, times(1)).negotiate(ENDPOINT_ADDRESS, catalogItem, statusNew, BPN);
         final String storageId = assetId + ENDPOINT_ADDRESS;
-        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiations(eq(storageId), any());
-
-        final int expectedNumberOfOngoingNegotiationChecks = numberOfNegotiations - 1;
-        verify(ongoingNegotiationStorage, times(expectedNumberOfOngoingNegotiationChecks)).getOngoingNegotiation(
-                storageId);
-        verify(ongoingNegotiationStorage, times(numberOfNegotiations)).isNegotiationOngoing(storageId);
+        final String negotiationKey = catalogItem.getOfferId() + storageId;
+        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiationsIfAbsent(eq(negotiationKey), any());
+        verify(ongoingNegotiationStorage, times(1)).addToOngoingNegotiationsIfAbsent(eq(storageId), any());
+        verify(ongoingNegotiationStorage, times(numberOfNegotiations)).getOngoingNegotiation(storageId);
 
         final long expectedTimeToCompletion = NEGOTIATION_TIME / this.threadPoolThreads;
         final long totalTimeToCompletion = stopWatch.getLastTaskTimeMillis();
@@ -466,6 +507,126 @@ class EdcOrchestratorTest {
         // verify(endpointDataReferenceStorage, times(1)).putEndpointDataReferenceIntoStorage(eq(storageId), any());
     }
 
+    @Test
+    void shouldNotShareNegotiationBetweenAssetsWithSameContractOffer() throws Exception {
+        // Arrange
+        final String contractAgreementId = "contractAgreementId";
+        final CatalogItem firstCatalogItem = createCatalogItem("test1", BPN);
+        final CatalogItem secondCatalogItem = createCatalogItem("test2", BPN);
+        secondCatalogItem.setOfferId(firstCatalogItem.getOfferId());
+
+        final EndpointDataReference endpointDataReference = createEndpointDataReference(contractAgreementId,
+                DATAPLANE_URL, "test");
+        endpointDataReferenceStorage.putEndpointDataReferenceIntoStorage(contractAgreementId, endpointDataReference);
+        when(contractNegotiationService.negotiate(eq(ENDPOINT_ADDRESS), any(), any(), eq(BPN))).thenAnswer(
+                invocation -> {
+                    waitFor(NEGOTIATION_TIME);
+                    return TransferProcessResponse.builder().contractId(contractAgreementId).build();
+                });
+
+        // Act
+        final var firstEdr = orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, firstCatalogItem);
+        final var secondEdr = orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, secondCatalogItem);
+        firstEdr.get();
+        secondEdr.get();
+
+        // Assert
+        verify(contractNegotiationService, times(2)).negotiate(eq(ENDPOINT_ADDRESS), any(), any(), eq(BPN));
+    }
+
+    @Test
+    void shouldCancelNegotiationOnceAllWaitingRequestsAreCancelled() throws Exception {
+        // Arrange
+        when(config.getControlplane().isEdrManagementEnabled()).thenReturn(true);
+        when(config.getControlplane().getCallbackFallbackPollInterval()).thenReturn(Duration.ofMinutes(1));
+        final CatalogItem catalogItem = createCatalogItem("test1", BPN);
+        when(contractNegotiationService.negotiateWithEdrManagement(any(), any(), any())).thenReturn("negotiationId");
+
+        // Act
+        final var firstEdr = orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, catalogItem);
+        final var secondEdr = orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, catalogItem);
+        firstEdr.cancel(false);
+        final boolean ongoingAfterFirstCancel =
+                ongoingNegotiationStorage.getOngoingNegotiation("test1" + ENDPOINT_ADDRESS) != null;
+        secondEdr.cancel(false);
+
+        // Assert
+        assertThat(ongoingAfterFirstCancel).isTrue();
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> ongoingNegotiationStorage.getOngoingNegotiation("test1" + ENDPOINT_ADDRESS) == null);
+        verify(contractNegotiationService, times(1)).negotiateWithEdrManagement(any(), any(), any());
+        verify(catalogFacade, never()).invalidateCatalogsWithOffer(any(), any());
+    }
+
+    @Test
+    void shouldCompleteNegotiationOnCallbackWithoutWaitingForFallbackPolling() throws Exception {
+        // Arrange
+        final StorageKeyNotifier storageKeyNotifier = new StorageKeyNotifier();
+        final EdcOrchestrator callbackOrchestrator = new EdcOrchestrator(config, contractNegotiationService,
+                pollingService, catalogFacade, endpointDataReferenceStorage, contractNegotiationIdStorage,
+                Executors.newFixedThreadPool(threadPoolThreads), catalogExecutorService, ongoingNegotiationStorage,
+                storageKeyNotifier);
+        when(config.getControlplane().isEdrManagementEnabled()).thenReturn(true);
+        when(config.getControlplane().getCallbackFallbackPollInterval()).thenReturn(Duration.ofMinutes(1));
+        final CatalogItem catalogItem = createCatalogItem("callbackAsset", BPN);
+        final String negotiationId = "callbackNegotiationId";
+        final String contractAgreementId = "callbackContractAgreementId";
+        when(contractNegotiationService.negotiateWithEdrManagement(any(), any(), any())).thenReturn(negotiationId);
+
+        // Act
+        final CompletableFuture<EndpointDataReference> result = callbackOrchestrator.getEndpointDataReference(
+                ENDPOINT_ADDRESS, catalogItem);
+        contractNegotiationIdStorage.put(negotiationId, contractAgreementId);
+        storageKeyNotifier.notifyStored(negotiationId);
+        endpointDataReferenceStorage.putEndpointDataReferenceIntoStorage(contractAgreementId,
+                createEndpointDataReference(contractAgreementId, DATAPLANE_URL, "test"));
+        storageKeyNotifier.notifyStored(contractAgreementId);
+
+        // Assert
+        assertThat(result.get(5, TimeUnit.SECONDS).getContractId()).isEqualTo(contractAgreementId);
+    }
+
+    @Test
+    void shouldRefreshEndpointDataReferenceInUseBeforeTokenExpires() throws Exception {
+        // Arrange
+        when(config.getControlplane().getEdrRefresh().isEnabled()).thenReturn(true);
+        when(config.getControlplane().getEdrRefresh().getLifetimeFraction()).thenReturn(0.0);
+        when(config.getControlplane().getEdrRefresh().getIdleTimeout()).thenReturn(Duration.ofMinutes(5));
+        final String contractAgreementId = "contractAgreementId";
+        final CatalogItem catalogItem = createCatalogItem("test1", BPN);
+        final String storageId = "test1" + ENDPOINT_ADDRESS;
+        endpointDataReferenceStorage.putEndpointDataReferenceIntoStorage(contractAgreementId,
+                createEndpointDataReference(contractAgreementId, DATAPLANE_URL, "initial"));
+        final EndpointDataReference renewedReference = createEndpointDataReference("renewedAgreementId",
+                DATAPLANE_URL, "renewed");
+        final TransferProcessResponse response = TransferProcessResponse.builder()
+                                                                        .contractId(contractAgreementId)
+                                                                        .build();
+        when(contractNegotiationService.negotiate(ENDPOINT_ADDRESS, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW),
+                BPN)).thenReturn(response);
+        orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, catalogItem).get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> ongoingNegotiationStorage.getOngoingNegotiations().isEmpty());
+        when(contractNegotiationService.negotiate(eq(ENDPOINT_ADDRESS), eq(catalogItem), any(), eq(BPN))).thenAnswer(
+                invocation -> {
+                    endpointDataReferenceStorage.putEndpointDataReferenceIntoStorage(contractAgreementId,
+                            renewedReference);
+                    return response;
+                });
+
+        // Act
+        orchestrator.refreshEndpointDataReferences();
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5))
+               .until(() -> endpointDataReferenceStorage.getEndpointDataReferenceFromStorage(storageId)
+                                                        .map(EndpointDataReference::getId)
+                                                        .filter("renewed"::equals)
+                                                        .isPresent());
+        assertThat(orchestrator.getEndpointDataReference(ENDPOINT_ADDRESS, catalogItem).get()).isEqualTo(
+                renewedReference);
+    }
+
     private void prepareContractNegotiation(final CatalogItem catalogItem, final long negotiationTime)
             throws ContractNegotiationException, UsagePolicyPermissionException, TransferProcessException,
             UsagePolicyExpiredException {
@@ -26,6 +26,7 @@ package org.eclipse.tractusx.irs.edc.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus.TokenStatus;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -57,8 +58,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -149,7 +154,7 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         final ExecutorService fixedThreadPoolExecutorService = Executors.newFixedThreadPool(2);
         final EdcOrchestrator edcOrchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService,
                 catalogFacade, endpointDataReferenceCacheService, contractNegotiationIdStorage, fixedThreadPoolExecutorService,
-                ongoingNegotiationStorage);
+                Executors.newCachedThreadPool(), ongoingNegotiationStorage);
         testee = new EdcSubmodelClientImpl(config, edcDataPlaneClient, edcOrchestrator, retryRegistry);
     }
 
@@ -208,6 +213,79 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         assertThat(response.deliveredSuccessfully()).isTrue();
     }
 
+    @Test
+    void shouldRecordEachRequestOnceInCircuitBreakerWhenCompleted() throws Exception {
+        // arrange
+        final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        final EdcOrchestrator edcOrchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService,
+                catalogFacade, endpointDataReferenceCacheService, contractNegotiationIdStorage,
+                Executors.newFixedThreadPool(2), Executors.newCachedThreadPool(), ongoingNegotiationStorage);
+        testee = new EdcSubmodelClientImpl(config, edcDataPlaneClient, edcOrchestrator, retryRegistry,
+                circuitBreakerRegistry, null, Executors.newSingleThreadExecutor());
+        when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
+
+        final String agreementId = "agreementId";
+        final EdcNotification<NotificationContent> notification = EdcNotification.builder().build();
+        when(catalogFacade.fetchCatalogByFilter(any(), any(), any(), any())).thenReturn(
+                List.of(CatalogItem.builder().itemId("itemId").build()));
+        when(contractNegotiationService.negotiate(any(), any(), any(), any())).thenReturn(
+                TransferProcessResponse.builder().contractId(agreementId).build());
+        final EndpointDataReference ref = mock(EndpointDataReference.class);
+        when(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(agreementId)).thenReturn(
+                Optional.ofNullable(ref));
+        when(edcDataPlaneClient.sendData(ref, notification)).thenReturn(() -> true);
+        when(endpointDataReferenceCacheService.getEndpointDataReference(any())).thenReturn(
+                new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW));
+
+        // act
+        testee.sendNotification(CONNECTOR_ENDPOINT, "notify-request-asset", notification, "bpn")
+              .get(5, TimeUnit.SECONDS);
+
+        // assert
+        final CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("connector.endpoint.com")
+                                                                     .getMetrics();
+        // catalog request, negotiation and data plane request
+        await().atMost(Duration.ofSeconds(5))
+               .untilAsserted(() -> assertThat(metrics.getNumberOfBufferedCalls()).isEqualTo(3));
+        assertThat(metrics.getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void shouldNotCountIgnoredExceptionOfAsyncRequestAsFailure() throws Exception {
+        // arrange
+        final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+                CircuitBreakerConfig.custom()
+                                    .slidingWindowSize(1)
+                                    .minimumNumberOfCalls(1)
+                                    .ignoreExceptions(UsagePolicyPermissionException.class)
+                                    .build());
+        final EdcOrchestrator edcOrchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService,
+                catalogFacade, endpointDataReferenceCacheService, contractNegotiationIdStorage,
+                Executors.newFixedThreadPool(2), Executors.newCachedThreadPool(), ongoingNegotiationStorage);
+        testee = new EdcSubmodelClientImpl(config, edcDataPlaneClient, edcOrchestrator, retryRegistry,
+                circuitBreakerRegistry, null, Executors.newSingleThreadExecutor());
+        when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
+        when(catalogFacade.fetchCatalogByFilter(any(), any(), any(), any())).thenReturn(
+                List.of(CatalogItem.builder().itemId("itemId").build()));
+        when(contractNegotiationService.negotiate(any(), any(), any(), any())).thenThrow(
+                new UsagePolicyPermissionException(List.of(), null, "bpn"));
+        when(endpointDataReferenceCacheService.getEndpointDataReference(any())).thenReturn(
+                new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW));
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("connector.endpoint.com");
+        final AtomicInteger ignoredErrors = new AtomicInteger();
+        circuitBreaker.getEventPublisher().onIgnoredError(event -> ignoredErrors.incrementAndGet());
+
+        // act
+        final CompletableFuture<EdcNotificationResponse> response = testee.sendNotification(CONNECTOR_ENDPOINT,
+                "notify-request-asset", EdcNotification.builder().build(), "bpn");
+
+        // assert
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(ignoredErrors).hasValue(1));
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
     @NotNull
     private String readSingleLevelBomAsBuiltData() throws IOException {
         final URL resourceAsStream = getClass().getResource("/__files/singleLevelBomAsBuilt.json");
@@ -106,6 +106,50 @@ class EdcSubmodelFacadeTest {
             assertThatThrownBy(action).isInstanceOf(EdcClientException.class);
         }
 
+        @Test
+        void shouldCompleteAsyncRequestExceptionallyWithEdcClientException() throws EdcClientException {
+            // arrange
+            final EdcClientException e = new EdcClientException("test");
+            when(client.getSubmodelPayload(any(), any(), any(), any())).thenReturn(CompletableFuture.failedFuture(e));
+
+            // act
+            final CompletableFuture<SubmodelDescriptor> result = testee.getSubmodelPayloadAsync(CONNECTOR_ENDPOINT,
+                    DATAPLANE_URL, ASSET_ID, "bpn");
+
+            // assert
+            assertThatThrownBy(result::join).hasCause(e);
+        }
+
+        @Test
+        void shouldWrapOtherAsyncFailuresInEdcClientException() throws EdcClientException {
+            // arrange
+            when(client.getSubmodelPayload(any(), any(), any(), any())).thenReturn(
+                    CompletableFuture.failedFuture(new IllegalStateException("test")));
+
+            // act
+            final CompletableFuture<SubmodelDescriptor> result = testee.getSubmodelPayloadAsync(CONNECTOR_ENDPOINT,
+                    DATAPLANE_URL, ASSET_ID, "bpn");
+
+            // assert
+            assertThatThrownBy(result::join).hasCauseInstanceOf(EdcClientException.class);
+        }
+
+        @Test
+        void shouldReturnAsyncSubmodelPayload() throws EdcClientException {
+            // arrange
+            final SubmodelDescriptor submodel = new SubmodelDescriptor("cid", "payload");
+            when(client.getSubmodelPayload(any(), any(), any(), any())).thenReturn(
+                    CompletableFuture.completedFuture(submodel));
+            when(config.getAsyncTimeoutMillis()).thenReturn(1000L);
+
+            // act
+            final CompletableFuture<SubmodelDescriptor> result = testee.getSubmodelPayloadAsync(CONNECTOR_ENDPOINT,
+                    DATAPLANE_URL, ASSET_ID, "bpn");
+
+            // assert
+            assertThat(result.join()).isEqualTo(submodel);
+        }
+
         @Test
         void shouldRestoreInterruptOnInterruptExceptionForSubmodel()
                 throws EdcClientException, ExecutionException, InterruptedException, TimeoutException {
@@ -140,7 +140,7 @@ class SubmodelFacadeWiremockTest {
 
         final EdcControlPlaneClient controlPlaneClient = new EdcControlPlaneClient(restTemplate, pollingService, config,
                 createEdcTransformer());
-        final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
+        final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate, config);
 
         final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config);
 
@@ -163,7 +163,7 @@ class SubmodelFacadeWiremockTest {
         final OngoingNegotiationStorage ongoingNegotiationStorage = new OngoingNegotiationStorage();
         final EdcOrchestrator edcOrchestrator = new EdcOrchestrator(config, contractNegotiationService, pollingService,
                 catalogFacade, endpointDataReferenceCacheService, contractNegotiationIdStorage, fixedThreadPoolExecutorService,
-                ongoingNegotiationStorage);
+                Executors.newCachedThreadPool(), ongoingNegotiationStorage);
         final EdcSubmodelClient edcSubmodelClient = new EdcSubmodelClientImpl(config, dataPlaneClient, edcOrchestrator, retryRegistry);
         edcSubmodelFacade = new EdcSubmodelFacade(edcSubmodelClient, config);
     }
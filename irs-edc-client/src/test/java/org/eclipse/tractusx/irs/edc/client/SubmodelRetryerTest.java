@@ -82,12 +82,12 @@ class SubmodelExponentialRetryTest {
 
         final ContractNegotiationService negotiationService = new ContractNegotiationService(controlPlaneClient,
                 policyCheckerService, config);
-        final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
+        final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate, config);
         final ExecutorService fixedThreadPoolExecutorService = Executors.newFixedThreadPool(2);
         final OngoingNegotiationStorage ongoingNegotiationStorage = new OngoingNegotiationStorage();
         final EdcOrchestrator edcOrchestrator = new EdcOrchestrator(config, negotiationService, pollingService,
                 catalogFacade, endpointDataReferenceCacheService, contractNegotiationIdStorage, fixedThreadPoolExecutorService,
-                ongoingNegotiationStorage);
+                Executors.newCachedThreadPool(), ongoingNegotiationStorage);
         final EdcSubmodelClient client = new EdcSubmodelClientImpl(config, dataPlaneClient, edcOrchestrator,
                 retryRegistry);
         testee = new EdcSubmodelFacade(client, config);
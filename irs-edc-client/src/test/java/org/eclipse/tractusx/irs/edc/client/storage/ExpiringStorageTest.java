@@ -0,0 +1,122 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringStorageTest {
+
+    private static final Duration STORAGE_DURATION = Duration.ofMinutes(5);
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiringStorage<String> storage;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        storage = new ExpiringStorage<>(STORAGE_DURATION, 2, meterRegistry, "test", clock);
+    }
+
+    @Test
+    void shouldReturnStoredValueUntilExpired() {
+        storage.put("key", "value");
+
+        when(clock.instant()).thenReturn(NOW.plus(STORAGE_DURATION));
+        assertThat(storage.get("key")).contains("value");
+
+        when(clock.instant()).thenReturn(NOW.plus(STORAGE_DURATION).plusMillis(1));
+        assertThat(storage.get("key")).isEmpty();
+        assertThat(storage.size()).isZero();
+    }
+
+    @Test
+    void shouldRemoveExpiredEntriesOnWrite() {
+        storage.put("first", "value");
+        when(clock.instant()).thenReturn(NOW.plus(STORAGE_DURATION).plusMillis(1));
+
+        storage.put("second", "value");
+
+        assertThat(storage.size()).isOne();
+        assertThat(meterRegistry.get("edc.storage.eviction").tag("cause", "expired").counter().count()).isOne();
+    }
+
+    @Test
+    void shouldKeepOverwrittenEntryUntilItsOwnExpiry() {
+        storage.put("key", "old");
+        when(clock.instant()).thenReturn(NOW.plus(STORAGE_DURATION.dividedBy(2)));
+        storage.put("key", "new");
+
+        when(clock.instant()).thenReturn(NOW.plus(STORAGE_DURATION).plusMillis(1));
+        storage.put("other", "value");
+
+        assertThat(storage.get("key")).contains("new");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenMaximumSizeIsExceeded() {
+        storage.put("first", "value");
+        storage.put("second", "value");
+        storage.get("first");
+
+        storage.put("third", "value");
+
+        assertThat(storage.get("first")).isPresent();
+        assertThat(storage.get("second")).isEmpty();
+        assertThat(storage.get("third")).isPresent();
+        assertThat(meterRegistry.get("edc.storage.eviction").tag("cause", "size").counter().count()).isOne();
+    }
+
+    @Test
+    void shouldMoveOverwrittenEntryToTheEndOfTheEvictionOrder() {
+        storage.put("first", "value");
+        storage.put("second", "value");
+        storage.put("first", "new");
+
+        storage.put("third", "value");
+
+        assertThat(storage.get("first")).contains("new");
+        assertThat(storage.get("second")).isEmpty();
+        assertThat(storage.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+        storage.put("key", "value");
+
+        storage.get("key");
+        storage.get("key");
+        storage.get("unknown");
+
+        assertThat(meterRegistry.get("edc.storage.hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("edc.storage.miss").counter().count()).isOne();
+        assertThat(meterRegistry.get("edc.storage.size").gauge().value()).isOne();
+    }
+}
@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class StorageKeyNotifierTest {
+
+    private final StorageKeyNotifier notifier = new StorageKeyNotifier();
+
+    @Test
+    void shouldCompleteWaitingRequestWhenKeyIsStored() {
+        // arrange
+        final CompletableFuture<Void> waiting = notifier.await("negotiationId");
+
+        // act
+        notifier.notifyStored("negotiationId");
+
+        // assert
+        assertThat(waiting).isCompleted();
+    }
+
+    @Test
+    void shouldNotCompleteRequestsWaitingForOtherKeys() {
+        // arrange
+        final CompletableFuture<Void> waiting = notifier.await("negotiationId");
+
+        // act
+        notifier.notifyStored("otherNegotiationId");
+
+        // assert
+        assertThat(waiting).isNotDone();
+    }
+
+    @Test
+    void shouldNotCompleteReleasedRequests() {
+        // arrange
+        final CompletableFuture<Void> waiting = notifier.await("negotiationId");
+        notifier.release("negotiationId", waiting);
+
+        // act
+        notifier.notifyStored("negotiationId");
+
+        // assert
+        assertThat(waiting).isNotDone();
+    }
+
+    @Test
+    void shouldShareWaitingRequestForSameKey() {
+        assertThat(notifier.await("negotiationId")).isSameAs(notifier.await("negotiationId"));
+    }
+}
@@ -0,0 +1,158 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.transformer;
+
+import static org.eclipse.tractusx.irs.edc.client.testutil.TestMother.objectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the catalog transformation, comparing the generic JSON-LD expansion with the expansion of catalogs
+ * which only use namespace prefixes. Run the main method from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EdcTransformerBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    private int datasets;
+
+    private EdcTransformer edcTransformer;
+    private String catalog;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EdcTransformerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        final TitaniumJsonLd jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        edcTransformer = new EdcTransformer(objectMapper(), jsonLd, new TypeTransformerRegistryImpl());
+        catalog = createCatalog(datasets);
+    }
+
+    @Benchmark
+    public Catalog transformCatalog() {
+        return edcTransformer.transformCatalog(catalog, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Result<JsonObject> expandCatalogGeneric() {
+        return edcTransformer.expandJsonLd(catalog, StandardCharsets.UTF_8);
+    }
+
+    private static String createCatalog(final int numberOfDatasets) {
+        final String datasets = IntStream.range(0, numberOfDatasets)
+                                         .mapToObj(EdcTransformerBenchmark::createDataset)
+                                         .collect(Collectors.joining(","));
+        return """
+                {
+                    "@id": "78ff625c-0c05-4014-965c-bd3d0a6a0de0",
+                    "@type": "dcat:Catalog",
+                    "dcat:dataset": [ %s ],
+                    "dcat:service": {
+                        "@id": "4ba1faa1-7f1a-4fb7-a41c-317f450e7443",
+                        "@type": "dcat:DataService",
+                        "dct:terms": "connector",
+                        "dct:endpointUrl": "https://provider.edc/api/v1/dsp"
+                    },
+                    "dspace:participantId": "BPNL00000000TEST",
+                    "participantId": "BPNL00000000TEST",
+                    "@context": {
+                        "@vocab": "https://w3id.org/edc/v0.0.1/ns/",
+                        "edc": "https://w3id.org/edc/v0.0.1/ns/",
+                        "tx": "https://w3id.org/tractusx/v0.0.1/ns/",
+                        "tx-auth": "https://w3id.org/tractusx/auth/",
+                        "cx-policy": "https://w3id.org/catenax/policy/",
+                        "dcat": "http://www.w3.org/ns/dcat#",
+                        "dct": "http://purl.org/dc/terms/",
+                        "odrl": "http://www.w3.org/ns/odrl/2/",
+                        "dspace": "https://w3id.org/dspace/v0.8/"
+                    }
+                }
+                """.formatted(datasets);
+    }
+
+    private static String createDataset(final int index) {
+        return """
+                {
+                    "@id": "urn:uuid:asset-%1$d",
+                    "@type": "dcat:Dataset",
+                    "odrl:hasPolicy": {
+                        "@id": "ZGVmaW5pdGlvbg==:YXNzZXQtJTEkZA==:%1$d",
+                        "@type": "odrl:Offer",
+                        "odrl:permission": {
+                            "odrl:action": { "odrl:type": "use" },
+                            "odrl:constraint": {
+                                "odrl:and": [
+                                    {
+                                        "odrl:leftOperand": "cx-policy:FrameworkAgreement",
+                                        "odrl:operator": { "@id": "odrl:eq" },
+                                        "odrl:rightOperand": "traceability:1.0"
+                                    },
+                                    {
+                                        "odrl:leftOperand": "cx-policy:UsagePurpose",
+                                        "odrl:operator": { "@id": "odrl:eq" },
+                                        "odrl:rightOperand": "cx.core.industrycore:1"
+                                    }
+                                ]
+                            }
+                        },
+                        "odrl:prohibition": [],
+                        "odrl:obligation": []
+                    },
+                    "dcat:distribution": {
+                        "@type": "dcat:Distribution",
+                        "dct:format": { "@id": "HttpData-PULL" },
+                        "dcat:accessService": "4ba1faa1-7f1a-4fb7-a41c-317f450e7443"
+                    },
+                    "description": "Asset %1$d",
+                    "id": "urn:uuid:asset-%1$d"
+                }
+                """.formatted(index);
+    }
+}
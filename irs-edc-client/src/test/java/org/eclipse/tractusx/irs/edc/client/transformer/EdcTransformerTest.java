@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.eclipse.tractusx.irs.edc.client.testutil.TestMother.objectMapper;
 
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
 import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequest;
 import org.eclipse.edc.catalog.spi.DataService;
@@ -266,6 +268,40 @@ class EdcTransformerTest {
         assertThat(actualPermission).isEqualTo(expectedPermission);
     }
 
+    @Test
+    void shouldExpandCatalogLikeGenericJsonLdExpansion() {
+        // Arrange
+        final JsonObject catalog = readJson(getCatalogAsString());
+
+        // Act
+        final Optional<JsonObject> expanded = new SimpleContextJsonLdExpander().expand(catalog);
+
+        // Assert
+        assertThat(expanded).contains(jsonLd.expand(catalog).getContent());
+    }
+
+    @Test
+    void shouldNotExpandDocumentsWithUnsupportedContext() {
+        // Arrange
+        final SimpleContextJsonLdExpander expander = new SimpleContextJsonLdExpander();
+        final JsonObject remoteContext = readJson("""
+                { "@context": [ "https://w3id.org/tractusx/policy/v1.0.0" ], "@id": "id", "edc:name": "test" }
+                """);
+        final JsonObject typeCoercion = readJson("""
+                { "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/", "ref": { "@type": "@id" } },
+                  "@id": "id", "ref": "other" }
+                """);
+        final JsonObject nestedContext = readJson("""
+                { "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                  "@id": "id", "nested": { "@context": { "@vocab": "https://example.com/" }, "name": "test" } }
+                """);
+
+        // Act & Assert
+        assertThat(expander.expand(remoteContext)).isEmpty();
+        assertThat(expander.expand(typeCoercion)).isEmpty();
+        assertThat(expander.expand(nestedContext)).isEmpty();
+    }
+
     @Test
     void shouldSerializeContractOfferDescriptionToJsonObject() {
         final String offerId = "7681f966-36ea-4542-b5ea-0d0db81967de:35c78eca-db53-442c-9e01-467fc22c9434-55840861-5d7f-444b-972a-6e8b78552d8a:66131c58-32af-4df0-825d-77f7df6017c";
@@ -385,4 +421,10 @@ class EdcTransformerTest {
                                         .contains(entry("edc:operator", Json.createValue(operator)))
                                         .contains(entry("edc:operandRight", Json.createValue(operandRight)));
     }
-}
\ No newline at end of file
+
+    private static JsonObject readJson(final String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
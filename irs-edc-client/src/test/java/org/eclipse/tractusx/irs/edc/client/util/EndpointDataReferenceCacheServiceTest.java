@@ -26,12 +26,16 @@ package org.eclipse.tractusx.irs.edc.client.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Optional;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.data.StringMapper;
 import org.eclipse.tractusx.irs.edc.client.storage.EndpointDataReferenceStorage;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
+import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -107,4 +111,31 @@ class EndpointDataReferenceCacheServiceTest {
         assertThat(endpointDataReference.endpointDataReference()).isEqualTo(endpointDataReferenceWithExpiredToken);
         assertThat(endpointDataReference.tokenStatus()).isEqualTo(EndpointDataReferenceStatus.TokenStatus.VALID);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDueRefreshOnlyAfterConfiguredFractionOfTokenLifetime() {
+        // given
+        final String payload = StringMapper.mapToString(
+                EDRAuthCode.builder().cid("testContractId").dad("test").exp(9_999_999_999L).build());
+        final String authCode = "eyJhbGciOiJSUzI1NiJ9." + Base64.getUrlEncoder()
+                                                                .encodeToString(payload.getBytes(
+                                                                        StandardCharsets.UTF_8)) + ".test";
+        final EndpointDataReference endpointDataReference = EndpointDataReference.Builder.newInstance()
+                                                                                         .endpoint("")
+                                                                                         .authCode(authCode)
+                                                                                         .authKey("")
+                                                                                         .id("testid")
+                                                                                         .contractId("testContractId")
+                                                                                         .build();
+        endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage("assetId", endpointDataReference);
+
+        // when
+        final boolean refreshDueImmediately = endpointDataReferenceCacheService.isRefreshDue(endpointDataReference, 0);
+        final boolean refreshDueAfterHalfLifetime = endpointDataReferenceCacheService.isRefreshDue(
+                endpointDataReference, 0.5);
+
+        // then
+        assertThat(refreshDueImmediately).isTrue();
+        assertThat(refreshDueAfterHalfLifetime).isFalse();
+    }
+}
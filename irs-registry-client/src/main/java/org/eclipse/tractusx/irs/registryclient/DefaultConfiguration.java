@@ -24,11 +24,20 @@
 package org.eclipse.tractusx.irs.registryclient;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
 import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcDataPlaneClient;
 import org.eclipse.tractusx.irs.edc.client.EdcOrchestrator;
@@ -45,9 +54,12 @@ import org.eclipse.tractusx.irs.registryclient.decentral.DecentralDigitalTwinReg
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcEndpointReferenceRetriever;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
+import org.eclipse.tractusx.irs.registryclient.decentral.ShellIdMappingCache;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClient;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClientImpl;
+import org.eclipse.tractusx.irs.registryclient.discovery.UnreachableConnectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -95,9 +107,18 @@ public class DefaultConfiguration {
             final EndpointDataForConnectorsService endpointDataForConnectorsService,
             final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
             final EdcConfiguration edcConfiguration,
-            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache) {
+            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache,
+            @Value("${digitalTwinRegistryClient.connectorLookup.threadCount:20}") final int threadCount,
+            @Value("${digitalTwinRegistryClient.connectorLookup.queueSize:1000}") final int queueSize,
+            @Value("${digitalTwinRegistryClient.shellIdMapping.ttl:P1D}") final Duration shellIdMappingTtl,
+            @Value("${digitalTwinRegistryClient.shellIdMapping.maxSize:100000}") final int shellIdMappingMaxSize,
+            final ObjectProvider<MeterRegistry> meterRegistry, final Clock clock) {
+        final ShellIdMappingCache shellIdMappingCache = new ShellIdMappingCache(shellIdMappingTtl,
+                shellIdMappingMaxSize, null, meterRegistry.getIfAvailable(), clock);
         return new DecentralDigitalTwinRegistryService(connectorEndpointsService, endpointDataForConnectorsService,
-                decentralDigitalTwinRegistryClient, edcConfiguration, preferredConnectorEndpointsCache);
+                decentralDigitalTwinRegistryClient, edcConfiguration, preferredConnectorEndpointsCache,
+                connectorLookupExecutor("dtr.shell.lookup", threadCount, queueSize, meterRegistry.getIfAvailable()),
+                shellIdMappingCache);
     }
 
     @Bean
@@ -111,15 +132,23 @@ public class DefaultConfiguration {
     @Bean
     @ConditionalOnProperty(prefix = CONFIG_PREFIX, name = CONFIG_FIELD_TYPE, havingValue = CONFIG_VALUE_DECENTRAL)
     public ConnectorEndpointsService connectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient,
-            @Value("${digitalTwinRegistryClient.discovery.type:}") final String discoveryType) {
-        return new ConnectorEndpointsService(discoveryFinderClient, discoveryType);
+            @Value("${digitalTwinRegistryClient.discovery.type:}") final String discoveryType,
+            @Value("${digitalTwinRegistryClient.unreachable.initialBackoff:PT1M}") final Duration initialBackoff,
+            @Value("${digitalTwinRegistryClient.unreachable.maxBackoff:PT30M}") final Duration maxBackoff,
+            final ObjectProvider<MeterRegistry> meterRegistry, final Clock clock) {
+        return new ConnectorEndpointsService(discoveryFinderClient, discoveryType,
+                new UnreachableConnectors(initialBackoff, maxBackoff, meterRegistry.getIfAvailable(), clock));
     }
 
     @Bean
     @ConditionalOnProperty(prefix = CONFIG_PREFIX, name = CONFIG_FIELD_TYPE, havingValue = CONFIG_VALUE_DECENTRAL)
     public EndpointDataForConnectorsService endpointDataForConnectorsService(
             final EdcSubmodelFacade facade,
-            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache) {
+            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache,
+            @Value("${digitalTwinRegistryClient.connectorLookup.threadCount:20}") final int threadCount,
+            @Value("${digitalTwinRegistryClient.connectorLookup.queueSize:1000}") final int queueSize,
+            @Value("${digitalTwinRegistryClient.connectorLookup.hedgingDelay:PT2S}") final Duration hedgingDelay,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
 
         final EdcEndpointReferenceRetriever edcEndpointReferenceRetriever = (edcConnectorEndpoint, bpn) -> {
             try {
@@ -129,7 +158,9 @@ public class DefaultConfiguration {
             }
         };
 
-        return new EndpointDataForConnectorsService(edcEndpointReferenceRetriever, preferredConnectorEndpointsCache);
+        return new EndpointDataForConnectorsService(edcEndpointReferenceRetriever, preferredConnectorEndpointsCache,
+                connectorLookupExecutor("dtr.connector.lookup", threadCount, queueSize, meterRegistry.getIfAvailable()),
+                hedgingDelay);
     }
 
     @Bean
@@ -140,9 +171,13 @@ public class DefaultConfiguration {
     @Bean
     @ConditionalOnProperty(prefix = CONFIG_PREFIX, name = CONFIG_FIELD_TYPE, havingValue = CONFIG_VALUE_DECENTRAL)
     public EdcSubmodelClient edcSubmodelClient(final EdcConfiguration edcConfiguration,
-            final EdcDataPlaneClient edcDataPlaneClient, final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry) {
+            final EdcDataPlaneClient edcDataPlaneClient, final EdcOrchestrator edcOrchestrator, final RetryRegistry retryRegistry,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final ObjectProvider<OutboundMeterRegistryService> meterRegistryService,
+            final ExecutorService dataPlaneExecutorService) {
 
-        return new EdcSubmodelClientImpl(edcConfiguration, edcDataPlaneClient, edcOrchestrator, retryRegistry);
+        return new EdcSubmodelClientImpl(edcConfiguration, edcDataPlaneClient, edcOrchestrator, retryRegistry,
+                circuitBreakerRegistry, meterRegistryService.getIfAvailable(), dataPlaneExecutorService);
     }
 
     @Bean
@@ -173,4 +208,61 @@ public class DefaultConfiguration {
         return Executors.newFixedThreadPool(threadPoolSize);
     }
 
+    /**
+     * Executor for the catalog requests of the {@link EdcOrchestrator}. Waiting catalog requests do not occupy a
+     * thread, so a small pool is sufficient.
+     *
+     * @param threadPoolSize the number of threads
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = "catalogExecutorService")
+    public ExecutorService catalogExecutorService(
+            @Value("${irs-edc-client.controlplane.orchestration.catalog-thread-pool-size:10}")
+            final int threadPoolSize) {
+        final long keepAliveTime = 60L;
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, keepAliveTime,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Executor for the data plane requests of the {@link EdcSubmodelClient}. The number of concurrent requests per
+     * provider is limited before a request is submitted, so the pool only bounds the requests to all providers.
+     *
+     * @param threadPoolSize the number of threads
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = "dataPlaneExecutorService")
+    public ExecutorService dataPlaneExecutorService(
+            @Value("${irs-edc-client.submodel.thread-pool-size:20}") final int threadPoolSize) {
+        final long keepAliveTime = 60L;
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, keepAliveTime,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates the executor for the lookups at the connectors of a BPN. It is bounded so that a large number of
+     * connectors cannot exhaust the common pool. Lookups exceeding the queue are rejected and fail instead of
+     * running on the calling thread.
+     *
+     * @param name          the name of the executor metrics
+     * @param threadCount   the number of threads
+     * @param queueSize     the maximum number of waiting lookups
+     * @param meterRegistry the registry of the executor metrics, may be null
+     * @return the executor
+     */
+    public static Executor connectorLookupExecutor(final String name, final int threadCount, final int queueSize,
+            final MeterRegistry meterRegistry) {
+        final long keepAliveTime = 60L;
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, keepAliveTime,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueSize));
+        executor.allowCoreThreadTimeOut(true);
+        return meterRegistry == null ? executor : ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+    }
+
 }
@@ -23,23 +23,31 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.registryclient.decentral;
 
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.github.resilience4j.core.functions.Either;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -58,11 +66,13 @@ import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceExcepti
 import org.eclipse.tractusx.irs.registryclient.exceptions.ShellNotFoundException;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.util.StopWatch;
+import org.springframework.web.client.HttpClientErrorException;
 
 /**
- * Decentral implementation of DigitalTwinRegistryService
+ * Decentral implementation of DigitalTwinRegistryService.
+ * The lookups in the DTRs of the connectors of a BPN run on the given executor, the first successful lookup is used
+ * and the others are cancelled, including the negotiations they are still waiting for.
  */
-@RequiredArgsConstructor
 @Slf4j
 @SuppressWarnings({ "PMD.TooManyMethods",
                     "PMD.ExcessiveImports",
@@ -77,6 +87,8 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
     private final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient;
     private final EdcConfiguration config;
     private final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache;
+    private final Executor executor;
+    private final ShellIdMappingCache shellIdMappingCache;
     private static final String MANUFACTURER_ID_KEY = "manufacturerId";
     private static final String DIGITAL_TWIN_TYPE_KEY = "digitalTwinType";
     private static final String CURSOR_KEY = "cursor";
@@ -84,6 +96,37 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
     private ResultFinder resultFinder = new ResultFinder();
 
+    public DecentralDigitalTwinRegistryService(final ConnectorEndpointsService connectorEndpointsService,
+            final EndpointDataForConnectorsService endpointDataForConnectorsService,
+            final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
+            final EdcConfiguration config, final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache) {
+        this(connectorEndpointsService, endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, config,
+                preferredConnectorEndpointsCache, ForkJoinPool.commonPool());
+    }
+
+    public DecentralDigitalTwinRegistryService(final ConnectorEndpointsService connectorEndpointsService,
+            final EndpointDataForConnectorsService endpointDataForConnectorsService,
+            final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
+            final EdcConfiguration config, final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache,
+            final Executor executor) {
+        this(connectorEndpointsService, endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, config,
+                preferredConnectorEndpointsCache, executor, ShellIdMappingCache.disabled());
+    }
+
+    public DecentralDigitalTwinRegistryService(final ConnectorEndpointsService connectorEndpointsService,
+            final EndpointDataForConnectorsService endpointDataForConnectorsService,
+            final DecentralDigitalTwinRegistryClient decentralDigitalTwinRegistryClient,
+            final EdcConfiguration config, final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache,
+            final Executor executor, final ShellIdMappingCache shellIdMappingCache) {
+        this.connectorEndpointsService = connectorEndpointsService;
+        this.endpointDataForConnectorsService = endpointDataForConnectorsService;
+        this.decentralDigitalTwinRegistryClient = decentralDigitalTwinRegistryClient;
+        this.config = config;
+        this.preferredConnectorEndpointsCache = preferredConnectorEndpointsCache;
+        this.executor = executor;
+        this.shellIdMappingCache = shellIdMappingCache;
+    }
+
     private static Stream<Map.Entry<String, List<DigitalTwinRegistryKey>>> groupKeysByBpn(
             final Collection<DigitalTwinRegistryKey> keys) {
         return keys.stream().collect(Collectors.groupingBy(DigitalTwinRegistryKey::bpn)).entrySet().stream();
@@ -107,44 +150,122 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
             return fetchShellsOnCacheMiss(keys);
         }
 
-        final Collection<Either<Exception, Shell>> results = keys.stream()
-                                                                 .map(this::fetchShellForKey)
-                                                                 .flatMap(Collection::stream)
-                                                                 .toList();
+        final Map<DigitalTwinRegistryKey, List<Shell>> cachedShells = fetchShellsFromCachedEdcUrls(keys);
+        final List<Either<Exception, Shell>> results = new ArrayList<>();
+        final List<DigitalTwinRegistryKey> missedKeys = new ArrayList<>();
+        keys.forEach(key -> {
+            final List<Shell> shells = cachedShells.getOrDefault(key, List.of());
+            if (shells.isEmpty()) {
+                missedKeys.add(key);
+            } else {
+                shells.forEach(shell -> results.add(Either.right(shell)));
+            }
+        });
 
-        return results.isEmpty() || results.stream().anyMatch(Either::isLeft) ? fetchShellsOnCacheMiss(keys) : results;
+        if (results.isEmpty()) {
+            return fetchShellsOnCacheMiss(keys);
+        }
+        if (!missedKeys.isEmpty()) {
+            log.info("{} of {} key(s) not found using the cached EDC urls", missedKeys.size(), keys.size());
+            try {
+                results.addAll(fetchShellsOnCacheMiss(missedKeys));
+            } catch (ShellNotFoundException e) {
+                results.add(Either.left(e));
+            }
+        }
+        return results;
     }
 
-    private Collection<Either<Exception, Shell>> fetchShellForKey(final DigitalTwinRegistryKey key) {
-        return preferredConnectorEndpointsCache.findByBpn(key.bpn())
-                                               .map(edcUrl -> fetchShellFromEdcUrl(edcUrl, key))
-                                               .orElseGet(() -> {
-                                                   log.info("Cached EDC url for BPN: {} not found", key.bpn());
-                                                   return Collections.emptyList();
-                                               });
+    /**
+     * Fetches the shells from the cached EDC url of each BPN. The endpoint data references are requested once per
+     * BPN and the shell descriptors of all keys are requested concurrently, at most
+     * {@link EdcConfiguration#getShellRequestsPerRegistry()} at a time per registry.
+     *
+     * @param keys the keys to fetch the shells for
+     * @return the shells found per key, keys without a cached EDC url or without a shell are missing
+     */
+    private Map<DigitalTwinRegistryKey, List<Shell>> fetchShellsFromCachedEdcUrls(
+            final Collection<DigitalTwinRegistryKey> keys) {
+
+        final List<CompletableFuture<List<Map.Entry<DigitalTwinRegistryKey, Shell>>>> futures = groupKeysByBpn(
+                keys).flatMap(entry -> fetchShellsFromCachedEdcUrl(entry.getKey(), entry.getValue()).stream())
+                     .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                             .get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while fetching shells using the cached EDC urls", e);
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Timeout while fetching shells using the cached EDC urls", e);
+        } catch (ExecutionException e) {
+            log.warn("Failed to fetch shells using the cached EDC urls", e);
+        }
+
+        futures.forEach(future -> future.cancel(false));
+        return futures.stream()
+                      .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                      .flatMap(future -> future.join().stream())
+                      .collect(Collectors.groupingBy(Map.Entry::getKey,
+                              Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
     }
 
-    private Collection<Either<Exception, Shell>> fetchShellFromEdcUrl(final String edcUrl,
-            final DigitalTwinRegistryKey key) {
-        return endpointDataForConnectorsService.createGetEndpointReferencesForAssetFutures(edcUrl, key.bpn())
+    private List<CompletableFuture<List<Map.Entry<DigitalTwinRegistryKey, Shell>>>> fetchShellsFromCachedEdcUrl(
+            final String bpn, final List<DigitalTwinRegistryKey> keys) {
+        final Optional<String> edcUrl = preferredConnectorEndpointsCache.findByBpn(bpn);
+        if (edcUrl.isEmpty()) {
+            log.info("Cached EDC url for BPN: {} not found", bpn);
+            return List.of();
+        }
+
+        return endpointDataForConnectorsService.createGetEndpointReferencesForAssetFutures(edcUrl.get(), bpn)
                                                .stream()
-                                               .map(future -> future.handle((edr, ex) -> {
-                                                   if (ex != null) {
-                                                       return Either.<Exception, Shell>left(new Exception(
-                                                               ex instanceof ExecutionException ? ex.getCause() : ex));
-                                                   }
-                                                   try {
-                                                       return Either.<Exception, Shell>right(
-                                                               new Shell(edr.getContractId(),
-                                                                       fetchShellDescriptor(edr, key)));
-                                                   } catch (RegistryServiceException e) {
-                                                       return Either.<Exception, Shell>left(e);
-                                                   }
-                                               }))
-                                               .map(CompletableFuture::join)
+                                               .map(edrFuture -> composeAsync(edrFuture,
+                                                       edr -> fetchShellsAsync(keys, edr).thenApply(
+                                                               shells -> foundShells(keys, shells))))
                                                .toList();
     }
 
+    private static List<Map.Entry<DigitalTwinRegistryKey, Shell>> foundShells(
+            final List<DigitalTwinRegistryKey> keys, final List<Either<Exception, Shell>> shells) {
+        final List<Map.Entry<DigitalTwinRegistryKey, Shell>> foundShells = new ArrayList<>();
+        for (int index = 0; index < keys.size(); index++) {
+            final Either<Exception, Shell> shell = shells.get(index);
+            if (shell.isRight()) {
+                foundShells.add(Map.entry(keys.get(index), shell.get()));
+            } else {
+                log.info("Shell for key {} not found using the cached EDC url: {}", keys.get(index),
+                        shell.getLeft().getMessage());
+            }
+        }
+        return foundShells;
+    }
+
+    /**
+     * Requests the shell descriptors of the keys from one registry. The keys are split into at most
+     * {@link EdcConfiguration#getShellRequestsPerRegistry()} chunks which are requested concurrently.
+     *
+     * @return the shell or the exception per key, in the order of the keys
+     */
+    private CompletableFuture<List<Either<Exception, Shell>>> fetchShellsAsync(
+            final List<DigitalTwinRegistryKey> keys, final EndpointDataReference endpointDataReference) {
+        final int parallelism = Math.max(1, Math.min(config.getShellRequestsPerRegistry(), keys.size()));
+        final int chunkSize = Math.max(1, (keys.size() + parallelism - 1) / parallelism);
+
+        final List<CompletableFuture<List<Either<Exception, Shell>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            final List<DigitalTwinRegistryKey> chunkKeys = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> fetchShellDescriptorsForKey(chunkKeys, endpointDataReference), executor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                                .thenApply(ignored -> chunks.stream()
+                                                            .flatMap(chunk -> chunk.join().stream())
+                                                            .toList());
+    }
+
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private Collection<Either<Exception, Shell>> fetchShellsOnCacheMiss(final Collection<DigitalTwinRegistryKey> keys)
             throws RegistryServiceException {
@@ -227,24 +348,114 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
             final Map.Entry<String, List<DigitalTwinRegistryKey>> entry, final Set<String> calledEndpoints)
             throws TimeoutException {
 
+        final String bpn = entry.getKey();
+        if (connectorEndpointsService.isUnreachable(bpn)) {
+            log.info("Skipping bpn '{}', its connectors could not be reached recently", bpn);
+            return Stream.of(Either.left(new RegistryServiceException(
+                    "The connectors of BPN '%s' could not be reached recently, skipping it for now".formatted(bpn))));
+        }
+
+        final Set<String> bpnEndpoints = new HashSet<>();
+        final Map<String, CompletableFuture<List<Either<Exception, Shell>>>> lookups = new LinkedHashMap<>();
+        CompletableFuture<List<Either<Exception, Shell>>> futures = null;
         try {
 
-            final var futures = fetchShellDescriptors(calledEndpoints, entry.getKey(), entry.getValue());
+            futures = fetchShellDescriptors(bpnEndpoints, lookups, bpn, entry.getValue());
             final var shellDescriptors = futures.get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
+            recordReachable(bpn, lookups);
             return shellDescriptors.stream();
 
         } catch (InterruptedException e) {
             log.error(e.getMessage(), e);
             Thread.currentThread().interrupt();
             return Stream.of(Either.left(e));
-        } catch (ExecutionException | RegistryServiceException e) {
+        } catch (TimeoutException e) {
+            recordUnreachable(bpn, lookups);
+            futures.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            log.warn(e.getMessage(), e);
+            if (isConnectionFailure(e)) {
+                recordUnreachable(bpn, lookups);
+            }
+            return Stream.of(Either.left(e));
+        } catch (RegistryServiceException e) {
             log.warn(e.getMessage(), e);
             return Stream.of(Either.left(e));
+        } finally {
+            calledEndpoints.addAll(bpnEndpoints);
         }
     }
 
+    /**
+     * Records the connectors which did not answer or could not be reached, so they are skipped for a while. The BPN is
+     * skipped as well if none of its connectors answered.
+     */
+    private void recordUnreachable(final String bpn,
+            final Map<String, CompletableFuture<List<Either<Exception, Shell>>>> lookups) {
+        final List<String> unreachableEdcUrls = lookups.entrySet()
+                                                       .stream()
+                                                       .filter(lookup -> !lookup.getValue().isDone()
+                                                               || isConnectionFailure(failureOf(lookup.getValue())))
+                                                       .map(Map.Entry::getKey)
+                                                       .toList();
+        log.info("Connectors of bpn '{}' could not be reached: {}", bpn, unreachableEdcUrls);
+        unreachableEdcUrls.forEach(connectorEndpointsService::recordUnreachable);
+        if (unreachableEdcUrls.size() == lookups.size()) {
+            connectorEndpointsService.recordUnreachable(bpn);
+        }
+    }
+
+    /**
+     * Records that the BPN and the connectors which answered are reachable, so they are not skipped anymore.
+     */
+    private void recordReachable(final String bpn,
+            final Map<String, CompletableFuture<List<Either<Exception, Shell>>>> lookups) {
+        connectorEndpointsService.recordReachable(bpn);
+        lookups.forEach((edcUrl, lookup) -> {
+            if (lookup.isDone() && !lookup.isCompletedExceptionally()) {
+                connectorEndpointsService.recordReachable(edcUrl);
+            }
+        });
+    }
+
+    /**
+     * @return the exception the lookup failed with, or null if it did not fail (yet)
+     */
+    private static Throwable failureOf(final CompletableFuture<?> lookup) {
+        try {
+            lookup.getNow(null);
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e;
+        }
+    }
+
+    /**
+     * @return whether the lookup failed because a connector or registry did not answer in time or refused the
+     *         connection, in contrast to registries which answered without a matching shell. The failures of all
+     *         connectors are attached as suppressed exceptions if none of them answered, see {@link ResultFinder}.
+     */
+    private static boolean isConnectionFailure(final Throwable exception) {
+        Throwable cause = exception;
+        while (cause != null) {
+            if (cause instanceof TimeoutException || cause instanceof ConnectException
+                    || cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException) {
+                return true;
+            }
+            for (final Throwable suppressed : cause.getSuppressed()) {
+                if (isConnectionFailure(suppressed)) {
+                    return true;
+                }
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return false;
+    }
+
     private CompletableFuture<List<Either<Exception, Shell>>> fetchShellDescriptors(final Set<String> calledEndpoints,
-            final String bpn, final List<DigitalTwinRegistryKey> keys) throws RegistryServiceException {
+            final Map<String, CompletableFuture<List<Either<Exception, Shell>>>> lookups, final String bpn,
+            final List<DigitalTwinRegistryKey> keys) throws RegistryServiceException {
 
         final var watch = new StopWatch();
         final String msg = "Fetching %s shells for bpn '%s'".formatted(keys.size(), bpn);
@@ -260,7 +471,16 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
             log.info("Found {} connector endpoints for bpn '{}'", edcUrls.size(), bpn);
             calledEndpoints.addAll(edcUrls);
 
-            return fetchShellDescriptorsForConnectorEndpoints(keys, edcUrls, bpn);
+            final List<String> reachableEdcUrls = edcUrls.stream()
+                                                         .filter(edcUrl -> !connectorEndpointsService.isUnreachable(
+                                                                 edcUrl))
+                                                         .toList();
+            if (reachableEdcUrls.isEmpty()) {
+                throw new RegistryServiceException(
+                        "None of the EDC Endpoints of BPN '%s' could be reached recently".formatted(bpn));
+            }
+
+            return fetchShellDescriptorsForConnectorEndpoints(keys, reachableEdcUrls, bpn, lookups);
 
         } finally {
             watch.stop();
@@ -268,21 +488,43 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         }
     }
 
+    /**
+     * @param lookups the lookup per connector is added to, to tell which of the connectors failed
+     */
     private CompletableFuture<List<Either<Exception, Shell>>> fetchShellDescriptorsForConnectorEndpoints(
-            final List<DigitalTwinRegistryKey> keys, final List<String> edcUrls, final String bpn) {
+            final List<DigitalTwinRegistryKey> keys, final List<String> edcUrls, final String bpn,
+            final Map<String, CompletableFuture<List<Either<Exception, Shell>>>> lookups) {
+
+        endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(edcUrls, bpn)
+                                        .forEach((edcUrl, edrFuture) -> lookups.put(edcUrl,
+                                                composeAsync(edrFuture, edr -> fetchShellsAsync(keys, edr))));
 
-        final var shellsFuture = endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(edcUrls,
-                                                                         bpn)
-                                                                 .stream()
-                                                                 .map(edrFuture -> edrFuture.thenCompose(
-                                                                         edr -> CompletableFuture.supplyAsync(
-                                                                                 () -> fetchShellDescriptorsForKey(keys,
-                                                                                         edr))))
-                                                                 .toList();
+        log.debug("Created {} futures", lookups.size());
 
-        log.debug("Created {} futures", shellsFuture.size());
+        return resultFinder.getFastestResult(List.copyOf(lookups.values()));
+    }
+
+    /**
+     * Runs the lookup on the executor once the endpoint data reference is available. Cancelling the returned future,
+     * e.g. because another connector answered faster, cancels waiting for the endpoint data reference as well.
+     */
+    private <T> CompletableFuture<T> lookupAsync(final CompletableFuture<EndpointDataReference> edrFuture,
+            final Function<EndpointDataReference, T> lookup) {
+        return composeAsync(edrFuture, edr -> CompletableFuture.supplyAsync(() -> lookup.apply(edr), executor));
+    }
 
-        return resultFinder.getFastestResult(shellsFuture);
+    /**
+     * Same as {@link #lookupAsync(CompletableFuture, Function)} for lookups which are asynchronous themselves.
+     */
+    private static <T> CompletableFuture<T> composeAsync(final CompletableFuture<EndpointDataReference> edrFuture,
+            final Function<EndpointDataReference, CompletableFuture<T>> lookup) {
+        final CompletableFuture<T> lookupFuture = edrFuture.thenCompose(lookup);
+        lookupFuture.whenComplete((result, throwable) -> {
+            if (lookupFuture.isCancelled()) {
+                edrFuture.cancel(false);
+            }
+        });
+        return lookupFuture;
     }
 
     private List<Either<Exception, Shell>> fetchShellDescriptorsForKey(final List<DigitalTwinRegistryKey> keys,
@@ -295,20 +537,23 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         log.info(msg);
 
         try {
-            return keys.stream().map(key -> {
-                try {
-                    return Either.<Exception, Shell>right(new Shell(endpointDataReference.getContractId(),
-                            fetchShellDescriptor(endpointDataReference, key)));
-                } catch (RegistryServiceException e) {
-                    return Either.<Exception, Shell>left(e);
-                }
-            }).toList();
+            return keys.stream().map(key -> fetchShell(key, endpointDataReference)).toList();
         } finally {
             watch.stop();
             log.info(TOOK_MS, watch.getLastTaskName(), watch.getLastTaskTimeMillis());
         }
     }
 
+    private Either<Exception, Shell> fetchShell(final DigitalTwinRegistryKey key,
+            final EndpointDataReference endpointDataReference) {
+        try {
+            return Either.right(
+                    new Shell(endpointDataReference.getContractId(), fetchShellDescriptor(endpointDataReference, key)));
+        } catch (RegistryServiceException e) {
+            return Either.left(e);
+        }
+    }
+
     private AssetAdministrationShellDescriptor fetchShellDescriptor(final EndpointDataReference endpointDataReference,
             final DigitalTwinRegistryKey key) throws RegistryServiceException {
 
@@ -317,9 +562,26 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
         watch.start(msg);
         log.info(msg);
         try {
+            final String registryEndpoint = endpointDataReference.getEndpoint();
+            final Optional<String> cachedShellId = shellIdMappingCache.find(registryEndpoint, key.shellId());
+            if (cachedShellId.isPresent()) {
+                try {
+                    return decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(
+                            endpointDataReference, cachedShellId.get());
+                } catch (HttpClientErrorException.NotFound e) {
+                    log.info("Shell '{}' not found, mapping it again", cachedShellId.get());
+                    shellIdMappingCache.invalidate(registryEndpoint, key.shellId());
+                }
+            }
+
             final String aaShellIdentification = mapToShellId(endpointDataReference, key.shellId());
-            return decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(endpointDataReference,
-                    aaShellIdentification);
+            try {
+                return decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(endpointDataReference,
+                        aaShellIdentification);
+            } catch (HttpClientErrorException.NotFound e) {
+                shellIdMappingCache.invalidate(registryEndpoint, key.shellId());
+                throw e;
+            }
         } finally {
             watch.stop();
             log.info(TOOK_MS, watch.getLastTaskName(), watch.getLastTaskTimeMillis());
@@ -328,6 +590,7 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
     /**
      * This method takes the provided globalAssetId and maps it to the corresponding asset administration shell ID.
+     * The mapping is stored in the {@link ShellIdMappingCache}.
      *
      * @param endpointDataReference the reference to access the digital twin registry
      * @param globalAssetId         globalAssetId
@@ -359,7 +622,10 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
             // docs/arc42/cross-cutting/discovery-DTR--multiple-DTs-with-the-same-globalAssedId-in-one-DTR.puml
             final var mappingResult = mappingResultStream.findFirst();
 
-            mappingResult.ifPresent(s -> log.info("Retrieved shellId {} for globalAssetId {}", s, globalAssetId));
+            mappingResult.ifPresent(s -> {
+                log.info("Retrieved shellId {} for globalAssetId {}", s, globalAssetId);
+                shellIdMappingCache.store(endpointDataReference.getEndpoint(), globalAssetId, s);
+            });
 
             return mappingResult.orElseThrow(() -> new RegistryServiceException(
                     "Unable to find shell ID for global asset ID '%s'".formatted(globalAssetId)));
@@ -426,10 +692,9 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
         try {
             final var futures = endpointDataReferenceFutures.stream()
-                                                            .map(edrFuture -> edrFuture.thenCompose(
-                                                                    edr -> CompletableFuture.supplyAsync(
-                                                                            () -> lookupShellIdsByBpnAndEndpointDataReference(
-                                                                                    bpn, edr, lookupShellsFilter))))
+                                                            .map(edrFuture -> lookupAsync(edrFuture,
+                                                                    edr -> lookupShellIdsByBpnAndEndpointDataReference(
+                                                                            bpn, edr, lookupShellsFilter)))
                                                             .toList();
             final var lookupShellsResponse = resultFinder.getFastestResult(futures)
                                                          .get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
@@ -454,10 +719,9 @@ public class DecentralDigitalTwinRegistryService implements DigitalTwinRegistryS
 
         try {
             final var futures = endpointDataReferenceFutures.stream()
-                                                            .map(edrFuture -> edrFuture.thenCompose(
-                                                                    edr -> CompletableFuture.supplyAsync(
-                                                                            () -> lookupShellIdsByBpnAndEndpointDataReference(
-                                                                                    bpn, edr))))
+                                                            .map(edrFuture -> lookupAsync(edrFuture,
+                                                                    edr -> lookupShellIdsByBpnAndEndpointDataReference(
+                                                                            bpn, edr)))
                                                             .toList();
             final var shellIds = resultFinder.getFastestResult(futures)
                                              .get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
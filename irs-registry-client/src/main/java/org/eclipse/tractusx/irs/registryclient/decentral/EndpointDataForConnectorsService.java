@@ -23,22 +23,30 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.registryclient.decentral;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.common.util.concurrent.ResultFinder;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.PreferredConnectorEndpointsCache;
 import org.springframework.util.StopWatch;
 
 /**
  * Service that use edc client to make calls to edc connector endpoints
- * to find DigitalTwinRegistry asset
+ * to find DigitalTwinRegistry asset.
+ * If an executor is given, the connectors are requested hedged: the preferred connector of the BPN first and the
+ * others only after the hedging delay, see {@link ResultFinder#startHedged}.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class EndpointDataForConnectorsService {
 
     private static final String TOOK_MS = "{} took {} ms";
@@ -47,8 +55,39 @@ public class EndpointDataForConnectorsService {
 
     private final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache;
 
+    private final Executor executor;
+
+    private final Duration hedgingDelay;
+
+    private final ResultFinder resultFinder = new ResultFinder();
+
+    public EndpointDataForConnectorsService(final EdcEndpointReferenceRetriever edcSubmodelFacade,
+            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache) {
+        this(edcSubmodelFacade, preferredConnectorEndpointsCache, null, Duration.ZERO);
+    }
+
+    /**
+     * @param edcSubmodelFacade                the retriever of the endpoint data references
+     * @param preferredConnectorEndpointsCache the cache of the connectors which answered last per BPN
+     * @param executor                         the executor the connectors are requested on, all connectors are
+     *                                         requested at once on the calling thread if null
+     * @param hedgingDelay                     the delay after which the other connectors are requested if the
+     *                                         preferred one did not answer yet
+     */
+    public EndpointDataForConnectorsService(final EdcEndpointReferenceRetriever edcSubmodelFacade,
+            final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache, final Executor executor,
+            final Duration hedgingDelay) {
+        this.edcSubmodelFacade = edcSubmodelFacade;
+        this.preferredConnectorEndpointsCache = preferredConnectorEndpointsCache;
+        this.executor = executor;
+        this.hedgingDelay = hedgingDelay;
+    }
+
     public List<CompletableFuture<EndpointDataReference>> createFindEndpointDataForConnectorsFutures(
             final List<String> edcUrls, final String bpn) {
+        if (executor != null) {
+            return List.copyOf(createHedgedFindEndpointDataForConnectorsFutures(edcUrls, bpn).values());
+        }
 
         final var watch = new StopWatch();
         final String msg = "Creating futures to get EndpointDataReferences for endpoints: %s".formatted(edcUrls);
@@ -68,6 +107,59 @@ public class EndpointDataForConnectorsService {
         }
     }
 
+    /**
+     * Same as {@link #createFindEndpointDataForConnectorsFutures(List, String)}, but with one future per connector, so
+     * that the caller can tell which of the connectors failed.
+     *
+     * @param edcUrls the connectors of the BPN
+     * @param bpn     the BPN
+     * @return the future of the endpoint data reference per connector, in the order the connectors are requested
+     */
+    public Map<String, CompletableFuture<EndpointDataReference>> createFindEndpointDataPerConnectorFutures(
+            final List<String> edcUrls, final String bpn) {
+        if (executor != null) {
+            return createHedgedFindEndpointDataForConnectorsFutures(edcUrls, bpn);
+        }
+        final Map<String, CompletableFuture<EndpointDataReference>> futures = new LinkedHashMap<>();
+        edcUrls.stream()
+               .distinct()
+               .forEach(edcUrl -> futures.put(edcUrl,
+                       fastestOf(createGetEndpointReferencesForAssetFutures(edcUrl, bpn))));
+        return futures;
+    }
+
+    /**
+     * Creates one future per connector, the preferred connector of the BPN first. Futures of connectors which are not
+     * needed anymore can be cancelled, connectors which were not requested yet are not requested at all then.
+     */
+    private Map<String, CompletableFuture<EndpointDataReference>> createHedgedFindEndpointDataForConnectorsFutures(
+            final List<String> edcUrls, final String bpn) {
+        final String preferredEdcUrl = preferredConnectorEndpointsCache.findByBpn(bpn).orElse(null);
+        final List<String> orderedEdcUrls = edcUrls.stream()
+                                                   .distinct()
+                                                   .sorted(Comparator.comparing(
+                                                           (String edcUrl) -> !edcUrl.equals(preferredEdcUrl)))
+                                                   .toList();
+        final List<Supplier<CompletableFuture<EndpointDataReference>>> attempts = new ArrayList<>();
+        for (final String edcUrl : orderedEdcUrls) {
+            attempts.add(() -> fastestOf(createGetEndpointReferencesForAssetFutures(edcUrl, bpn)));
+        }
+        log.info("Requesting {} connector endpoint(s) for bpn '{}', preferred connector '{}'", attempts.size(), bpn,
+                preferredEdcUrl);
+        final List<CompletableFuture<EndpointDataReference>> futures = resultFinder.startHedged(attempts,
+                hedgingDelay, executor);
+        final Map<String, CompletableFuture<EndpointDataReference>> futuresPerConnector = new LinkedHashMap<>();
+        for (int i = 0; i < orderedEdcUrls.size(); i++) {
+            futuresPerConnector.put(orderedEdcUrls.get(i), futures.get(i));
+        }
+        return futuresPerConnector;
+    }
+
+    private CompletableFuture<EndpointDataReference> fastestOf(
+            final List<CompletableFuture<EndpointDataReference>> futures) {
+        return futures.size() == 1 ? futures.get(0) : resultFinder.getFastestResult(futures);
+    }
+
     public List<CompletableFuture<EndpointDataReference>> createGetEndpointReferencesForAssetFutures(
             final String edcUrl, final String bpn) {
 
@@ -0,0 +1,251 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.edc.client.storage.ExpiringStorage;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Cache of the mappings from globalAssetId to AAS id per digital twin registry. The mapping of a twin does not change,
+ * so the lookup in the registry is only done once per TTL. Mappings are kept in memory and, if a
+ * {@link BlobPersistence} is given, also in the blob store so that they survive restarts. The persisted mappings are
+ * loaded once on creation and are kept for another TTL. New and invalidated mappings are written behind: each
+ * {@link #flush()} overwrites the same blob with all mappings not expired yet, so the blob store holds a single blob
+ * of at most {@code maximumSize} mappings.
+ */
+@Slf4j
+public class ShellIdMappingCache {
+
+    private static final String BLOB_NAME = "shell-id-mapping";
+    private static final String STORAGE_ID_PREFIX = "shell-id-mapping-";
+    private static final String STORAGE_NAME = "shellIdMapping";
+
+    private final ExpiringStorage<String> storage;
+    private final BlobPersistence blobStore;
+    private final Duration ttl;
+    private final int maximumSize;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * The mappings to write to the blob store, per storage id.
+     */
+    private final Map<String, PersistedMapping> persistedMappings = new ConcurrentHashMap<>();
+    private final AtomicBoolean modified = new AtomicBoolean();
+
+    private final Counter persistentLoadCounter;
+    private final Counter invalidationCounter;
+
+    /**
+     * @param ttl           how long a mapping is cached, nothing is cached if zero or negative
+     * @param maximumSize   the maximum number of mappings kept in memory
+     * @param blobStore     the blob store to persist the mappings in, or null to keep them in memory only
+     * @param meterRegistry the registry to record the metrics in, or null to record no metrics
+     * @param clock         the clock to determine the expiry
+     */
+    public ShellIdMappingCache(final Duration ttl, final int maximumSize, final BlobPersistence blobStore,
+            final MeterRegistry meterRegistry, final Clock clock) {
+        this.storage = new ExpiringStorage<>(ttl, maximumSize, meterRegistry, STORAGE_NAME, clock);
+        this.blobStore = blobStore;
+        this.ttl = ttl;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+
+        if (meterRegistry == null) {
+            this.persistentLoadCounter = null;
+            this.invalidationCounter = null;
+        } else {
+            this.persistentLoadCounter = Counter.builder("dtr.shell.id.mapping.persistent.loaded")
+                                                .description("Number of mappings loaded from the blob store")
+                                                .register(meterRegistry);
+            this.invalidationCounter = Counter.builder("dtr.shell.id.mapping.invalidation")
+                                              .description("Number of mappings invalidated because the shell was "
+                                                      + "not found")
+                                              .register(meterRegistry);
+        }
+
+        if (isEnabled() && blobStore != null) {
+            loadPersisted();
+        }
+    }
+
+    /**
+     * @return a cache which does not cache anything
+     */
+    public static ShellIdMappingCache disabled() {
+        return new ShellIdMappingCache(Duration.ZERO, 0, null, null, Clock.systemUTC());
+    }
+
+    public Optional<String> find(final String registryEndpoint, final String globalAssetId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        return storage.get(storageId(registryEndpoint, globalAssetId));
+    }
+
+    public void store(final String registryEndpoint, final String globalAssetId, final String shellId) {
+        if (!isEnabled()) {
+            return;
+        }
+        final String storageId = storageId(registryEndpoint, globalAssetId);
+        storage.put(storageId, shellId);
+        writeBehind(storageId, registryEndpoint, globalAssetId, shellId);
+    }
+
+    /**
+     * Removes the mapping, e.g. because the shell it points to was not found anymore.
+     *
+     * @param registryEndpoint the digital twin registry the mapping belongs to
+     * @param globalAssetId    the globalAssetId of the mapping
+     */
+    public void invalidate(final String registryEndpoint, final String globalAssetId) {
+        if (!isEnabled()) {
+            return;
+        }
+        final String storageId = storageId(registryEndpoint, globalAssetId);
+        if (storage.remove(storageId)) {
+            increment(invalidationCounter);
+            writeBehind(storageId, registryEndpoint, globalAssetId, null);
+        }
+    }
+
+    /**
+     * Overwrites the blob in the blob store with the mappings not expired yet, if mappings were stored or invalidated
+     * since the last flush. If the blob store holds more than {@code maximumSize} mappings, the ones expiring first
+     * are dropped.
+     */
+    @Scheduled(fixedDelayString = "${digitalTwinRegistry.shellIdMapping.writeInterval:PT10S}")
+    @PreDestroy
+    public void flush() {
+        if (blobStore == null || !modified.getAndSet(false)) {
+            return;
+        }
+        final Instant now = clock.instant();
+        persistedMappings.values().removeIf(mapping -> mapping.isExpired(now));
+        final List<PersistedMapping> mappings = persistedMappings.values()
+                                                                 .stream()
+                                                                 .sorted(Comparator.comparingLong(
+                                                                         PersistedMapping::expiresAt).reversed())
+                                                                 .limit(maximumSize)
+                                                                 .toList();
+
+        try {
+            blobStore.putBlob(BLOB_NAME, objectMapper.writeValueAsBytes(new PersistedMappings(mappings)));
+        } catch (IOException | BlobPersistenceException e) {
+            modified.set(true);
+            log.warn("Unable to persist {} shell id mappings, retrying with the next flush", mappings.size(), e);
+        }
+    }
+
+    private boolean isEnabled() {
+        return !ttl.isNegative() && !ttl.isZero();
+    }
+
+    private void writeBehind(final String storageId, final String registryEndpoint, final String globalAssetId,
+            final String shellId) {
+        if (blobStore == null) {
+            return;
+        }
+        if (shellId == null) {
+            persistedMappings.remove(storageId);
+        } else {
+            persistedMappings.put(storageId, new PersistedMapping(registryEndpoint, globalAssetId, shellId,
+                    clock.instant().plus(ttl).toEpochMilli()));
+        }
+        modified.set(true);
+    }
+
+    private void loadPersisted() {
+        final Optional<PersistedMappings> persisted;
+        try {
+            persisted = blobStore.getBlob(BLOB_NAME).flatMap(this::readMappings);
+        } catch (BlobPersistenceException e) {
+            log.warn("Unable to load the persisted shell id mappings", e);
+            return;
+        }
+
+        final Instant now = clock.instant();
+        persisted.map(PersistedMappings::mappings)
+                 .orElse(List.of())
+                 .stream()
+                 .filter(mapping -> !mapping.isExpired(now))
+                 .forEach(mapping -> {
+                     final String storageId = storageId(mapping.registryEndpoint(), mapping.globalAssetId());
+                     storage.put(storageId, mapping.shellId());
+                     persistedMappings.put(storageId, mapping);
+                     increment(persistentLoadCounter);
+                 });
+    }
+
+    private Optional<PersistedMappings> readMappings(final byte[] blob) {
+        try {
+            return Optional.of(objectMapper.readValue(blob, PersistedMappings.class));
+        } catch (IOException e) {
+            log.warn("Unable to read persisted shell id mappings", e);
+            return Optional.empty();
+        }
+    }
+
+    private static String storageId(final String registryEndpoint, final String globalAssetId) {
+        final String key = registryEndpoint + "\n" + globalAssetId;
+        return STORAGE_ID_PREFIX + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void increment(final Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Content of the blob in the blob store.
+     */
+    /* package */ record PersistedMappings(List<PersistedMapping> mappings) {
+    }
+
+    /**
+     * Mapping as stored in the blob store.
+     */
+    /* package */ record PersistedMapping(String registryEndpoint, String globalAssetId, String shellId,
+                                          long expiresAt) {
+
+        private boolean isExpired(final Instant now) {
+            return Instant.ofEpochMilli(expiresAt).isBefore(now);
+        }
+    }
+}
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Set;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.cache.annotation.CacheEvict;
@@ -40,13 +39,24 @@ import org.springframework.scheduling.annotation.Scheduled;
  * Connector Endpoints service to find connectors in Discovery Finder
  */
 @Getter
-@RequiredArgsConstructor
 @Slf4j
 public class ConnectorEndpointsService {
     private static final String DSP_PATH = "/api/v1/dsp";
     private final DiscoveryFinderClient discoveryFinderClient;
     private static final String CONNECTOR_ENDPOINT_SERVICE_CACHE_NAME = "connector_endpoint_service_cache";
     private final String discoveryType;
+    private final UnreachableConnectors unreachableConnectors;
+
+    public ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient, final String discoveryType) {
+        this(discoveryFinderClient, discoveryType, UnreachableConnectors.disabled());
+    }
+
+    public ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient, final String discoveryType,
+            final UnreachableConnectors unreachableConnectors) {
+        this.discoveryFinderClient = discoveryFinderClient;
+        this.discoveryType = discoveryType;
+        this.unreachableConnectors = unreachableConnectors;
+    }
 
     /**
      * Get EDCs for BPN.
@@ -80,9 +90,38 @@ public class ConnectorEndpointsService {
 
         log.info("Discovered the following endpoints for BPN '{}': '{}'", bpn,
                 String.join(", ", endPointsWithoutDuplicates));
+        if (endPointsWithoutDuplicates.isEmpty()) {
+            unreachableConnectors.recordFailure(bpn);
+        }
         return endPointsWithoutDuplicates;
     }
 
+    /**
+     * @param bpnOrConnectorUrl the BPN or connector URL
+     * @return whether the BPN or connector URL could not be reached recently and should be skipped for now
+     */
+    public boolean isUnreachable(final String bpnOrConnectorUrl) {
+        return unreachableConnectors.isUnreachable(bpnOrConnectorUrl);
+    }
+
+    /**
+     * Records a failed attempt to reach the BPN or connector URL, it is skipped for an increasing backoff then.
+     *
+     * @param bpnOrConnectorUrl the BPN or connector URL
+     */
+    public void recordUnreachable(final String bpnOrConnectorUrl) {
+        unreachableConnectors.recordFailure(bpnOrConnectorUrl);
+    }
+
+    /**
+     * Records a successful attempt to reach the BPN or connector URL.
+     *
+     * @param bpnOrConnectorUrl the BPN or connector URL
+     */
+    public void recordReachable(final String bpnOrConnectorUrl) {
+        unreachableConnectors.recordSuccess(bpnOrConnectorUrl);
+    }
+
     private static List<String> removeDuplicates(final List<String> urls) {
         final Set<String> uniqueUrls = new LinkedHashSet<>(urls);
         return new ArrayList<>(uniqueUrls);
@@ -0,0 +1,130 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.discovery;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.tractusx.irs.edc.client.storage.ExpiringStorage;
+
+/**
+ * Negative cache of BPNs and connector URLs which could not be reached. After a failed attempt the BPN or URL is
+ * skipped for the initial backoff, every further failed attempt doubles the backoff up to the maximum backoff.
+ * A successful attempt removes the entry.
+ */
+public class UnreachableConnectors {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Clock clock;
+    private final ExpiringStorage<Failures> failures;
+    private final Counter skippedCounter;
+
+    /**
+     * @param initialBackoff how long a BPN or URL is skipped after the first failed attempt, nothing is skipped if
+     *                       zero or negative
+     * @param maxBackoff     the maximum time a BPN or URL is skipped
+     * @param meterRegistry  the registry to record the metrics in, or null to record no metrics
+     * @param clock          the clock to determine the backoff
+     */
+    public UnreachableConnectors(final Duration initialBackoff, final Duration maxBackoff,
+            final MeterRegistry meterRegistry, final Clock clock) {
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+        // failures are forgotten once they are older than the maximum backoff
+        this.failures = new ExpiringStorage<>(maxBackoff.multipliedBy(2), MAXIMUM_SIZE, meterRegistry,
+                "unreachableConnectors", clock);
+        this.skippedCounter = meterRegistry == null
+                ? null
+                : Counter.builder("dtr.connector.unreachable.skipped")
+                         .description("Number of requests skipped because the BPN or connector was unreachable")
+                         .register(meterRegistry);
+    }
+
+    /**
+     * @return a negative cache which does not skip anything
+     */
+    public static UnreachableConnectors disabled() {
+        return new UnreachableConnectors(Duration.ZERO, Duration.ZERO, null, Clock.systemUTC());
+    }
+
+    /**
+     * @param key the BPN or connector URL
+     * @return whether requests to the BPN or connector URL should be skipped for now
+     */
+    public boolean isUnreachable(final String key) {
+        if (!isEnabled()) {
+            return false;
+        }
+        final boolean unreachable = failures.get(key)
+                                            .map(entry -> entry.retryAt().isAfter(clock.instant()))
+                                            .orElse(false);
+        if (unreachable && skippedCounter != null) {
+            skippedCounter.increment();
+        }
+        return unreachable;
+    }
+
+    /**
+     * @param key the BPN or connector URL
+     * @return when the BPN or connector URL is tried again, if it is unreachable
+     */
+    public Optional<Instant> retryAt(final String key) {
+        return failures.get(key).map(Failures::retryAt);
+    }
+
+    public void recordFailure(final String key) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (failures) {
+            final int count = failures.get(key).map(Failures::count).orElse(0) + 1;
+            failures.put(key, new Failures(count, clock.instant().plus(backoff(count))));
+        }
+    }
+
+    public void recordSuccess(final String key) {
+        if (isEnabled()) {
+            failures.remove(key);
+        }
+    }
+
+    private Duration backoff(final int count) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(count - 1, MAX_BACKOFF_EXPONENT));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private boolean isEnabled() {
+        return !initialBackoff.isNegative() && !initialBackoff.isZero();
+    }
+
+    /**
+     * Number of consecutive failed attempts and the time of the next attempt.
+     */
+    private record Failures(int count, Instant retryAt) {
+    }
+}
@@ -32,17 +32,23 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClient;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.PreferredConnectorEndpointsCache;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
+import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.web.client.RestTemplate;
 
 class DefaultConfigurationTest {
@@ -53,6 +59,8 @@ class DefaultConfigurationTest {
     private final String descriptorTemplate = "descriptor/{aasIdentifier}";
     private final String shellLookupTemplate = "shell?{assetIds}";
     private final PreferredConnectorEndpointsCache preferredConnectorEndpointsCache = new PreferredConnectorEndpointsCache();
+    private final ObjectProvider<MeterRegistry> meterRegistry = new StaticListableBeanFactory().getBeanProvider(
+            MeterRegistry.class);
 
     @Test
     void centralDigitalTwinRegistryService() {
@@ -66,10 +74,12 @@ class DefaultConfigurationTest {
     void decentralDigitalTwinRegistryService() {
         final EdcSubmodelFacade facadeMock = mock(EdcSubmodelFacade.class);
         final var service = testee.decentralDigitalTwinRegistryService(
-                testee.connectorEndpointsService(testee.discoveryFinderClient(new RestTemplate(), "finder"), "bpnl"),
-                testee.endpointDataForConnectorsService(facadeMock, preferredConnectorEndpointsCache),
+                testee.connectorEndpointsService(testee.discoveryFinderClient(new RestTemplate(), "finder"), "bpnl",
+                        Duration.ofMinutes(1), Duration.ofMinutes(30), meterRegistry, Clock.systemUTC()),
+                endpointDataForConnectorsService(facadeMock),
                 testee.decentralDigitalTwinRegistryClient(new RestTemplate(), descriptorTemplate, shellLookupTemplate),
-                edcConfiguration, new PreferredConnectorEndpointsCache());
+                edcConfiguration, new PreferredConnectorEndpointsCache(), 20, 1000, Duration.ofDays(1), 100_000,
+                meterRegistry, Clock.systemUTC());
 
         assertThat(service).isNotNull();
     }
@@ -94,7 +104,7 @@ class DefaultConfigurationTest {
                 List.of(CompletableFuture.completedFuture(endpointDataReference)));
 
         // ACT
-        final var endpointDataForConnectorsService = testee.endpointDataForConnectorsService(mock, preferredConnectorEndpointsCache);
+        final var endpointDataForConnectorsService = endpointDataForConnectorsService(mock);
 
         endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(List.of(endpointAddress), "bpn") //
                                         .forEach(future -> {
@@ -117,7 +127,7 @@ class DefaultConfigurationTest {
         final var mock = mock(EdcSubmodelFacade.class);
         when(mock.getEndpointReferencesForRegistryAsset(any(), any())).thenThrow(new EdcClientException("test"));
 
-        final var endpointDataForConnectorsService = testee.endpointDataForConnectorsService(mock, preferredConnectorEndpointsCache);
+        final var endpointDataForConnectorsService = endpointDataForConnectorsService(mock);
         final var dummyEndpoints = List.of("test");
         endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(dummyEndpoints, "bpn").forEach(future -> {
             assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
@@ -125,4 +135,9 @@ class DefaultConfigurationTest {
                                            .isInstanceOf(EdcRetrieverException.class);
         });
     }
-}
\ No newline at end of file
+
+    private EndpointDataForConnectorsService endpointDataForConnectorsService(final EdcSubmodelFacade facade) {
+        return testee.endpointDataForConnectorsService(facade, preferredConnectorEndpointsCache, 20, 1000,
+                Duration.ofSeconds(2), meterRegistry);
+    }
+}
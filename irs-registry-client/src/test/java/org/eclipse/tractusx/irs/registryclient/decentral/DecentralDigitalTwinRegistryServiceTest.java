@@ -31,10 +31,19 @@ import static org.eclipse.tractusx.irs.registryclient.TestMother.endpointDataRef
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -59,6 +68,10 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class DecentralDigitalTwinRegistryServiceTest {
@@ -101,9 +114,8 @@ class DecentralDigitalTwinRegistryServiceTest {
 
             when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
 
-            final var endpointDataRefFutures = List.of(completedFuture(endpointDataReference));
-            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
-                    any())).thenReturn(endpointDataRefFutures);
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(anyList(),
+                    any())).thenReturn(Map.of("address", completedFuture(endpointDataReference)));
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
@@ -118,6 +130,8 @@ class DecentralDigitalTwinRegistryServiceTest {
 
             // then
             assertThat(actualShell).containsExactly(expectedShell);
+            verify(connectorEndpointsService).recordReachable("bpn");
+            verify(connectorEndpointsService).recordReachable("address");
         }
 
         @Test
@@ -131,10 +145,10 @@ class DecentralDigitalTwinRegistryServiceTest {
             final List<String> connectorEndpoints = List.of("address1", "address2");
             when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
 
-            final var dataRefFutures = List.of( //
-                    completedFuture(endpointDataReference("url.to.host1")), //
-                    completedFuture(endpointDataReference("url.to.host2")));
-            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(connectorEndpoints,
+            final var dataRefFutures = Map.of( //
+                    "address1", completedFuture(endpointDataReference("url.to.host1")), //
+                    "address2", completedFuture(endpointDataReference("url.to.host2")));
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(connectorEndpoints,
                     "bpn")).thenReturn(dataRefFutures);
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
@@ -168,8 +182,9 @@ class DecentralDigitalTwinRegistryServiceTest {
             final List<String> connectorEndpoints = List.of("address");
             when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
 
-            final var dataRefFutures = List.of(completedFuture(endpointDataReference("contractId", "url.to.host")));
-            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(connectorEndpoints,
+            final var dataRefFutures = Map.of("address",
+                    completedFuture(endpointDataReference("contractId", "url.to.host")));
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(connectorEndpoints,
                     "bpn")).thenReturn(dataRefFutures);
 
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
@@ -185,7 +200,144 @@ class DecentralDigitalTwinRegistryServiceTest {
             // then
             assertThatThrownBy(call).isInstanceOf(ShellNotFoundException.class)
                                     .hasMessageContaining("Unable to find any of the requested shells");
+            verify(connectorEndpointsService, never()).recordUnreachable(any());
+
+        }
+
+        @Test
+        void shouldRecordUnreachableWhenConnectionFailed() {
+            // given
+            final List<String> connectorEndpoints = List.of("address1", "address2");
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(connectorEndpoints,
+                    "bpn")).thenReturn(Map.of( //
+                    "address1", CompletableFuture.failedFuture(new ConnectException("Connection refused")), //
+                    "address2", CompletableFuture.failedFuture(new ConnectException("Connection refused"))));
 
+            // when
+            final ThrowingCallable call = () -> sut.fetchShells(
+                    List.of(new DigitalTwinRegistryKey("dummyShellId", "bpn")));
+
+            // then
+            assertThatThrownBy(call).isInstanceOf(ShellNotFoundException.class);
+            verify(connectorEndpointsService).recordUnreachable("bpn");
+            verify(connectorEndpointsService).recordUnreachable("address1");
+            verify(connectorEndpointsService).recordUnreachable("address2");
+        }
+
+        @Test
+        void shouldRecordOnlyFailedConnectorUnreachableWhenOtherConnectorAnswered() {
+            // given
+            final List<String> connectorEndpoints = List.of("address1", "address2");
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(connectorEndpoints,
+                    "bpn")).thenReturn(Map.of( //
+                    "address1", CompletableFuture.failedFuture(new ConnectException("Connection refused")), //
+                    "address2", CompletableFuture.failedFuture(new IllegalStateException("Registry failed"))));
+
+            // when
+            final ThrowingCallable call = () -> sut.fetchShells(
+                    List.of(new DigitalTwinRegistryKey("dummyShellId", "bpn")));
+
+            // then
+            assertThatThrownBy(call).isInstanceOf(ShellNotFoundException.class);
+            verify(connectorEndpointsService).recordUnreachable("address1");
+            verify(connectorEndpointsService, never()).recordUnreachable("address2");
+            verify(connectorEndpointsService, never()).recordUnreachable("bpn");
+        }
+
+        @Test
+        void shouldFetchOnlyMissedKeysWithoutCachedEdcUrl() throws RegistryServiceException {
+            // given
+            final var preferredConnectorEndpointsCache = new PreferredConnectorEndpointsCache();
+            preferredConnectorEndpointsCache.store("bpn", "cachedAddress");
+            final var sutWithCachedEdcUrl = new DecentralDigitalTwinRegistryService(connectorEndpointsService,
+                    endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, new EdcConfiguration(),
+                    preferredConnectorEndpointsCache);
+            final var foundKey = new DigitalTwinRegistryKey("foundGlobalAssetId", "bpn");
+            final var missingKey = new DigitalTwinRegistryKey("missingGlobalAssetId", "bpn");
+            final var expectedShell = shellDescriptor(emptyList());
+            final ArgumentMatcher<IdentifierKeyValuePair> foundGlobalAssetId = pair -> pair != null
+                    && foundKey.shellId().equals(pair.getValue());
+
+            when(endpointDataForConnectorsService.createGetEndpointReferencesForAssetFutures("cachedAddress",
+                    "bpn")).thenReturn(List.of(completedFuture(endpointDataReference("url.to.host"))));
+            when(connectorEndpointsService.fetchConnectorEndpoints("bpn")).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(anyList(),
+                    any())).thenReturn(Map.of("address", completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(
+                    LookupShellsResponse.builder().result(emptyList()).build());
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    argThat(foundGlobalAssetId))).thenReturn(
+                    LookupShellsResponse.builder().result(List.of("foundShellId")).build());
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(),
+                    eq("foundShellId"))).thenReturn(expectedShell);
+
+            // when
+            final var shells = sutWithCachedEdcUrl.fetchShells(List.of(foundKey, missingKey));
+
+            // then
+            assertThat(shells.stream().filter(Either::isRight).map(Either::get).map(Shell::payload)).containsExactly(
+                    expectedShell);
+            final var failures = shells.stream().filter(Either::isLeft).map(Either::getLeft);
+            assertThat(failures).singleElement().isInstanceOf(ShellNotFoundException.class);
+            verify(endpointDataForConnectorsService, times(1)).createGetEndpointReferencesForAssetFutures(
+                    "cachedAddress", "bpn");
+            verify(decentralDigitalTwinRegistryClient, times(1)).getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    argThat(foundGlobalAssetId));
+        }
+
+        @Test
+        void shouldMapGlobalAssetIdAgainIfCachedShellIsNotFound() throws RegistryServiceException {
+            // given
+            final var sutWithShellIdMappingCache = new DecentralDigitalTwinRegistryService(connectorEndpointsService,
+                    endpointDataForConnectorsService, decentralDigitalTwinRegistryClient, new EdcConfiguration(),
+                    new PreferredConnectorEndpointsCache(), Runnable::run,
+                    new ShellIdMappingCache(Duration.ofHours(1), 10, null, null, Clock.systemUTC()));
+            final var key = new DigitalTwinRegistryKey("globalAssetId", "bpn");
+            final var expectedShell = shellDescriptor(emptyList());
+
+            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(anyList(),
+                    any())).thenReturn(Map.of("address", completedFuture(endpointDataReference("url.to.host"))));
+            when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class))).thenReturn(
+                    LookupShellsResponse.builder().result(List.of("oldShellId")).build(),
+                    LookupShellsResponse.builder().result(List.of("newShellId")).build());
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(),
+                    eq("oldShellId"))).thenReturn(expectedShell)
+                                      .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+                                              HttpHeaders.EMPTY, null, null));
+            when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(),
+                    eq("newShellId"))).thenReturn(expectedShell);
+
+            // when
+            sutWithShellIdMappingCache.fetchShells(List.of(key));
+            final var shells = sutWithShellIdMappingCache.fetchShells(List.of(key));
+
+            // then
+            assertThat(shells.stream().map(Either::get).map(Shell::payload)).containsExactly(expectedShell);
+            verify(decentralDigitalTwinRegistryClient, times(2)).getAllAssetAdministrationShellIdsByAssetLink(any(),
+                    any(IdentifierKeyValuePair.class));
+            verify(decentralDigitalTwinRegistryClient).getAssetAdministrationShellDescriptor(any(), eq("newShellId"));
+        }
+
+        @Test
+        void shouldSkipBpnWhichCouldNotBeReachedRecently() {
+            // given
+            final var bpn = "unreachableBpn";
+            when(connectorEndpointsService.isUnreachable(bpn)).thenReturn(true);
+
+            // when
+            final ThrowingCallable call = () -> sut.fetchShells(
+                    List.of(new DigitalTwinRegistryKey("dummyShellId", bpn)));
+
+            // then
+            assertThatThrownBy(call).isInstanceOf(ShellNotFoundException.class);
+            verify(connectorEndpointsService, never()).fetchConnectorEndpoints(any());
+            verify(endpointDataForConnectorsService, never()).createFindEndpointDataPerConnectorFutures(anyList(),
+                    any());
         }
 
         @Test
@@ -196,9 +348,12 @@ class DecentralDigitalTwinRegistryServiceTest {
     }
 
     private void simulateGetFastestResultFailedFuture() {
+        simulateGetFastestResultFailedFuture(new IllegalStateException("some illegal state"));
+    }
+
+    private void simulateGetFastestResultFailedFuture(final Throwable failure) {
         final ResultFinder resultFinderMock = mock(ResultFinder.class);
-        when(resultFinderMock.getFastestResult(any())).thenReturn(
-                CompletableFuture.failedFuture(new IllegalStateException("some illegal state")));
+        when(resultFinderMock.getFastestResult(any())).thenReturn(CompletableFuture.failedFuture(failure));
         sut.setResultFinder(resultFinderMock);
     }
 
@@ -233,6 +388,8 @@ class DecentralDigitalTwinRegistryServiceTest {
             when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
             when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
                     any())).thenReturn(dataRefFutures);
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(anyList(),
+                    any())).thenReturn(Map.of("address", dataRefFutures.get(0)));
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
             when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
@@ -388,8 +545,8 @@ class DecentralDigitalTwinRegistryServiceTest {
                                                                  .build();
 
             when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
-            when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(),
-                    any())).thenReturn(dataRefFutures);
+            when(endpointDataForConnectorsService.createFindEndpointDataPerConnectorFutures(anyList(),
+                    any())).thenReturn(Map.of("address", dataRefFutures.get(0)));
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
                     any(IdentifierKeyValuePair.class))).thenReturn(lookupShellsResponse);
             when(decentralDigitalTwinRegistryClient.getAssetAdministrationShellDescriptor(any(), any())).thenReturn(
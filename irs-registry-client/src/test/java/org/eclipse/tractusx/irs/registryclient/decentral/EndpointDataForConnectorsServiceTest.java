@@ -33,6 +33,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -162,4 +163,24 @@ class EndpointDataForConnectorsServiceTest {
 
     }
 
+    @Test
+    void shouldReturnFuturePerConnector() throws EdcRetrieverException {
+
+        // GIVEN
+        when(edcSubmodelFacade.getEndpointReferencesForAsset(CONNECTION_ONE_ADDRESS, BPN)).thenThrow(
+                new EdcRetrieverException.Builder(new EdcClientException("EdcClientException")).build());
+        when(edcSubmodelFacade.getEndpointReferencesForAsset(CONNECTION_TWO_ADDRESS, BPN)).thenReturn(
+                List.of(CompletableFuture.completedFuture(CONNECTION_TWO_DATA_REF)));
+
+        // WHEN
+        final Map<String, CompletableFuture<EndpointDataReference>> dataRefFutures = //
+                sut.createFindEndpointDataPerConnectorFutures(List.of(CONNECTION_ONE_ADDRESS, CONNECTION_TWO_ADDRESS),
+                        BPN);
+
+        // THEN
+        assertThat(dataRefFutures).containsOnlyKeys(CONNECTION_ONE_ADDRESS, CONNECTION_TWO_ADDRESS);
+        assertThat(dataRefFutures.get(CONNECTION_ONE_ADDRESS)).isCompletedExceptionally();
+        assertThat(dataRefFutures.get(CONNECTION_TWO_ADDRESS)).isCompletedWithValue(CONNECTION_TWO_DATA_REF);
+    }
+
 }
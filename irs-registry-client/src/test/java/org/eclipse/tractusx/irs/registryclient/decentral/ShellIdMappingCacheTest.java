@@ -0,0 +1,194 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.decentral;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ShellIdMappingCacheTest {
+
+    private static final String REGISTRY = "https://dtr.example.com";
+    private static final String GLOBAL_ASSET_ID = "urn:uuid:global-asset-id";
+    private static final String SHELL_ID = "urn:uuid:shell-id";
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldFindStoredMappingPerRegistry() {
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, null, meterRegistry, clock);
+
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+
+        assertThat(cache.find(REGISTRY, GLOBAL_ASSET_ID)).contains(SHELL_ID);
+        assertThat(cache.find("https://other-dtr.example.com", GLOBAL_ASSET_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindInvalidatedMapping() {
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, null, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+
+        cache.invalidate(REGISTRY, GLOBAL_ASSET_ID);
+
+        assertThat(cache.find(REGISTRY, GLOBAL_ASSET_ID)).isEmpty();
+        assertThat(meterRegistry.counter("dtr.shell.id.mapping.invalidation").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheIfDisabled() {
+        final var cache = ShellIdMappingCache.disabled();
+
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+
+        assertThat(cache.find(REGISTRY, GLOBAL_ASSET_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldNotCountInvalidationOfUnknownMapping() {
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, null, meterRegistry, clock);
+
+        cache.invalidate(REGISTRY, GLOBAL_ASSET_ID);
+
+        assertThat(meterRegistry.counter("dtr.shell.id.mapping.invalidation").count()).isZero();
+    }
+
+    @Test
+    void shouldFindPersistedMappingAfterRestart() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.flush();
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore).putBlob(anyString(), blob.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blob.getValue()));
+
+        final var restartedCache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+
+        assertThat(restartedCache.find(REGISTRY, GLOBAL_ASSET_ID)).contains(SHELL_ID);
+        assertThat(meterRegistry.counter("dtr.shell.id.mapping.persistent.loaded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOverwriteTheSameBlobOnEachFlush() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.flush();
+        cache.store(REGISTRY, "urn:uuid:other-global-asset-id", "urn:uuid:other-shell-id");
+        cache.flush();
+        final ArgumentCaptor<String> blobNames = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<byte[]> blobs = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore, times(2)).putBlob(blobNames.capture(), blobs.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blobs.getValue()));
+
+        final var restartedCache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+
+        assertThat(blobNames.getAllValues()).containsOnly(blobNames.getValue());
+        assertThat(restartedCache.find(REGISTRY, GLOBAL_ASSET_ID)).contains(SHELL_ID);
+        assertThat(restartedCache.find(REGISTRY, "urn:uuid:other-global-asset-id")).contains(
+                "urn:uuid:other-shell-id");
+    }
+
+    @Test
+    void shouldPersistAtMostMaximumSizeMappings() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 1, blobStore, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.store(REGISTRY, "urn:uuid:other-global-asset-id", "urn:uuid:other-shell-id");
+        cache.flush();
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore).putBlob(anyString(), blob.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blob.getValue()));
+
+        new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+
+        assertThat(meterRegistry.counter("dtr.shell.id.mapping.persistent.loaded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteStoredMappingsInOneBatch() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.store(REGISTRY, "urn:uuid:other-global-asset-id", "urn:uuid:other-shell-id");
+        verify(blobStore, never()).putBlob(anyString(), any(byte[].class));
+        cache.flush();
+        cache.flush();
+
+        verify(blobStore, times(1)).putBlob(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void shouldNotFindExpiredPersistedMapping() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.flush();
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore).putBlob(anyString(), blob.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blob.getValue()));
+        final Clock later = Clock.offset(clock, Duration.ofHours(2));
+
+        final var restartedCache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, later);
+
+        assertThat(restartedCache.find(REGISTRY, GLOBAL_ASSET_ID)).isEmpty();
+        assertThat(meterRegistry.counter("dtr.shell.id.mapping.persistent.loaded").count()).isZero();
+    }
+
+    @Test
+    void shouldNotFindPersistedMappingInvalidatedLater() throws BlobPersistenceException {
+        final BlobPersistence blobStore = mock(BlobPersistence.class);
+        final var cache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, clock);
+        cache.store(REGISTRY, GLOBAL_ASSET_ID, SHELL_ID);
+        cache.flush();
+        final ArgumentCaptor<byte[]> blob = ArgumentCaptor.forClass(byte[].class);
+        verify(blobStore).putBlob(anyString(), blob.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blob.getValue()));
+        final Clock later = Clock.offset(clock, Duration.ofMinutes(1));
+        final var laterCache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, later);
+        laterCache.invalidate(REGISTRY, GLOBAL_ASSET_ID);
+        laterCache.flush();
+        verify(blobStore, times(2)).putBlob(anyString(), blob.capture());
+        when(blobStore.getBlob(anyString())).thenReturn(Optional.of(blob.getValue()));
+
+        final var restartedCache = new ShellIdMappingCache(Duration.ofHours(1), 10, blobStore, meterRegistry, later);
+
+        assertThat(restartedCache.find(REGISTRY, GLOBAL_ASSET_ID)).isEmpty();
+    }
+}
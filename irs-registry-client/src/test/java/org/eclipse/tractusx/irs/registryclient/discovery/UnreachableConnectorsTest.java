@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (c) 2021,2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UnreachableConnectorsTest {
+
+    private static final String BPN = "BPNL00000000TEST";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UnreachableConnectors unreachableConnectors;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        unreachableConnectors = new UnreachableConnectors(Duration.ofMinutes(1), Duration.ofMinutes(5), meterRegistry,
+                clock);
+    }
+
+    @Test
+    void shouldSkipBpnAfterFailureUntilBackoffElapsed() {
+        unreachableConnectors.recordFailure(BPN);
+
+        assertThat(unreachableConnectors.isUnreachable(BPN)).isTrue();
+        assertThat(unreachableConnectors.isUnreachable("BPNL00000000OTHER")).isFalse();
+        assertThat(meterRegistry.counter("dtr.connector.unreachable.skipped").count()).isEqualTo(1);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+        assertThat(unreachableConnectors.isUnreachable(BPN)).isFalse();
+    }
+
+    @Test
+    void shouldDoubleBackoffUpToMaximum() {
+        unreachableConnectors.recordFailure(BPN);
+        unreachableConnectors.recordFailure(BPN);
+        assertThat(unreachableConnectors.retryAt(BPN)).contains(NOW.plus(Duration.ofMinutes(2)));
+
+        unreachableConnectors.recordFailure(BPN);
+        assertThat(unreachableConnectors.retryAt(BPN)).contains(NOW.plus(Duration.ofMinutes(4)));
+
+        unreachableConnectors.recordFailure(BPN);
+        assertThat(unreachableConnectors.retryAt(BPN)).contains(NOW.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void shouldForgetFailuresAfterSuccess() {
+        unreachableConnectors.recordFailure(BPN);
+        unreachableConnectors.recordFailure(BPN);
+
+        unreachableConnectors.recordSuccess(BPN);
+
+        assertThat(unreachableConnectors.isUnreachable(BPN)).isFalse();
+        unreachableConnectors.recordFailure(BPN);
+        assertThat(unreachableConnectors.retryAt(BPN)).contains(NOW.plus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void shouldNeverSkipIfDisabled() {
+        final var disabled = UnreachableConnectors.disabled();
+
+        disabled.recordFailure(BPN);
+
+        assertThat(disabled.isUnreachable(BPN)).isFalse();
+    }
+}